@@ -7,8 +7,11 @@ import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
@@ -26,6 +29,8 @@ public abstract class AbstractChatModel implements ChatLanguageModel {
   private final RestTemplate restTemplate;
 
   private static final int MIN_OUTPUT_TOKENS = 4000;
+  private static final String REQUESTS_METRIC = "ai.provider.requests";
+  private static final String TOKENS_METRIC = "ai.provider.tokens";
 
   protected AbstractChatModel(
       String apiKey, String modelName, double temperature, Duration timeout) {
@@ -53,6 +58,9 @@ public abstract class AbstractChatModel implements ChatLanguageModel {
 
     HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
+    long start = System.nanoTime();
+    String outcome = "error";
+    String status = "NONE";
     try {
       ResponseEntity<Map<String, Object>> response =
           restTemplate.exchange(
@@ -60,22 +68,58 @@ public abstract class AbstractChatModel implements ChatLanguageModel {
 
       Map<String, Object> responseBody = response.getBody();
       HttpStatusCode statusCode = response.getStatusCode();
+      status = String.valueOf(statusCode.value());
 
       if (responseBody != null) {
+        recordTokenUsage(responseBody);
         String extractedText = extractResponseText(responseBody);
         if (extractedText != null) {
+          outcome = "success";
           return ChatApiResponse.of(statusCode, AiMessage.from(extractedText));
         }
       }
 
+      outcome = "unexpected_response";
       return ChatApiResponse.of(
           statusCode,
           AiMessage.from("Error: Unexpected response format from " + getModelProvider() + " API"));
     } catch (HttpStatusCodeException e) {
+      status = String.valueOf(e.getStatusCode().value());
       return ChatApiResponse.of(e.getStatusCode(), AiMessage.from("Error: " + e.getMessage()));
     } catch (Exception e) {
       return ChatApiResponse.of(
           HttpStatus.INTERNAL_SERVER_ERROR, AiMessage.from("Error: " + e.getMessage()));
+    } finally {
+      Timer.builder(REQUESTS_METRIC)
+          .description("Calls to the AI provider APIs")
+          .tags("provider", getModelProvider(), "model", modelName)
+          .tags("outcome", outcome, "status", status)
+          .register(Metrics.globalRegistry)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Counts the tokens reported by the provider. OpenAI and DeepSeek report them as {@code usage}
+   * with prompt/completion tokens, Anthropic as {@code usage} with input/output tokens and Gemini
+   * as {@code usageMetadata}.
+   */
+  private void recordTokenUsage(Map<String, Object> responseBody) {
+    if (responseBody.get("usage") instanceof Map<?, ?> usage) {
+      recordTokens("input", usage.get("prompt_tokens"), usage.get("input_tokens"));
+      recordTokens("output", usage.get("completion_tokens"), usage.get("output_tokens"));
+    } else if (responseBody.get("usageMetadata") instanceof Map<?, ?> usage) {
+      recordTokens("input", usage.get("promptTokenCount"), null);
+      recordTokens("output", usage.get("candidatesTokenCount"), null);
+    }
+  }
+
+  private void recordTokens(String type, Object count, Object fallback) {
+    Object value = count != null ? count : fallback;
+    if (value instanceof Number tokens) {
+      Metrics.counter(
+              TOKENS_METRIC, "provider", getModelProvider(), "model", modelName, "type", type)
+          .increment(tokens.doubleValue());
     }
   }
 
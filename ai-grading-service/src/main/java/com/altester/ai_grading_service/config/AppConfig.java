@@ -1,6 +1,10 @@
 package com.altester.ai_grading_service.config;
 
+import com.altester.observability.ObservationTaskDecorator;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -9,11 +13,15 @@ import org.springframework.web.client.RestTemplate;
 
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AppConfig {
 
+  private final ObservationRegistry observationRegistry;
+
+  /** Boot's builder adds the client observation, so outgoing calls join the current trace. */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    return restTemplateBuilder.build();
   }
 
   @Bean
@@ -23,6 +31,7 @@ public class AppConfig {
     executor.setMaxPoolSize(10);
     executor.setQueueCapacity(25);
     executor.setThreadNamePrefix("GradingTask-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
     executor.initialize();
     return executor;
   }
@@ -1,13 +1,17 @@
 package com.altester.auth.config;
 
+import java.time.Duration;
 import java.util.Properties;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+@Getter
 @Configuration
 @RequiredArgsConstructor
 public class EmailConfig {
@@ -24,6 +28,46 @@ public class EmailConfig {
   @Value("${spring.mail.port}")
   private int port;
 
+  @Value("${mail.smtp.auth:true}")
+  private boolean smtpAuth;
+
+  @Value("${mail.smtp.starttls:true}")
+  private boolean smtpStartTls;
+
+  @Value("${mail.smtp.timeout:10s}")
+  private Duration smtpTimeout;
+
+  @Value("${mail.debug:false}")
+  private boolean mailDebug;
+
+  /** Number of SMTP connections used in parallel to drain the outbound queue. */
+  @Value("${mail.queue.workers:4}")
+  private int queueWorkers;
+
+  /** Emails claimed per round; each worker sends its share over a single SMTP connection. */
+  @Value("${mail.queue.batch-size:50}")
+  private int queueBatchSize;
+
+  @Value("${mail.queue.max-attempts:8}")
+  private int queueMaxAttempts;
+
+  @Value("${mail.queue.initial-backoff:30s}")
+  private Duration queueInitialBackoff;
+
+  @Value("${mail.queue.max-backoff:1h}")
+  private Duration queueMaxBackoff;
+
+  /** Claimed emails not reported back within this time are picked up again. */
+  @Value("${mail.queue.claim-timeout:10m}")
+  private Duration queueClaimTimeout;
+
+  @Value("${mail.queue.sent-retention:7d}")
+  private Duration queueSentRetention;
+
+  /** Emails that ran out of attempts are kept this long for diagnosis. */
+  @Value("${mail.queue.failed-retention:30d}")
+  private Duration queueFailedRetention;
+
   @Bean
   public JavaMailSender javaMailSender() {
     JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -31,13 +75,31 @@ public class EmailConfig {
     mailSender.setPort(port);
     mailSender.setUsername(emailUsername);
     mailSender.setPassword(password);
+    mailSender.setDefaultEncoding("UTF-8");
 
+    String timeout = String.valueOf(smtpTimeout.toMillis());
     Properties props = mailSender.getJavaMailProperties();
     props.put("mail.transport.protocol", "smtp");
-    props.put("mail.smtp.auth", "true");
-    props.put("mail.smtp.starttls.enable", "true");
-    props.put("mail.debug", "true");
+    props.put("mail.smtp.auth", String.valueOf(smtpAuth));
+    props.put("mail.smtp.starttls.enable", String.valueOf(smtpStartTls));
+    props.put("mail.smtp.connectiontimeout", timeout);
+    props.put("mail.smtp.timeout", timeout);
+    props.put("mail.smtp.writetimeout", timeout);
+    props.put("mail.debug", String.valueOf(mailDebug));
 
     return mailSender;
   }
+
+  @Bean
+  public ThreadPoolTaskExecutor mailExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(queueWorkers);
+    executor.setMaxPoolSize(queueWorkers);
+    executor.setQueueCapacity(queueWorkers);
+    executor.setThreadNamePrefix("mail-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
 }
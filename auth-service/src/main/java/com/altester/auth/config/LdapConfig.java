@@ -1,5 +1,7 @@
 package com.altester.auth.config;
 
+import java.time.Duration;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +9,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.LdapContextSource;
 
+@Getter
 @Configuration
 @RequiredArgsConstructor
 public class LdapConfig {
@@ -20,6 +23,36 @@ public class LdapConfig {
   @Value("${spring.ldap.username}")
   private String ldapUsername;
 
+  /** Directory used for user logins; users bind with their own credentials. */
+  @Value("${ldap.auth.url}")
+  private String authUrl;
+
+  @Value("${ldap.auth.search-base}")
+  private String authSearchBase;
+
+  /** {@code {0}} is the login name, {@code {1}} its last character. */
+  @Value("${ldap.auth.user-dn-pattern}")
+  private String authUserDnPattern;
+
+  /** {@code {0}} is the login name. */
+  @Value("${ldap.auth.search-filter}")
+  private String authSearchFilter;
+
+  @Value("${ldap.auth.connect-timeout:5s}")
+  private Duration authConnectTimeout;
+
+  @Value("${ldap.auth.read-timeout:5s}")
+  private Duration authReadTimeout;
+
+  @Value("${ldap.auth.pool.max-size:16}")
+  private int authPoolMaxSize;
+
+  @Value("${ldap.auth.pool.acquire-timeout:2s}")
+  private Duration authPoolAcquireTimeout;
+
+  @Value("${ldap.auth.pool.idle-timeout:5m}")
+  private Duration authPoolIdleTimeout;
+
   @Bean
   public LdapContextSource contextSource() {
     LdapContextSource contextSource = new LdapContextSource();
@@ -0,0 +1,90 @@
+package com.altester.auth.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Slf4j
+@Getter
+@Configuration
+public class PasswordHashingConfig {
+
+  private static final String CALIBRATION_PASSWORD = "calibration-password";
+  private static final int CALIBRATION_ROUNDS = 3;
+
+  /** Cost is raised step by step while a single hash stays within this latency. */
+  @Value("${password.hash.target-latency:250ms}")
+  private Duration targetLatency;
+
+  @Value("${password.hash.min-strength:10}")
+  private int minStrength;
+
+  @Value("${password.hash.max-strength:14}")
+  private int maxStrength;
+
+  /** Number of hashes computed in parallel; defaults to half of the available cores. */
+  @Value("${password.hash.threads:0}")
+  private int threads;
+
+  @Value("${password.hash.queue-capacity:200}")
+  private int queueCapacity;
+
+  /** Longest time a request waits for its hash before it is rejected as busy. */
+  @Value("${password.hash.wait-timeout:5s}")
+  private Duration waitTimeout;
+
+  /** BCrypt cost chosen at startup. */
+  private int strength;
+
+  @Bean
+  public BCryptPasswordEncoder passwordEncoder() {
+    strength = calibrateStrength();
+    log.info(
+        "Using BCrypt strength {} for a target latency of {} ms",
+        strength,
+        targetLatency.toMillis());
+    return new BCryptPasswordEncoder(strength);
+  }
+
+  @Bean
+  public ThreadPoolTaskExecutor passwordHashExecutor() {
+    int poolSize =
+        threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("password-hash-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Measures a verification at the minimum strength and picks the highest strength whose estimated
+   * latency, doubling with every step, still fits the target.
+   */
+  private int calibrateStrength() {
+    BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+    String hash = probe.encode(CALIBRATION_PASSWORD);
+
+    long fastest = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+      long start = System.nanoTime();
+      probe.matches(CALIBRATION_PASSWORD, hash);
+      fastest = Math.min(fastest, System.nanoTime() - start);
+    }
+
+    int strength = minStrength;
+    long estimate = fastest;
+    while (strength < maxStrength && estimate * 2 <= targetLatency.toNanos()) {
+      strength++;
+      estimate *= 2;
+    }
+    return strength;
+  }
+}
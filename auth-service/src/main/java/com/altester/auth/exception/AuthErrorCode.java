@@ -7,9 +7,11 @@ import org.springframework.http.HttpStatus;
 public enum AuthErrorCode {
   INVALID_CREDENTIALS("AUTH-100", HttpStatus.UNAUTHORIZED),
   USER_DISABLED("AUTH-102", HttpStatus.FORBIDDEN),
+  PASSWORD_HASHING_BUSY("AUTH-103", HttpStatus.SERVICE_UNAVAILABLE),
 
   EMAIL_ALREADY_EXISTS("AUTH-200", HttpStatus.CONFLICT),
   EMAIL_CHANGE_TOO_SOON("AUTH-204", HttpStatus.TOO_MANY_REQUESTS),
+  USERNAME_UNAVAILABLE("AUTH-205", HttpStatus.CONFLICT),
 
   PASSWORD_RESET_CODE_NOT_FOUND("AUTH-300", HttpStatus.NOT_FOUND),
   PASSWORD_RESET_CODE_EXPIRED("AUTH-301", HttpStatus.GONE),
@@ -23,6 +25,7 @@ public enum AuthErrorCode {
 
   LDAP_AUTH_FAILED("AUTH-500", HttpStatus.UNAUTHORIZED),
   LDAP_USER_OPERATION("AUTH-501", HttpStatus.FORBIDDEN),
+  LDAP_UNAVAILABLE("AUTH-502", HttpStatus.SERVICE_UNAVAILABLE),
 
   INVALID_REQUEST("AUTH-900", HttpStatus.BAD_REQUEST),
   INTERNAL_SERVER_ERROR("AUTH-999", HttpStatus.INTERNAL_SERVER_ERROR);
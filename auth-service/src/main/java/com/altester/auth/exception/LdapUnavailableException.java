@@ -0,0 +1,17 @@
+package com.altester.auth.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LdapUnavailableException extends AuthException {
+  private final String username;
+  private final String reason;
+
+  public LdapUnavailableException(String username, String reason) {
+    super(
+        "LDAP directory unavailable for user: " + username + ". Reason: " + reason,
+        AuthErrorCode.LDAP_UNAVAILABLE);
+    this.username = username;
+    this.reason = reason;
+  }
+}
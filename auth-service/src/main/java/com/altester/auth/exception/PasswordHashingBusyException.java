@@ -0,0 +1,9 @@
+package com.altester.auth.exception;
+
+public class PasswordHashingBusyException extends AuthException {
+  public PasswordHashingBusyException() {
+    super(
+        "Too many password checks in progress, please try again",
+        AuthErrorCode.PASSWORD_HASHING_BUSY);
+  }
+}
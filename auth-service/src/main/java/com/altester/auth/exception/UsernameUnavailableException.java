@@ -0,0 +1,13 @@
+package com.altester.auth.exception;
+
+import lombok.Getter;
+
+@Getter
+public class UsernameUnavailableException extends AuthException {
+  private final String prefix;
+
+  public UsernameUnavailableException(String prefix) {
+    super("No free username left for prefix: " + prefix, AuthErrorCode.USERNAME_UNAVAILABLE);
+    this.prefix = prefix;
+  }
+}
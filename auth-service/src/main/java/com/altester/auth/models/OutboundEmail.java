@@ -0,0 +1,62 @@
+package com.altester.auth.models;
+
+import com.altester.auth.models.enums.OutboundEmailStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/** Email waiting in the outbound queue; the body is rendered from the template when sent. */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "outbound_emails",
+    indexes = @Index(name = "idx_outbound_emails_due", columnList = "status, nextAttemptAt"))
+public class OutboundEmail {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String recipient;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Column(nullable = false, length = 63)
+  private String templateName;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  private Map<String, Object> variables;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 15)
+  private OutboundEmailStatus status;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  private LocalDateTime claimedAt;
+
+  @Column(length = 1023)
+  private String lastError;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime sentAt;
+
+  private LocalDateTime failedAt;
+}
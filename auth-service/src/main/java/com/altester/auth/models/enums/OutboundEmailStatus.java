@@ -0,0 +1,8 @@
+package com.altester.auth.models.enums;
+
+public enum OutboundEmailStatus {
+  PENDING,
+  SENDING,
+  SENT,
+  FAILED,
+}
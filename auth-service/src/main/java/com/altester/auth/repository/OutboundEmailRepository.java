@@ -0,0 +1,52 @@
+package com.altester.auth.repository;
+
+import com.altester.auth.models.OutboundEmail;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+  /**
+   * Locks the next due emails, including ones claimed by a worker that never reported back. Rows
+   * locked by another instance are skipped, so several instances can drain the queue together. Must
+   * be called inside a transaction.
+   */
+  @Query(
+      value =
+          "SELECT * FROM outbound_emails e WHERE (e.status = 'PENDING' AND e.next_attempt_at <= :now)"
+              + " OR (e.status = 'SENDING' AND e.claimed_at < :staleBefore)"
+              + " ORDER BY e.next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OutboundEmail> lockDue(
+      @Param("now") LocalDateTime now,
+      @Param("staleBefore") LocalDateTime staleBefore,
+      @Param("limit") int limit);
+
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE OutboundEmail e SET e.status = com.altester.auth.models.enums.OutboundEmailStatus.SENT,"
+          + " e.sentAt = :sentAt, e.attempts = e.attempts + 1, e.variables = null"
+          + " WHERE e.id IN :ids")
+  int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+  @Modifying
+  @Transactional
+  @Query(
+      "DELETE FROM OutboundEmail e WHERE e.status ="
+          + " com.altester.auth.models.enums.OutboundEmailStatus.SENT AND e.sentAt < :before")
+  int deleteSentBefore(@Param("before") LocalDateTime before);
+
+  @Modifying
+  @Transactional
+  @Query(
+      "DELETE FROM OutboundEmail e WHERE e.status ="
+          + " com.altester.auth.models.enums.OutboundEmailStatus.FAILED AND e.failedAt < :before")
+  int deleteFailedBefore(@Param("before") LocalDateTime before);
+}
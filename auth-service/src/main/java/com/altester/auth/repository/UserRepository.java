@@ -2,10 +2,34 @@ package com.altester.auth.repository;
 
 import com.altester.auth.models.User;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends CrudRepository<User, Long> {
   Optional<User> findByEmail(String email);
 
   Optional<User> findByUsername(String username);
+
+  /**
+   * Picks a random three-digit suffix that is still free for the given username prefix, probing all
+   * 900 candidates in a single query.
+   */
+  @Query(
+      value =
+          "SELECT s.n FROM generate_series(100, 999) AS s(n) WHERE NOT EXISTS ("
+              + "SELECT 1 FROM users u WHERE u.username = CONCAT(:prefix, s.n)) "
+              + "ORDER BY random() LIMIT 1",
+      nativeQuery = true)
+  Optional<Integer> findFreeUsernameSuffix(@Param("prefix") String prefix);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE User u SET u.password = :replacement WHERE u.id = :id AND u.password = :current")
+  int replacePassword(
+      @Param("id") Long id,
+      @Param("current") String current,
+      @Param("replacement") String replacement);
 }
@@ -1,17 +1,18 @@
 package com.altester.auth.service;
 
-import jakarta.mail.MessagingException;
+import java.util.Map;
 
 public interface EmailService {
 
   /**
-   * Sends an email to the specified recipient. Creates and sends a MIME message with the provided
-   * subject and HTML content.
+   * Queues an email for delivery and returns immediately. The HTML body is rendered from the given
+   * Thymeleaf template when a mail worker picks the email up; failed deliveries are retried with
+   * exponential backoff.
    *
    * @param to Email address of the recipient
    * @param subject Subject line of the email
-   * @param text HTML content of the email
-   * @throws MessagingException if there is an error creating or sending the email
+   * @param templateName Name of the Thymeleaf template used for the body
+   * @param variables Template variables; values must be serializable to JSON
    */
-  void sendEmail(String to, String subject, String text) throws MessagingException;
+  void enqueueEmail(String to, String subject, String templateName, Map<String, Object> variables);
 }
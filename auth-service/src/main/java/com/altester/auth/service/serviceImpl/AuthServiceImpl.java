@@ -21,7 +21,6 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -30,11 +29,12 @@ import org.springframework.stereotype.Service;
 public class AuthServiceImpl implements AuthService {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final UserUtils userUtils;
   private final CodeRepository codeRepository;
   private final EmailUtils emailUtils;
   private final JwtService jwtService;
+  private final LastLoginRecorder lastLoginRecorder;
 
   @Override
   public void register(RegisterUserDTO registerUserDTO) {
@@ -57,8 +57,9 @@ public class AuthServiceImpl implements AuthService {
 
     validateUserForLogin(user, usernameOrEmail, loginUserDTO.getPassword());
 
-    user.setLastLogin(LocalDateTime.now());
-    userRepository.save(user);
+    LocalDateTime now = LocalDateTime.now();
+    user.setLastLogin(now);
+    lastLoginRecorder.record(user.getId(), now);
 
     String token =
         jwtService.generateToken(user, user.getRole().name(), loginUserDTO.isRememberMe());
@@ -160,7 +161,7 @@ public class AuthServiceImpl implements AuthService {
         .name(dto.getName())
         .surname(dto.getSurname())
         .email(dto.getEmail())
-        .password(passwordEncoder.encode(dto.getPassword()))
+        .password(passwordHasher.encode(dto.getPassword()))
         .created(LocalDateTime.now())
         .lastLogin(LocalDateTime.now())
         .enabled(false)
@@ -200,10 +201,11 @@ public class AuthServiceImpl implements AuthService {
       throw new UserDisabledException(usernameOrEmail);
     }
 
-    if (!passwordEncoder.matches(password, user.getPassword())) {
+    if (!passwordHasher.matches(password, user.getPassword())) {
       log.error("Invalid password for user '{}'", usernameOrEmail);
       throw new InvalidCredentialsException();
     }
+    passwordHasher.upgradeIfNeeded(user.getId(), password, user.getPassword());
 
     log.info("Logged in user with email: {}", usernameOrEmail);
   }
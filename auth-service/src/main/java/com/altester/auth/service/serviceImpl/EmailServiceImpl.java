@@ -1,32 +1,41 @@
 package com.altester.auth.service.serviceImpl;
 
+import com.altester.auth.models.OutboundEmail;
+import com.altester.auth.models.enums.OutboundEmailStatus;
+import com.altester.auth.repository.OutboundEmailRepository;
 import com.altester.auth.service.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import lombok.AllArgsConstructor;
+import com.altester.auth.service.serviceImpl.mail.EmailDispatcher;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
-  private final JavaMailSender mailSender;
+  private final OutboundEmailRepository outboundEmailRepository;
+  private final EmailDispatcher emailDispatcher;
 
   @Override
-  public void sendEmail(String to, String subject, String text) throws MessagingException {
-    log.info("Sending email to {}", to);
-    MimeMessage message = mailSender.createMimeMessage();
-    MimeMessageHelper helper = new MimeMessageHelper(message, true);
+  public void enqueueEmail(
+      String to, String subject, String templateName, Map<String, Object> variables) {
+    LocalDateTime now = LocalDateTime.now();
+    OutboundEmail email =
+        OutboundEmail.builder()
+            .recipient(to)
+            .subject(subject)
+            .templateName(templateName)
+            .variables(variables)
+            .status(OutboundEmailStatus.PENDING)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .build();
 
-    helper.setTo(to);
-    helper.setSubject(subject);
-    helper.setText(text, true);
-
-    mailSender.send(message);
-    log.info("Verification email sent successfully to: {}", to);
+    outboundEmailRepository.save(email);
+    log.info("Queued email {} to {}", email.getId(), to);
+    emailDispatcher.wakeUp();
   }
 }
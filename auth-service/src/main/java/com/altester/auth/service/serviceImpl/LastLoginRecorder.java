@@ -0,0 +1,69 @@
+package com.altester.auth.service.serviceImpl;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects login times in memory and writes them in one JDBC batch per flush interval. Repeated
+ * logins of the same user within an interval are coalesced into a single update of the latest time,
+ * and an update never moves a stored login time backwards. If a batch fails, its entries are queued
+ * again and retried on the next flush.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LastLoginRecorder {
+
+  private static final String UPDATE_LAST_LOGIN =
+      "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+  /** Queues a login time. If a time for the user is already queued, the later one is kept. */
+  public void record(Long userId, LocalDateTime loginTime) {
+    pending.merge(userId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+  }
+
+  @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:5000}")
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    Map<Long, LocalDateTime> taken = new HashMap<>();
+    List<Object[]> updates = new ArrayList<>(pending.size());
+    for (Long userId : pending.keySet()) {
+      LocalDateTime loginTime = pending.remove(userId);
+      if (loginTime != null) {
+        taken.put(userId, loginTime);
+        Timestamp timestamp = Timestamp.valueOf(loginTime);
+        updates.add(new Object[] {timestamp, userId, timestamp});
+      }
+    }
+    try {
+      jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, updates);
+      log.debug("Recorded last login of {} users", updates.size());
+    } catch (RuntimeException e) {
+      taken.forEach(this::record);
+      log.error(
+          "Failed to record last login of {} users, retrying on the next flush", updates.size(), e);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    flush();
+  }
+}
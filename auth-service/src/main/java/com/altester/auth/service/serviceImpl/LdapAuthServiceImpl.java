@@ -3,21 +3,18 @@ package com.altester.auth.service.serviceImpl;
 import com.altester.auth.dto.Auth.LoginResponse;
 import com.altester.auth.dto.LdapLoginRequest;
 import com.altester.auth.exception.LdapAuthException;
+import com.altester.auth.exception.LdapUnavailableException;
 import com.altester.auth.models.User;
 import com.altester.auth.models.enums.RolesEnum;
 import com.altester.auth.repository.UserRepository;
 import com.altester.auth.service.LdapAuthService;
+import com.altester.auth.service.serviceImpl.ldap.LdapDirectoryClient;
+import com.altester.auth.service.serviceImpl.ldap.LdapDirectoryEntry;
 import java.time.LocalDateTime;
-import java.util.Hashtable;
 import javax.naming.AuthenticationException;
 import javax.naming.CommunicationException;
-import javax.naming.Context;
-import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
-import javax.naming.directory.DirContext;
-import javax.naming.directory.InitialDirContext;
-import javax.naming.directory.SearchControls;
-import javax.naming.directory.SearchResult;
+import javax.naming.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +26,8 @@ public class LdapAuthServiceImpl implements LdapAuthService {
 
   private final UserRepository userRepository;
   private final JwtService jwtService;
+  private final LdapDirectoryClient directoryClient;
+  private final LastLoginRecorder lastLoginRecorder;
 
   @Override
   public LoginResponse login(LdapLoginRequest request) {
@@ -56,104 +55,53 @@ public class LdapAuthServiceImpl implements LdapAuthService {
       throw new LdapAuthException(username, "Password cannot be empty");
     }
 
-    String userDn =
-        "cn=" + username + ",ou=" + username.charAt(username.length() - 1) + ",ou=USERS,o=VSB";
-
-    Hashtable<String, String> env = new Hashtable<>();
-    env.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
-    env.put(Context.PROVIDER_URL, "ldaps://ldap.vsb.cz");
-    env.put(Context.SECURITY_PRINCIPAL, userDn);
-    env.put(Context.SECURITY_CREDENTIALS, password);
-
-    DirContext ctx = null;
+    LdapDirectoryEntry entry;
     try {
-      ctx = new InitialDirContext(env);
+      entry = directoryClient.authenticate(username, password);
       log.info("User successfully authenticated: {}", username);
-
-      return getUserAttributes(ctx, username);
-
     } catch (AuthenticationException e) {
       log.error("Invalid credentials for user {}", username);
       throw new LdapAuthException(username, "Invalid credentials");
+    } catch (ServiceUnavailableException e) {
+      log.error("No LDAP connection available for user {}: {}", username, e.getMessage());
+      throw new LdapUnavailableException(username, "LDAP server busy");
     } catch (CommunicationException e) {
       log.error("Failed to connect to LDAP server for user {}: {}", username, e.getMessage());
-      throw new LdapAuthException(username, "LDAP server connection failed");
+      throw new LdapUnavailableException(username, "LDAP server connection failed");
     } catch (NamingException e) {
       log.error("LDAP error for user {}: {}", username, e.getMessage());
       throw new LdapAuthException(username, "LDAP error: " + e.getMessage());
-    } catch (Exception e) {
-      log.error(
-          "Unexpected error during LDAP authentication for user {}: {}", username, e.getMessage());
-      throw new LdapAuthException(username, "Unexpected error: " + e.getMessage());
-    } finally {
-      closeContext(ctx);
-    }
-  }
-
-  private User getUserAttributes(DirContext ctx, String username) throws NamingException {
-    SearchControls searchControls = new SearchControls();
-    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
-    String searchFilter = "(&(objectClass=person)(cn=" + username + "))";
-    String baseDn = "ou=USERS,o=VSB";
-
-    NamingEnumeration<SearchResult> results = ctx.search(baseDn, searchFilter, searchControls);
-
-    if (!results.hasMore()) {
-      log.error("User authenticated but no attributes found: {}", username);
-      throw new LdapAuthException(username, "User attributes not found");
     }
 
-    SearchResult result = results.next();
-    log.info("Retrieving attributes for user: {}", username);
-
-    try {
-      String email = result.getAttributes().get("mail").get().toString();
-      String uid = result.getAttributes().get("uid").get().toString().toUpperCase();
-      String givenName = result.getAttributes().get("givenName").get().toString();
-      String surname = result.getAttributes().get("sn").get().toString();
-
-      return createOrUpdateUser(uid, email, givenName, surname);
-    } catch (NamingException e) {
-      log.error("Required attribute missing for user {}: {}", username, e.getMessage());
-      throw new LdapAuthException(username, "Required attribute missing: " + e.getMessage());
-    }
+    return createOrUpdateUser(entry);
   }
 
-  private User createOrUpdateUser(String uid, String email, String givenName, String surname) {
-    User user = userRepository.findByUsername(uid).orElse(null);
+  private User createOrUpdateUser(LdapDirectoryEntry entry) {
+    LocalDateTime now = LocalDateTime.now();
+    User user = userRepository.findByUsername(entry.getUid()).orElse(null);
 
     if (user == null) {
       user =
           User.builder()
-              .username(uid)
-              .email(email)
-              .name(givenName)
-              .surname(surname)
-              .created(LocalDateTime.now())
-              .lastLogin(LocalDateTime.now())
+              .username(entry.getUid())
+              .email(entry.getEmail())
+              .name(entry.getGivenName())
+              .surname(entry.getSurname())
+              .created(now)
+              .lastLogin(now)
               .role(RolesEnum.STUDENT)
               .enabled(true)
               .isRegistered(false)
               .build();
 
-      userRepository.save(user);
-      log.info("New user {} added to the database.", uid);
+      user = userRepository.save(user);
+      log.info("New user {} added to the database.", entry.getUid());
     } else {
-      user.setLastLogin(LocalDateTime.now());
-      userRepository.save(user);
-      log.info("Existing user {} updated with new login time.", uid);
+      user.setLastLogin(now);
+      lastLoginRecorder.record(user.getId(), now);
+      log.info("Existing user {} updated with new login time.", entry.getUid());
     }
 
     return user;
   }
-
-  private void closeContext(DirContext ctx) {
-    if (ctx != null) {
-      try {
-        ctx.close();
-      } catch (NamingException e) {
-        log.warn("Error closing LDAP context: {}", e.getMessage());
-      }
-    }
-  }
 }
@@ -0,0 +1,126 @@
+package com.altester.auth.service.serviceImpl;
+
+import com.altester.auth.config.PasswordHashingConfig;
+import com.altester.auth.exception.PasswordHashingBusyException;
+import com.altester.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs password hashing on a bounded executor so that a login storm uses at most {@code
+ * password.hash.threads} cores. Requests that cannot get a hashing slot within the wait timeout are
+ * rejected with {@link PasswordHashingBusyException}. Hash latency, queue depth and the calibrated
+ * cost are exposed as metrics.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHasher {
+
+  private static final String METRIC_PREFIX = "auth.password.hash";
+
+  private final BCryptPasswordEncoder passwordEncoder;
+  private final ThreadPoolTaskExecutor passwordHashExecutor;
+  private final PasswordHashingConfig passwordHashingConfig;
+  private final UserRepository userRepository;
+  private final MeterRegistry meterRegistry;
+
+  private Timer verifyTimer;
+  private Timer encodeTimer;
+
+  @PostConstruct
+  void registerMetrics() {
+    verifyTimer =
+        Timer.builder(METRIC_PREFIX)
+            .tag("operation", "verify")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    encodeTimer =
+        Timer.builder(METRIC_PREFIX)
+            .tag("operation", "encode")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    Gauge.builder(
+            METRIC_PREFIX + ".queue",
+            passwordHashExecutor,
+            executor -> executor.getThreadPoolExecutor().getQueue().size())
+        .description("Password hashes waiting for a hashing thread")
+        .register(meterRegistry);
+    Gauge.builder(
+            METRIC_PREFIX + ".active", passwordHashExecutor, ThreadPoolTaskExecutor::getActiveCount)
+        .register(meterRegistry);
+    Gauge.builder(
+            METRIC_PREFIX + ".strength", passwordHashingConfig, PasswordHashingConfig::getStrength)
+        .description("BCrypt cost used for new hashes")
+        .register(meterRegistry);
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return submit(verifyTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  public String encode(String rawPassword) {
+    return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * Re-hashes a verified password in the background when it was stored with a lower cost than the
+   * calibrated one. The stored hash is only replaced if it has not changed in the meantime.
+   */
+  public void upgradeIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+    if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+      return;
+    }
+    try {
+      passwordHashExecutor.execute(
+          () -> {
+            String upgraded = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+            if (userRepository.replacePassword(userId, encodedPassword, upgraded) > 0) {
+              log.debug("Upgraded password hash of user {} to the current cost", userId);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      log.debug("Hashing busy, postponing password hash upgrade of user {}", userId);
+    }
+  }
+
+  private <T> T submit(Timer timer, Callable<T> hashing) {
+    Future<T> future;
+    try {
+      future = passwordHashExecutor.submit(() -> timer.recordCallable(hashing));
+    } catch (RejectedExecutionException e) {
+      log.warn("Password hashing queue is full");
+      throw new PasswordHashingBusyException();
+    }
+
+    try {
+      return future.get(passwordHashingConfig.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      log.warn("Password hashing did not finish in time");
+      throw new PasswordHashingBusyException();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new PasswordHashingBusyException();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
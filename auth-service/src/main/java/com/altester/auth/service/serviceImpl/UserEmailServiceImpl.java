@@ -18,7 +18,6 @@ import com.altester.auth.utils.UserUtils;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -27,7 +26,7 @@ import org.springframework.stereotype.Service;
 public class UserEmailServiceImpl implements UserEmailService {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final CodeRepository codeRepository;
   private final EmailUtils emailUtils;
   private final UserUtils userUtils;
@@ -47,7 +46,7 @@ public class UserEmailServiceImpl implements UserEmailService {
       throw new LdapUserOperationException(user.getUsername(), "email reset");
     }
 
-    if (!passwordEncoder.matches(emailInitDTO.getPassword(), user.getPassword())) {
+    if (!passwordHasher.matches(emailInitDTO.getPassword(), user.getPassword())) {
       log.error("Invalid password for user: {}", user.getUsername());
       throw new InvalidCredentialsException();
     }
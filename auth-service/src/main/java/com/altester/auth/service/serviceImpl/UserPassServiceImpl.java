@@ -17,7 +17,6 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,7 +25,7 @@ import org.springframework.stereotype.Service;
 public class UserPassServiceImpl implements UserPassService {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final CodeRepository codeRepository;
   private final EmailUtils emailUtils;
   private final UserUtils userUtils;
@@ -74,7 +73,7 @@ public class UserPassServiceImpl implements UserPassService {
       throw new InvalidPasswordResetCodeException(changePass.getEmail());
     }
 
-    user.setPassword(passwordEncoder.encode(changePass.getNewPassword()));
+    user.setPassword(passwordHasher.encode(changePass.getNewPassword()));
     codeRepository.delete(code);
     userRepository.save(user);
     log.info("Password reset successful for user: {}", changePass.getEmail());
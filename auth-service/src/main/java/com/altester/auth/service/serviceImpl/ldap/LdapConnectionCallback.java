@@ -0,0 +1,14 @@
+package com.altester.auth.service.serviceImpl.ldap;
+
+import javax.naming.NamingException;
+import javax.naming.ldap.LdapContext;
+
+@FunctionalInterface
+public interface LdapConnectionCallback<T> {
+
+  /**
+   * Works with a pooled connection. The connection is returned to the pool afterwards unless the
+   * callback failed with anything other than an authentication error.
+   */
+  T doWithConnection(LdapContext context) throws NamingException;
+}
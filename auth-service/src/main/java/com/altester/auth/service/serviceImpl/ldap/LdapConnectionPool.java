@@ -0,0 +1,173 @@
+package com.altester.auth.service.serviceImpl.ldap;
+
+import com.altester.auth.config.LdapConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.naming.AuthenticationException;
+import javax.naming.CommunicationException;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.ServiceUnavailableException;
+import javax.naming.ldap.InitialLdapContext;
+import javax.naming.ldap.LdapContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded pool of long-lived connections to the login directory. Connections are opened anonymously
+ * once and then re-authenticated for every login with an LDAPv3 bind over the existing socket, so a
+ * login no longer pays for a TCP and TLS handshake. At most {@code ldap.auth.pool.max-size} logins
+ * talk to the directory at the same time; the others wait up to {@code
+ * ldap.auth.pool.acquire-timeout} for a free connection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LdapConnectionPool {
+
+  private static final String LDAP_VERSION = "java.naming.ldap.version";
+  private static final String CONNECT_TIMEOUT = "com.sun.jndi.ldap.connect.timeout";
+  private static final String READ_TIMEOUT = "com.sun.jndi.ldap.read.timeout";
+
+  private final LdapConfig ldapConfig;
+
+  private final ConcurrentLinkedDeque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+  private Semaphore permits;
+  private volatile boolean closed;
+
+  @PostConstruct
+  void init() {
+    permits = new Semaphore(ldapConfig.getAuthPoolMaxSize(), true);
+  }
+
+  /**
+   * Runs the callback on a pooled connection. A connection taken from the pool that turns out to be
+   * broken is discarded and the callback is retried once on a fresh connection.
+   *
+   * @throws ServiceUnavailableException if no connection becomes free within the acquire timeout
+   */
+  public <T> T execute(LdapConnectionCallback<T> callback) throws NamingException {
+    acquirePermit();
+    try {
+      PooledConnection connection = idle.pollFirst();
+      if (connection != null && !connection.isExpired()) {
+        try {
+          return executeOn(connection, callback);
+        } catch (CommunicationException e) {
+          log.debug("Pooled LDAP connection is broken, reconnecting: {}", e.getMessage());
+        }
+      } else if (connection != null) {
+        connection.close();
+      }
+      return executeOn(openConnection(), callback);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private <T> T executeOn(PooledConnection connection, LdapConnectionCallback<T> callback)
+      throws NamingException {
+    boolean reusable = false;
+    try {
+      T result = callback.doWithConnection(connection.context);
+      reusable = true;
+      return result;
+    } catch (AuthenticationException e) {
+      // A rejected bind leaves the connection open and unauthenticated
+      reusable = true;
+      throw e;
+    } finally {
+      release(connection, reusable);
+    }
+  }
+
+  private void release(PooledConnection connection, boolean reusable) {
+    if (!reusable || closed) {
+      connection.close();
+      return;
+    }
+    try {
+      connection.context.removeFromEnvironment(Context.SECURITY_CREDENTIALS);
+    } catch (NamingException e) {
+      connection.close();
+      return;
+    }
+    connection.lastUsed = System.nanoTime();
+    idle.offerFirst(connection);
+  }
+
+  private void acquirePermit() throws NamingException {
+    boolean acquired;
+    try {
+      acquired =
+          permits.tryAcquire(
+              ldapConfig.getAuthPoolAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      throw new ServiceUnavailableException("No free LDAP connection");
+    }
+  }
+
+  private PooledConnection openConnection() throws NamingException {
+    Hashtable<String, Object> env = new Hashtable<>();
+    env.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
+    env.put(Context.PROVIDER_URL, ldapConfig.getAuthUrl());
+    env.put(Context.SECURITY_AUTHENTICATION, "none");
+    env.put(LDAP_VERSION, "3");
+    env.put(CONNECT_TIMEOUT, String.valueOf(ldapConfig.getAuthConnectTimeout().toMillis()));
+    env.put(READ_TIMEOUT, String.valueOf(ldapConfig.getAuthReadTimeout().toMillis()));
+    return new PooledConnection(new InitialLdapContext(env, null));
+  }
+
+  /** Closes idle connections that have not been used within the idle timeout. */
+  @Scheduled(fixedDelay = 60_000)
+  public void evictIdle() {
+    idle.removeIf(
+        connection -> {
+          if (connection.isExpired()) {
+            connection.close();
+            return true;
+          }
+          return false;
+        });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    closed = true;
+    PooledConnection connection;
+    while ((connection = idle.pollFirst()) != null) {
+      connection.close();
+    }
+  }
+
+  private final class PooledConnection {
+    private final LdapContext context;
+    private volatile long lastUsed = System.nanoTime();
+
+    private PooledConnection(LdapContext context) {
+      this.context = context;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - lastUsed > ldapConfig.getAuthPoolIdleTimeout().toNanos();
+    }
+
+    private void close() {
+      try {
+        context.close();
+      } catch (NamingException e) {
+        log.warn("Error closing LDAP context: {}", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.altester.auth.service.serviceImpl.ldap;
+
+import com.altester.auth.config.LdapConfig;
+import com.altester.auth.exception.LdapAuthException;
+import java.text.MessageFormat;
+import java.util.Optional;
+import javax.naming.Context;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ldap.support.LdapEncoder;
+import org.springframework.stereotype.Component;
+
+/** Verifies user credentials against the login directory and reads the user's attributes. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LdapDirectoryClient {
+
+  private static final String[] RETURNED_ATTRIBUTES = {"mail", "uid", "givenName", "sn"};
+
+  private final LdapConfig ldapConfig;
+  private final LdapConnectionPool connectionPool;
+
+  /**
+   * Binds as the user over a pooled connection and searches the user's entry on the same, now
+   * authenticated, connection.
+   *
+   * @throws javax.naming.AuthenticationException if the directory rejects the credentials
+   * @throws LdapAuthException if the entry or one of its required attributes is missing
+   */
+  public LdapDirectoryEntry authenticate(String username, String password) throws NamingException {
+    String userDn =
+        MessageFormat.format(
+            ldapConfig.getAuthUserDnPattern(),
+            LdapEncoder.nameEncode(username),
+            LdapEncoder.nameEncode(username.substring(username.length() - 1)));
+    String filter =
+        MessageFormat.format(ldapConfig.getAuthSearchFilter(), LdapEncoder.filterEncode(username));
+
+    return connectionPool.execute(
+        context -> {
+          bind(context, userDn, password);
+          return search(context, username, filter);
+        });
+  }
+
+  private void bind(LdapContext context, String userDn, String password) throws NamingException {
+    context.addToEnvironment(Context.SECURITY_AUTHENTICATION, "simple");
+    context.addToEnvironment(Context.SECURITY_PRINCIPAL, userDn);
+    context.addToEnvironment(Context.SECURITY_CREDENTIALS, password);
+    context.reconnect(null);
+  }
+
+  private LdapDirectoryEntry search(LdapContext context, String username, String filter)
+      throws NamingException {
+    SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningAttributes(RETURNED_ATTRIBUTES);
+    searchControls.setTimeLimit((int) ldapConfig.getAuthReadTimeout().toMillis());
+
+    NamingEnumeration<SearchResult> results =
+        context.search(ldapConfig.getAuthSearchBase(), filter, searchControls);
+    try {
+      if (!results.hasMore()) {
+        log.error("User authenticated but no attributes found: {}", username);
+        throw new LdapAuthException(username, "User attributes not found");
+      }
+      Attributes attributes = results.next().getAttributes();
+      return LdapDirectoryEntry.builder()
+          .email(requireAttribute(attributes, "mail", username))
+          .uid(requireAttribute(attributes, "uid", username).toUpperCase())
+          .givenName(requireAttribute(attributes, "givenName", username))
+          .surname(requireAttribute(attributes, "sn", username))
+          .build();
+    } finally {
+      results.close();
+    }
+  }
+
+  private String requireAttribute(Attributes attributes, String name, String username)
+      throws NamingException {
+    Object value = Optional.ofNullable(attributes.get(name)).map(this::firstValue).orElse(null);
+    if (value == null) {
+      log.error("Required attribute {} missing for user {}", name, username);
+      throw new LdapAuthException(username, "Required attribute missing: " + name);
+    }
+    return value.toString();
+  }
+
+  private Object firstValue(Attribute attribute) {
+    try {
+      return attribute.size() > 0 ? attribute.get() : null;
+    } catch (NamingException e) {
+      return null;
+    }
+  }
+}
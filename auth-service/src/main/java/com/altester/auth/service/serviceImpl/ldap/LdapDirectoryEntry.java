@@ -0,0 +1,16 @@
+package com.altester.auth.service.serviceImpl.ldap;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/** Directory attributes of a user that are copied into the local user record. */
+@Data
+@Builder
+@AllArgsConstructor
+public class LdapDirectoryEntry {
+  private String uid;
+  private String email;
+  private String givenName;
+  private String surname;
+}
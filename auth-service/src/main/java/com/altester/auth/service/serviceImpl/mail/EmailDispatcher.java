@@ -0,0 +1,243 @@
+package com.altester.auth.service.serviceImpl.mail;
+
+import com.altester.auth.config.EmailConfig;
+import com.altester.auth.models.OutboundEmail;
+import com.altester.auth.models.enums.OutboundEmailStatus;
+import com.altester.auth.repository.OutboundEmailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * Drains the outbound email queue. Due emails are claimed in batches with {@code FOR UPDATE SKIP
+ * LOCKED}, split between the mail workers and sent by each worker over a single SMTP connection.
+ * Failed deliveries are rescheduled with exponential backoff until the attempt limit is reached.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailDispatcher {
+
+  private static final int MAX_ERROR_LENGTH = 1023;
+
+  private final OutboundEmailRepository outboundEmailRepository;
+  private final JavaMailSender mailSender;
+  private final TemplateEngine templateEngine;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolTaskExecutor mailExecutor;
+  private final EmailConfig emailConfig;
+
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+
+  /** Starts draining the queue in the background unless a drain is already running. */
+  public void wakeUp() {
+    wakeUpRequested.set(true);
+    if (!draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      CompletableFuture.runAsync(this::drain, mailExecutor);
+    } catch (RejectedExecutionException e) {
+      draining.set(false);
+      log.warn("Mail workers busy, queued emails will be sent on the next poll");
+    }
+  }
+
+  /** Picks up retries and emails queued by other instances. */
+  @Scheduled(fixedDelayString = "${mail.queue.poll-interval-ms:5000}")
+  public void poll() {
+    wakeUp();
+  }
+
+  @Scheduled(cron = "0 30 * * * *")
+  public void purgeFinished() {
+    LocalDateTime now = LocalDateTime.now();
+    int sent =
+        outboundEmailRepository.deleteSentBefore(now.minus(emailConfig.getQueueSentRetention()));
+    int failed =
+        outboundEmailRepository.deleteFailedBefore(
+            now.minus(emailConfig.getQueueFailedRetention()));
+    if (sent + failed > 0) {
+      log.info("Deleted {} sent and {} failed emails from the outbound queue", sent, failed);
+    }
+  }
+
+  private void drain() {
+    try {
+      while (wakeUpRequested.getAndSet(false)) {
+        List<OutboundEmail> batch;
+        while (!(batch = claimBatch()).isEmpty()) {
+          sendBatch(batch);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to drain outbound email queue: {}", e.getMessage(), e);
+    } finally {
+      draining.set(false);
+    }
+    if (wakeUpRequested.get()) {
+      wakeUp();
+    }
+  }
+
+  private List<OutboundEmail> claimBatch() {
+    return transactionTemplate.execute(
+        status -> {
+          LocalDateTime now = LocalDateTime.now();
+          List<OutboundEmail> due =
+              outboundEmailRepository.lockDue(
+                  now,
+                  now.minus(emailConfig.getQueueClaimTimeout()),
+                  emailConfig.getQueueBatchSize());
+          due.forEach(
+              email -> {
+                email.setStatus(OutboundEmailStatus.SENDING);
+                email.setClaimedAt(now);
+              });
+          return due;
+        });
+  }
+
+  private void sendBatch(List<OutboundEmail> batch) {
+    int workers = Math.min(emailConfig.getQueueWorkers(), batch.size());
+    List<List<OutboundEmail>> shares = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      shares.add(new ArrayList<>());
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      shares.get(i % workers).add(batch.get(i));
+    }
+
+    // The first share runs on the draining thread, which already holds a worker
+    List<CompletableFuture<Void>> others = new ArrayList<>();
+    for (List<OutboundEmail> share : shares.subList(1, workers)) {
+      try {
+        others.add(CompletableFuture.runAsync(() -> sendShare(share), mailExecutor));
+      } catch (RejectedExecutionException e) {
+        sendShare(share);
+      }
+    }
+    sendShare(shares.get(0));
+    CompletableFuture.allOf(others.toArray(new CompletableFuture[0])).join();
+  }
+
+  /** Sends all emails of the share over one SMTP connection and records the outcome. */
+  private void sendShare(List<OutboundEmail> share) {
+    Map<MimeMessage, OutboundEmail> messages = new IdentityHashMap<>();
+    Map<OutboundEmail, Exception> failures = new HashMap<>();
+    for (OutboundEmail email : share) {
+      try {
+        messages.put(buildMessage(email), email);
+      } catch (MessagingException | RuntimeException e) {
+        failures.put(email, e);
+      }
+    }
+
+    if (!messages.isEmpty()) {
+      try {
+        mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+      } catch (MailSendException e) {
+        e.getFailedMessages()
+            .forEach((message, cause) -> failures.put(messages.get(message), cause));
+        if (e.getFailedMessages().isEmpty()) {
+          messages.values().forEach(email -> failures.put(email, e));
+        }
+      } catch (MailException e) {
+        messages.values().forEach(email -> failures.put(email, e));
+      }
+    }
+
+    List<Long> sentIds = new ArrayList<>();
+    for (OutboundEmail email : share) {
+      if (!failures.containsKey(email)) {
+        sentIds.add(email.getId());
+      }
+    }
+    if (!sentIds.isEmpty()) {
+      outboundEmailRepository.markSent(sentIds, LocalDateTime.now());
+      log.info("Sent {} queued emails", sentIds.size());
+    }
+    failures.forEach(this::recordFailure);
+  }
+
+  private MimeMessage buildMessage(OutboundEmail email) throws MessagingException {
+    Context context = new Context();
+    if (email.getVariables() != null) {
+      context.setVariables(email.getVariables());
+    }
+    String html = templateEngine.process(email.getTemplateName(), context);
+
+    MimeMessage message = mailSender.createMimeMessage();
+    MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    helper.setTo(email.getRecipient());
+    helper.setSubject(email.getSubject());
+    helper.setText(html, true);
+    return message;
+  }
+
+  private void recordFailure(OutboundEmail email, Exception cause) {
+    int attempts = email.getAttempts() + 1;
+    email.setAttempts(attempts);
+    email.setClaimedAt(null);
+    email.setLastError(truncate(cause.getMessage()));
+
+    if (attempts >= emailConfig.getQueueMaxAttempts()) {
+      email.setStatus(OutboundEmailStatus.FAILED);
+      email.setFailedAt(LocalDateTime.now());
+      email.setVariables(null);
+      log.error(
+          "Giving up on email {} to {} after {} attempts: {}",
+          email.getId(),
+          email.getRecipient(),
+          attempts,
+          cause.getMessage());
+    } else {
+      email.setStatus(OutboundEmailStatus.PENDING);
+      email.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+      log.warn(
+          "Failed to send email {} to {} (attempt {}), retrying at {}: {}",
+          email.getId(),
+          email.getRecipient(),
+          attempts,
+          email.getNextAttemptAt(),
+          cause.getMessage());
+    }
+    outboundEmailRepository.save(email);
+  }
+
+  private Duration backoff(int attempts) {
+    Duration initial = emailConfig.getQueueInitialBackoff();
+    Duration max = emailConfig.getQueueMaxBackoff();
+    Duration delay = initial.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(max) > 0 ? max : delay;
+  }
+
+  private String truncate(String message) {
+    if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+      return message;
+    }
+    return message.substring(0, MAX_ERROR_LENGTH);
+  }
+}
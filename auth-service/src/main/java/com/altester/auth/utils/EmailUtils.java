@@ -9,15 +9,14 @@ import com.altester.auth.models.enums.CodeType;
 import com.altester.auth.models.enums.EmailType;
 import com.altester.auth.repository.CodeRepository;
 import com.altester.auth.service.EmailService;
-import jakarta.mail.MessagingException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 @Slf4j
 @Component
@@ -29,7 +28,6 @@ public class EmailUtils {
 
   private final CodeRepository codeRepository;
   private final EmailService emailService;
-  private final TemplateEngine templateEngine;
 
   public void sendVerificationEmail(User user, EmailType emailType) {
     // Register
@@ -42,16 +40,12 @@ public class EmailUtils {
       }
 
       Codes code = optionalCode.get();
-      Context context = new Context();
-      context.setVariable("verificationCode", code.getCode());
-      context.setVariable(
-          EXPIRATION_VARIABLE,
-          code.getExpiration().format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)));
-      context.setVariable("year", LocalDate.now().getYear());
-
-      String htmlMessage = templateEngine.process("verification-email", context);
       String subject = "Account Verification";
-      sendEmail(user.getEmail(), subject, htmlMessage);
+      sendEmail(
+          user.getEmail(),
+          subject,
+          "verification-email",
+          templateVariables("verificationCode", code));
     }
 
     // Change pass
@@ -64,16 +58,9 @@ public class EmailUtils {
       }
 
       Codes code = optionalCode.get();
-      Context context = new Context();
-      context.setVariable("resetCode", code.getCode());
-      context.setVariable(
-          EXPIRATION_VARIABLE,
-          code.getExpiration().format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)));
-      context.setVariable("year", LocalDate.now().getYear());
-
-      String htmlMessage = templateEngine.process("password-reset-email", context);
       String subject = "Password reset code";
-      sendEmail(user.getEmail(), subject, htmlMessage);
+      sendEmail(
+          user.getEmail(), subject, "password-reset-email", templateVariables("resetCode", code));
     }
   }
 
@@ -89,29 +76,26 @@ public class EmailUtils {
       }
 
       Codes code = optionalCode.get();
-      Context context = new Context();
-      context.setVariable("emailcode", code.getCode());
-      context.setVariable(
-          EXPIRATION_VARIABLE,
-          code.getExpiration().format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)));
-      context.setVariable("year", LocalDate.now().getYear());
-
-      String htmlMessage = templateEngine.process("email-change", context);
-
       String subject = "Email change code";
-
-      sendEmail(email, subject, htmlMessage);
+      sendEmail(email, subject, "email-change", templateVariables("emailcode", code));
     } else {
       throw new InvalidEmailTypeException("Function expects email type to be 'CHANGE_EMAIL'");
     }
   }
 
-  private void sendEmail(String email, String subject, String htmlMessage) {
-    try {
-      emailService.sendEmail(email, subject, htmlMessage);
-      log.info("Verification email sent to: {}", email);
-    } catch (MessagingException e) {
-      log.error("Failed to send verification email to: {}", email, e);
-    }
+  private Map<String, Object> templateVariables(String codeVariable, Codes code) {
+    Map<String, Object> variables = new HashMap<>();
+    variables.put(codeVariable, code.getCode());
+    variables.put(
+        EXPIRATION_VARIABLE,
+        code.getExpiration().format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)));
+    variables.put("year", LocalDate.now().getYear());
+    return variables;
+  }
+
+  private void sendEmail(
+      String email, String subject, String templateName, Map<String, Object> variables) {
+    emailService.enqueueEmail(email, subject, templateName, variables);
+    log.info("Verification email queued for: {}", email);
   }
 }
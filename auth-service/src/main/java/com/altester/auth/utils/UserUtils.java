@@ -1,5 +1,6 @@
 package com.altester.auth.utils;
 
+import com.altester.auth.exception.UsernameUnavailableException;
 import com.altester.auth.repository.UserRepository;
 import java.util.Random;
 import lombok.RequiredArgsConstructor;
@@ -18,19 +19,18 @@ public class UserUtils {
   private static final int MAX_BOUNDARY = 100000;
 
   public String generateUsername(String surname) {
-    String prefix = surname.substring(0, 3).toUpperCase();
+    String prefix = surname.substring(0, 3).toUpperCase() + "R";
     log.info("Generating username with prefix {}", prefix);
 
-    String username;
-    boolean isUnique;
-
-    do {
-      int randomNumber = 100 + random.nextInt(900);
-      username = String.format("%sR%03d", prefix, randomNumber);
-      isUnique = userRepository.findByUsername(username).isEmpty();
-    } while (!isUnique);
-
-    return username;
+    int suffix =
+        userRepository
+            .findFreeUsernameSuffix(prefix)
+            .orElseThrow(
+                () -> {
+                  log.error("All usernames with prefix {} are taken", prefix);
+                  return new UsernameUnavailableException(prefix);
+                });
+    return prefix + suffix;
   }
 
   public String generateVerificationCode() {
@@ -0,0 +1,69 @@
+package com.altester.auth.service.serviceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class LastLoginRecorderTest {
+
+  private static final LocalDateTime EARLIER = LocalDateTime.of(2026, 10, 1, 8, 0);
+  private static final LocalDateTime LATER = EARLIER.plusMinutes(5);
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final LastLoginRecorder recorder = new LastLoginRecorder(jdbcTemplate);
+
+  @Test
+  void writesOnlyTheLatestLoginOfEachUser() {
+    recorder.record(1L, LATER);
+    recorder.record(1L, EARLIER);
+
+    recorder.flush();
+
+    assertThat(flushedBatches(1).getFirst()).containsExactly(update(1L, LATER));
+  }
+
+  @Test
+  void retriesAFailedBatchOnTheNextFlush() {
+    when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+        .thenThrow(new DataAccessResourceFailureException("connection lost"))
+        .thenReturn(new int[] {1});
+    recorder.record(1L, LATER);
+
+    recorder.flush();
+    recorder.record(1L, EARLIER);
+    recorder.flush();
+
+    assertThat(flushedBatches(2).getLast()).containsExactly(update(1L, LATER));
+  }
+
+  @Test
+  void skipsTheDatabaseWhenNothingIsPending() {
+    recorder.flush();
+
+    flushedBatches(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<Object[]>> flushedBatches(int expected) {
+    ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate, times(expected)).batchUpdate(anyString(), batches.capture());
+    return batches.getAllValues();
+  }
+
+  private static Object[] update(Long userId, LocalDateTime loginTime) {
+    Timestamp timestamp = Timestamp.valueOf(loginTime);
+    return new Object[] {timestamp, userId, timestamp};
+  }
+}
@@ -0,0 +1,124 @@
+package com.altester.auth.service.serviceImpl.ldap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.altester.auth.config.LdapConfig;
+import com.altester.auth.exception.LdapAuthException;
+import java.time.Duration;
+import javax.naming.Context;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.BasicAttributes;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class LdapDirectoryClientTest {
+
+  private final LdapConfig ldapConfig = mock(LdapConfig.class);
+  private final LdapConnectionPool connectionPool = mock(LdapConnectionPool.class);
+  private final LdapContext context = mock(LdapContext.class);
+  private final NamingEnumeration<SearchResult> results = mock();
+
+  private final LdapDirectoryClient client = new LdapDirectoryClient(ldapConfig, connectionPool);
+
+  @BeforeEach
+  void setUp() throws NamingException {
+    when(ldapConfig.getAuthUserDnPattern()).thenReturn("cn={0},ou={1},dc=example,dc=com");
+    when(ldapConfig.getAuthSearchFilter()).thenReturn("(&(objectClass=person)(cn={0}))");
+    when(ldapConfig.getAuthSearchBase()).thenReturn("dc=example,dc=com");
+    when(ldapConfig.getAuthReadTimeout()).thenReturn(Duration.ofSeconds(5));
+    when(connectionPool.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<LdapConnectionCallback<?>>getArgument(0).doWithConnection(context));
+    when(context.search(anyString(), anyString(), any(SearchControls.class))).thenReturn(results);
+  }
+
+  @Test
+  void bindsWithTheUserDnAndReadsTheEntry() throws NamingException {
+    BasicAttributes attributes = new BasicAttributes();
+    attributes.put("mail", "jdoe@example.com");
+    attributes.put("uid", "jdoe01");
+    attributes.put("givenName", "John");
+    attributes.put("sn", "Doe");
+    when(results.hasMore()).thenReturn(true);
+    when(results.next()).thenReturn(new SearchResult("cn=jdoe01", null, attributes));
+
+    LdapDirectoryEntry entry = client.authenticate("jdoe01", "secret");
+
+    verify(context)
+        .addToEnvironment(Context.SECURITY_PRINCIPAL, "cn=jdoe01,ou=1,dc=example,dc=com");
+    verify(context).addToEnvironment(Context.SECURITY_CREDENTIALS, "secret");
+    verify(context).reconnect(null);
+    assertThat(entry.getEmail()).isEqualTo("jdoe@example.com");
+    assertThat(entry.getUid()).isEqualTo("JDOE01");
+    assertThat(entry.getGivenName()).isEqualTo("John");
+    assertThat(entry.getSurname()).isEqualTo("Doe");
+    verify(results).close();
+  }
+
+  @Test
+  void escapesFilterMetacharactersInTheUsername() throws NamingException {
+    when(results.hasMore()).thenReturn(false);
+
+    assertThatThrownBy(() -> client.authenticate("*)(uid=*))(|(cn=*", "secret"))
+        .isInstanceOf(LdapAuthException.class);
+
+    assertThat(searchFilter())
+        .isEqualTo("(&(objectClass=person)(cn=\\2a\\29\\28uid=\\2a\\29\\29\\28|\\28cn=\\2a))");
+  }
+
+  @Test
+  void escapesBackslashesAndNulInTheFilter() throws NamingException {
+    when(results.hasMore()).thenReturn(false);
+
+    assertThatThrownBy(() -> client.authenticate("a\\b\0", "secret"))
+        .isInstanceOf(LdapAuthException.class);
+
+    assertThat(searchFilter()).isEqualTo("(&(objectClass=person)(cn=a\\5cb\\00))");
+  }
+
+  @Test
+  void escapesDnSpecialCharactersInTheUserDn() throws NamingException {
+    when(results.hasMore()).thenReturn(false);
+
+    assertThatThrownBy(() -> client.authenticate("doe,john+", "secret"))
+        .isInstanceOf(LdapAuthException.class);
+
+    verify(context)
+        .addToEnvironment(
+            eq(Context.SECURITY_PRINCIPAL), eq("cn=doe\\,john\\+,ou=\\+,dc=example,dc=com"));
+  }
+
+  @Test
+  void failsWhenARequiredAttributeIsMissing() throws NamingException {
+    BasicAttributes attributes = new BasicAttributes();
+    attributes.put("mail", "jdoe@example.com");
+    attributes.put("uid", "jdoe01");
+    attributes.put("givenName", "John");
+    when(results.hasMore()).thenReturn(true);
+    when(results.next()).thenReturn(new SearchResult("cn=jdoe01", null, attributes));
+
+    assertThatThrownBy(() -> client.authenticate("jdoe01", "secret"))
+        .isInstanceOf(LdapAuthException.class)
+        .hasMessageContaining("sn");
+    verify(results).close();
+  }
+
+  private String searchFilter() throws NamingException {
+    ArgumentCaptor<String> filter = ArgumentCaptor.forClass(String.class);
+    verify(context).search(eq("dc=example,dc=com"), filter.capture(), any(SearchControls.class));
+    return filter.getValue();
+  }
+}
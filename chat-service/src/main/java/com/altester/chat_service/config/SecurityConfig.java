@@ -25,8 +25,6 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             auth ->
                 auth.requestMatchers("/ws/**")
-                    .permitAll()
-                    .requestMatchers("/actuator/**")
                     .permitAll()
                     .requestMatchers("/chat/**")
                     .authenticated()
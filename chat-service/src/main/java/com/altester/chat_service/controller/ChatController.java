@@ -12,6 +12,7 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -43,6 +44,27 @@ public class ChatController {
         chatService.getConversationMessages(principal.getName(), conversationId, page, size));
   }
 
+  @GetMapping("/conversations/scroll")
+  public ResponseEntity<Slice<ConversationDTO>> getConversationsByCursor(
+      Principal principal,
+      @RequestParam(required = false) String before,
+      @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.ok(
+        chatService.getConversationsByCursor(principal.getName(), before, size));
+  }
+
+  @GetMapping("/conversations/{conversationId}/messages")
+  public ResponseEntity<Slice<ChatMessageDTO>> getConversationMessagesByCursor(
+      Principal principal,
+      @PathVariable Long conversationId,
+      @RequestParam(required = false) Long before,
+      @RequestParam(required = false) Long after,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(
+        chatService.getConversationMessagesByCursor(
+            principal.getName(), conversationId, before, after, size));
+  }
+
   @PutMapping("/conversations/{conversationId}/read")
   public ResponseEntity<Integer> markConversationAsRead(
       Principal principal, @PathVariable Long conversationId) {
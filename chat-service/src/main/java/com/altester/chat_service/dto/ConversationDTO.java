@@ -21,4 +21,7 @@ public class ConversationDTO {
   private Integer unreadCount;
   private List<ChatMessageDTO> messages;
   private boolean online;
+
+  /** Pass as {@code before} to continue the conversation list after this conversation. */
+  private String cursor;
 }
@@ -0,0 +1,34 @@
+package com.altester.chat_service.listener;
+
+import com.altester.chat_service.service.ChatPermissionCache;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Receives group membership changes published by core and evicts the affected users from the chat
+ * permission cache.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupMembershipListener implements MessageListener {
+
+  public static final String CHANNEL = "group-membership-changed";
+
+  private final ChatPermissionCache permissionCache;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+    List<String> usernames =
+        Arrays.stream(payload.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    log.debug("Received group membership change for {}", usernames);
+    permissionCache.evict(usernames);
+  }
+}
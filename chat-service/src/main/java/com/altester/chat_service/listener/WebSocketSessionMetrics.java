@@ -0,0 +1,39 @@
+package com.altester.chat_service.listener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Publishes the number of open STOMP sessions on this node as the {@code websocket.sessions} gauge.
+ * Sessions are tracked by ID because a disconnect can be reported more than once.
+ */
+@Component
+public class WebSocketSessionMetrics {
+
+  private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+
+  public WebSocketSessionMetrics(MeterRegistry meterRegistry) {
+    Gauge.builder("websocket.sessions", sessions, Set::size)
+        .description("Open STOMP sessions")
+        .register(meterRegistry);
+  }
+
+  @EventListener
+  public void onConnected(SessionConnectedEvent event) {
+    String sessionId = (String) event.getMessage().getHeaders().get("simpSessionId");
+    if (sessionId != null) {
+      sessions.add(sessionId);
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    sessions.remove(event.getSessionId());
+  }
+}
@@ -8,7 +8,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(
+    name = "chat_messages",
+    indexes = {
+      @Index(
+          name = "idx_chat_messages_conversation_timestamp",
+          columnList = "conversation_id, timestamp")
+    })
 @Data
 @Builder
 @AllArgsConstructor
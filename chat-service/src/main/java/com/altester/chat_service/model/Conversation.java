@@ -12,7 +12,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
     name = "conversations",
-    uniqueConstraints = {@UniqueConstraint(columnNames = {"participant1_id", "participant2_id"})})
+    uniqueConstraints = {@UniqueConstraint(columnNames = {"participant1_id", "participant2_id"})},
+    indexes = {
+      @Index(
+          name = "idx_conversations_participant1_last_message",
+          columnList = "participant1_id, last_message_time"),
+      @Index(
+          name = "idx_conversations_participant2_last_message",
+          columnList = "participant2_id, last_message_time")
+    })
 @Data
 @Builder
 @NoArgsConstructor
@@ -6,20 +6,55 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
   @Modifying
-  @Query("DELETE FROM ChatMessage m WHERE m.read = true AND m.timestamp < :beforeDate")
-  int deleteOldReadMessages(@Param("beforeDate") LocalDateTime beforeDate);
+  @Transactional
+  @Query(
+      value =
+          "DELETE FROM chat_messages WHERE id IN "
+              + "(SELECT id FROM chat_messages WHERE read = true AND timestamp < :beforeDate "
+              + "LIMIT :batchSize)",
+      nativeQuery = true)
+  int deleteOldReadMessagesBatch(
+      @Param("beforeDate") LocalDateTime beforeDate, @Param("batchSize") int batchSize);
 
   Page<ChatMessage> findByConversationIdOrderByTimestampDesc(
       Long conversationId, Pageable pageable);
 
+  @Query(
+      "SELECT m FROM ChatMessage m WHERE m.conversation.id = :conversationId "
+          + "ORDER BY m.timestamp DESC, m.id DESC")
+  Slice<ChatMessage> findLatestMessages(
+      @Param("conversationId") Long conversationId, Pageable pageable);
+
+  @Query(
+      "SELECT m FROM ChatMessage m WHERE m.conversation.id = :conversationId "
+          + "AND (m.timestamp < :timestamp OR (m.timestamp = :timestamp AND m.id < :messageId)) "
+          + "ORDER BY m.timestamp DESC, m.id DESC")
+  Slice<ChatMessage> findMessagesBefore(
+      @Param("conversationId") Long conversationId,
+      @Param("timestamp") LocalDateTime timestamp,
+      @Param("messageId") Long messageId,
+      Pageable pageable);
+
+  @Query(
+      "SELECT m FROM ChatMessage m WHERE m.conversation.id = :conversationId "
+          + "AND (m.timestamp > :timestamp OR (m.timestamp = :timestamp AND m.id > :messageId)) "
+          + "ORDER BY m.timestamp ASC, m.id ASC")
+  Slice<ChatMessage> findMessagesAfter(
+      @Param("conversationId") Long conversationId,
+      @Param("timestamp") LocalDateTime timestamp,
+      @Param("messageId") Long messageId,
+      Pageable pageable);
+
   @Modifying
   @Query(
       "UPDATE ChatMessage m SET m.read = true WHERE m.conversation.id = :conversationId AND m.senderId = :senderId AND m.read = false")
@@ -1,10 +1,12 @@
 package com.altester.chat_service.repository;
 
 import com.altester.chat_service.model.Conversation;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,4 +31,21 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
           + "ORDER BY c.lastMessageTime DESC")
   Page<Conversation> findConversationsForUserPaginated(
       @Param("userId") String userId, Pageable pageable);
+
+  @Query(
+      "SELECT c FROM Conversation c WHERE (c.participant1Id = :userId OR c.participant2Id = :userId) "
+          + "ORDER BY c.lastMessageTime DESC, c.id DESC")
+  Slice<Conversation> findLatestConversationsForUser(
+      @Param("userId") String userId, Pageable pageable);
+
+  @Query(
+      "SELECT c FROM Conversation c WHERE (c.participant1Id = :userId OR c.participant2Id = :userId) "
+          + "AND (c.lastMessageTime < :lastMessageTime "
+          + "OR (c.lastMessageTime = :lastMessageTime AND c.id < :conversationId)) "
+          + "ORDER BY c.lastMessageTime DESC, c.id DESC")
+  Slice<Conversation> findConversationsForUserBefore(
+      @Param("userId") String userId,
+      @Param("lastMessageTime") LocalDateTime lastMessageTime,
+      @Param("conversationId") Long conversationId,
+      Pageable pageable);
 }
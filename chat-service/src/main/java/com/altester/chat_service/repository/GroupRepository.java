@@ -18,12 +18,4 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
       "SELECT t.teacher FROM Group t "
           + "WHERE t.active = true AND EXISTS (SELECT 1 FROM t.students s WHERE s.username = :studentUsername)")
   List<User> findTeachersForStudent(@Param("studentUsername") String studentUsername);
-
-  @Query(
-      "SELECT CASE WHEN COUNT(g) > 0 THEN true ELSE false END FROM Group g "
-          + "WHERE g.active = true AND g.teacher.username = :teacherUsername "
-          + "AND EXISTS (SELECT 1 FROM g.students s WHERE s.username = :studentUsername)")
-  boolean isStudentInTeacherGroup(
-      @Param("teacherUsername") String teacherUsername,
-      @Param("studentUsername") String studentUsername);
 }
@@ -0,0 +1,166 @@
+package com.altester.chat_service.service;
+
+import com.altester.chat_service.exception.ChatException;
+import com.altester.chat_service.model.User;
+import com.altester.chat_service.model.enums.RolesEnum;
+import com.altester.chat_service.repository.GroupRepository;
+import com.altester.chat_service.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of user roles and teacher-student relations used to authorize chat messages.
+ * Entries are loaded lazily, evicted when core announces a membership change and additionally
+ * expire after a TTL as a safety net for missed events. Each map holds at most {@code max-entries}
+ * users. Lookups are counted as {@code cache.gets} hits and misses per map.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPermissionCache {
+
+  private final UserRepository userRepository;
+  private final GroupRepository groupRepository;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${chat.permission-cache.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  @Value("${chat.permission-cache.max-entries:10000}")
+  private int maxEntries;
+
+  /** Incremented by every eviction, so loads that overlap one do not store what they read. */
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Map<String, CachedEntry<RolesEnum>> roles = new ConcurrentHashMap<>();
+  private final Map<String, CachedEntry<Set<String>>> studentsByTeacher = new ConcurrentHashMap<>();
+  private final Map<String, CachedEntry<Set<String>>> teachersByStudent = new ConcurrentHashMap<>();
+
+  public RolesEnum getRole(String username) {
+    return lookup(
+        roles,
+        "roles",
+        username,
+        () ->
+            userRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new ChatException("User not found: " + username))
+                .getRole());
+  }
+
+  public Set<String> getStudentsOfTeacher(String teacherUsername) {
+    return lookup(
+        studentsByTeacher,
+        "studentsByTeacher",
+        teacherUsername,
+        () -> usernames(groupRepository.findStudentsForTeacher(teacherUsername)));
+  }
+
+  public Set<String> getTeachersOfStudent(String studentUsername) {
+    return lookup(
+        teachersByStudent,
+        "teachersByStudent",
+        studentUsername,
+        () -> usernames(groupRepository.findTeachersForStudent(studentUsername)));
+  }
+
+  /**
+   * Evicts the given users together with every relation they appear in.
+   *
+   * @param usernames Affected usernames; an empty collection evicts everything
+   */
+  public void evict(Collection<String> usernames) {
+    generation.incrementAndGet();
+    if (usernames.isEmpty()) {
+      roles.clear();
+      studentsByTeacher.clear();
+      teachersByStudent.clear();
+      log.info("Chat permission cache cleared");
+      return;
+    }
+
+    usernames.forEach(roles::remove);
+    evictRelations(studentsByTeacher, usernames);
+    evictRelations(teachersByStudent, usernames);
+    log.debug("Evicted chat permissions for {}", usernames);
+  }
+
+  private <T> T lookup(
+      Map<String, CachedEntry<T>> cache, String name, String key, Supplier<T> loader) {
+    CachedEntry<T> entry = cache.get(key);
+    boolean hit = entry != null && !entry.isExpired();
+    recordGet(name, hit);
+    if (hit) {
+      return entry.value();
+    }
+
+    long loadedIn = generation.get();
+    T value = loader.get();
+    store(cache, key, new CachedEntry<>(value, expiresAt()), loadedIn);
+    return value;
+  }
+
+  /**
+   * Stores a loaded entry unless an eviction ran since the load started. The generation is checked
+   * again after the put, because an eviction may also run between the first check and the put.
+   */
+  private <T> void store(
+      Map<String, CachedEntry<T>> cache, String key, CachedEntry<T> entry, long loadedIn) {
+    if (generation.get() != loadedIn) {
+      return;
+    }
+    if (cache.size() >= maxEntries) {
+      cache.values().removeIf(CachedEntry::isExpired);
+      Iterator<String> keys = cache.keySet().iterator();
+      while (cache.size() >= maxEntries && keys.hasNext()) {
+        keys.next();
+        keys.remove();
+      }
+    }
+    cache.put(key, entry);
+    if (generation.get() != loadedIn) {
+      cache.remove(key, entry);
+    }
+  }
+
+  private void evictRelations(
+      Map<String, CachedEntry<Set<String>>> relations, Collection<String> usernames) {
+    relations
+        .entrySet()
+        .removeIf(
+            entry ->
+                usernames.contains(entry.getKey())
+                    || usernames.stream().anyMatch(entry.getValue().value()::contains));
+  }
+
+  private Set<String> usernames(Collection<User> users) {
+    return users.stream().map(User::getUsername).collect(Collectors.toUnmodifiableSet());
+  }
+
+  private void recordGet(String cache, boolean hit) {
+    meterRegistry
+        .counter("cache.gets", "cache", "chatPermissions." + cache, "result", hit ? "hit" : "miss")
+        .increment();
+  }
+
+  private long expiresAt() {
+    return System.currentTimeMillis() + ttlSeconds * 1000;
+  }
+
+  private record CachedEntry<T>(T value, long expiresAt) {
+    boolean isExpired() {
+      return System.currentTimeMillis() > expiresAt;
+    }
+  }
+}
@@ -7,6 +7,7 @@ import com.altester.chat_service.model.Conversation;
 import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface ChatService {
 
@@ -66,6 +67,32 @@ public interface ChatService {
   Page<ChatMessageDTO> getConversationMessages(
       String userId, Long conversationId, int page, int size);
 
+  /**
+   * Retrieves a slice of conversations for the specified user using keyset pagination on the last
+   * message time. No total count is computed.
+   *
+   * @param userId ID of the user
+   * @param beforeCursor Cursor of the last conversation of the previous slice, or null for the most
+   *     recent conversations
+   * @param size Size of the slice
+   * @return Slice of conversation DTOs ordered from the most recent activity, each with its cursor
+   */
+  Slice<ConversationDTO> getConversationsByCursor(String userId, String beforeCursor, int size);
+
+  /**
+   * Retrieves a slice of messages for a specific conversation relative to a cursor message. Without
+   * a cursor the newest messages are returned. Messages are always ordered newest first.
+   *
+   * @param userId ID of the requesting user
+   * @param conversationId ID of the conversation
+   * @param beforeMessageId Returns messages older than this message, if set
+   * @param afterMessageId Returns messages newer than this message, if set
+   * @param size Size of the slice
+   * @return Slice of message DTOs without total counts
+   */
+  Slice<ChatMessageDTO> getConversationMessagesByCursor(
+      String userId, Long conversationId, Long beforeMessageId, Long afterMessageId, int size);
+
   /**
    * Retrieves all unread messages for the specified user across all conversations.
    *
@@ -4,9 +4,9 @@ import com.altester.chat_service.repository.ChatMessageRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,12 +15,40 @@ public class MessageCleanupService {
 
   private final ChatMessageRepository chatMessageRepository;
 
+  @Value("${chat.cleanup.retention-weeks:4}")
+  private int retentionWeeks;
+
+  @Value("${chat.cleanup.batch-size:5000}")
+  private int batchSize;
+
+  @Value("${chat.cleanup.batch-pause-ms:200}")
+  private long batchPauseMillis;
+
+  /**
+   * Removes read messages older than the retention period in bounded batches committed one by one.
+   */
   @Scheduled(cron = "0 0 0 * * ?")
-  @Transactional
   public void cleanupOldMessages() {
-    LocalDateTime fourWeeksAgo = LocalDateTime.now().minusWeeks(4);
-    log.info("Starting cleanup of old messages before {}", fourWeeksAgo);
-    int deletedCount = chatMessageRepository.deleteOldReadMessages(fourWeeksAgo);
+    LocalDateTime cutoff = LocalDateTime.now().minusWeeks(retentionWeeks);
+    log.info("Starting cleanup of old messages before {}", cutoff);
+
+    long deletedCount = 0;
+    int deleted;
+    do {
+      deleted = chatMessageRepository.deleteOldReadMessagesBatch(cutoff, batchSize);
+      deletedCount += deleted;
+
+      if (deleted == batchSize && batchPauseMillis > 0) {
+        try {
+          Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          log.warn("Message cleanup interrupted after deleting {} rows", deletedCount);
+          break;
+        }
+      }
+    } while (deleted == batchSize);
+
     log.info("Deleted {} old messages", deletedCount);
   }
 }
@@ -4,8 +4,9 @@ public interface TypingIndicatorService {
 
   /**
    * Sets the typing status of a user in a conversation. When a user is typing, this information
-   * will be pushed to the other participant through WebSocket. The typing status automatically
-   * expires after a set timeout if not refreshed.
+   * will be pushed to the other participant through WebSocket. Repeated events are coalesced so the
+   * participant receives at most one typing frame per interval, and the typing status automatically
+   * expires with a stop frame after a set timeout if not refreshed.
    *
    * @param senderId ID of the user who is typing
    * @param receiverId ID of the user who should receive the typing notification
@@ -6,16 +6,18 @@ import com.altester.chat_service.dto.MessageRequest;
 import com.altester.chat_service.exception.ChatException;
 import com.altester.chat_service.model.ChatMessage;
 import com.altester.chat_service.model.Conversation;
-import com.altester.chat_service.model.User;
+import com.altester.chat_service.model.enums.RolesEnum;
 import com.altester.chat_service.repository.ChatMessageRepository;
 import com.altester.chat_service.repository.ConversationRepository;
-import com.altester.chat_service.repository.GroupRepository;
-import com.altester.chat_service.repository.UserRepository;
 import com.altester.chat_service.service.ChatDTOMapper;
+import com.altester.chat_service.service.ChatPermissionCache;
 import com.altester.chat_service.service.ChatService;
 import com.altester.chat_service.service.UserStatusService;
 import com.altester.chat_service.service.WebSocketService;
+import com.altester.chat_service.util.ConversationCursor;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,29 +44,21 @@ public class ChatServiceImpl implements ChatService {
 
   private final ChatMessageRepository chatMessageRepository;
   private final ConversationRepository conversationRepository;
-  private final UserRepository userRepository;
-  private final GroupRepository groupRepository;
+  private final ChatPermissionCache permissionCache;
   private final WebSocketService webSocketService;
   private final ChatDTOMapper chatDTOMapper;
   private final UserStatusService userStatusService;
 
   private boolean canUsersSendMessages(String senderId, String receiverId) {
-    User sender =
-        userRepository
-            .findByUsername(senderId)
-            .orElseThrow(() -> new ChatException("Sender not found: " + senderId));
-
-    User receiver =
-        userRepository
-            .findByUsername(receiverId)
-            .orElseThrow(() -> new ChatException("Receiver not found: " + receiverId));
-
-    if (sender.isTeacher() && receiver.isStudent()) {
-      return groupRepository.isStudentInTeacherGroup(senderId, receiverId);
+    RolesEnum senderRole = permissionCache.getRole(senderId);
+    RolesEnum receiverRole = permissionCache.getRole(receiverId);
+
+    if (senderRole == RolesEnum.TEACHER && receiverRole == RolesEnum.STUDENT) {
+      return permissionCache.getStudentsOfTeacher(senderId).contains(receiverId);
     }
 
-    if (sender.isStudent() && receiver.isTeacher()) {
-      return groupRepository.isStudentInTeacherGroup(receiverId, senderId);
+    if (senderRole == RolesEnum.STUDENT && receiverRole == RolesEnum.TEACHER) {
+      return permissionCache.getTeachersOfStudent(senderId).contains(receiverId);
     }
     return true;
   }
@@ -70,8 +66,7 @@ public class ChatServiceImpl implements ChatService {
   @Override
   @Transactional
   public Conversation getOrCreateConversation(String participant1Id, String participant2Id) {
-    if (!canUsersSendMessages(participant1Id, participant2Id)
-        || !canUsersSendMessages(participant2Id, participant1Id)) {
+    if (!canUsersSendMessages(participant1Id, participant2Id)) {
       throw new ChatException("Users cannot exchange messages");
     }
 
@@ -228,6 +223,88 @@ public class ChatServiceImpl implements ChatService {
         message -> chatDTOMapper.mapToChatMessageDTO(message, otherParticipantId));
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<ConversationDTO> getConversationsByCursor(
+      String userId, String beforeCursor, int size) {
+    Pageable pageable = PageRequest.of(0, size);
+    Slice<Conversation> conversations;
+
+    if (beforeCursor == null) {
+      conversations = conversationRepository.findLatestConversationsForUser(userId, pageable);
+    } else {
+      // The cursor carries the position the client saw, the row itself may have moved since
+      ConversationCursor cursor = ConversationCursor.decode(beforeCursor);
+      conversations =
+          conversationRepository.findConversationsForUserBefore(
+              userId, cursor.lastMessageTime(), cursor.id(), pageable);
+    }
+
+    return conversations.map(
+        conversation -> {
+          ConversationDTO dto = chatDTOMapper.mapToConversationDTO(conversation, userId);
+          String otherParticipantId = conversation.getOtherParticipantId(userId);
+          dto.setOnline(userStatusService.isUserOnline(otherParticipantId));
+          dto.setCursor(
+              new ConversationCursor(conversation.getLastMessageTime(), conversation.getId())
+                  .encode());
+          return dto;
+        });
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<ChatMessageDTO> getConversationMessagesByCursor(
+      String userId, Long conversationId, Long beforeMessageId, Long afterMessageId, int size) {
+    if (beforeMessageId != null && afterMessageId != null) {
+      throw new ChatException("Only one of before and after cursors can be specified");
+    }
+
+    Conversation conversation =
+        conversationRepository
+            .findById(conversationId)
+            .orElseThrow(() -> new ChatException(ERROR_MESSAGE));
+
+    if (!conversation.hasParticipant(userId)) {
+      throw new ChatException("You are not a participant in this conversation");
+    }
+
+    Pageable pageable = PageRequest.of(0, size);
+    Slice<ChatMessage> messages;
+
+    if (beforeMessageId != null) {
+      ChatMessage cursor = getCursorMessage(conversationId, beforeMessageId);
+      messages =
+          chatMessageRepository.findMessagesBefore(
+              conversationId, cursor.getTimestamp(), cursor.getId(), pageable);
+    } else if (afterMessageId != null) {
+      ChatMessage cursor = getCursorMessage(conversationId, afterMessageId);
+      Slice<ChatMessage> newer =
+          chatMessageRepository.findMessagesAfter(
+              conversationId, cursor.getTimestamp(), cursor.getId(), pageable);
+      List<ChatMessage> newestFirst = new ArrayList<>(newer.getContent());
+      Collections.reverse(newestFirst);
+      messages = new SliceImpl<>(newestFirst, pageable, newer.hasNext());
+    } else {
+      messages = chatMessageRepository.findLatestMessages(conversationId, pageable);
+    }
+
+    String otherParticipantId = conversation.getOtherParticipantId(userId);
+    return messages.map(message -> chatDTOMapper.mapToChatMessageDTO(message, otherParticipantId));
+  }
+
+  private ChatMessage getCursorMessage(Long conversationId, Long messageId) {
+    ChatMessage cursor =
+        chatMessageRepository
+            .findById(messageId)
+            .orElseThrow(() -> new ChatException("Message not found"));
+
+    if (!cursor.getConversation().getId().equals(conversationId)) {
+      throw new ChatException("Message does not belong to this conversation");
+    }
+    return cursor;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<ChatMessageDTO> getUnreadMessages(String userId) {
@@ -2,12 +2,25 @@ package com.altester.chat_service.service.impl;
 
 import com.altester.chat_service.service.TypingIndicatorService;
 import com.altester.chat_service.service.WebSocketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Coalesces typing events per sender, receiver and conversation. Only state changes and at most one
+ * "typing" refresh per frame interval reach the WebSocket, and a "stopped" frame is sent
+ * automatically once no event has arrived for the typing timeout.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -15,8 +28,23 @@ public class TypingIndicatorServiceImpl implements TypingIndicatorService {
 
   private final RedisTemplate<String, String> redisTemplate;
   private final WebSocketService webSocketService;
+  private final MeterRegistry meterRegistry;
 
-  private static final long TYPING_TIMEOUT_SECONDS = 6;
+  @Value("${chat.typing.timeout-seconds:6}")
+  private long typingTimeoutSeconds;
+
+  @Value("${chat.typing.frame-interval-ms:2000}")
+  private long frameIntervalMillis;
+
+  private final Map<String, TypingState> typingStates = new ConcurrentHashMap<>();
+
+  private final ScheduledExecutorService expiryScheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "typing-expiry");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   private String generateKey(String senderId, String receiverId, Long conversationId) {
     return String.format("typing:%s:%s:%d", senderId, receiverId, conversationId);
@@ -25,27 +53,126 @@ public class TypingIndicatorServiceImpl implements TypingIndicatorService {
   @Override
   public void setTypingStatus(
       String senderId, String receiverId, Long conversationId, boolean isTyping) {
+    meterRegistry.counter("chat.typing.events", "state", stateTag(isTyping)).increment();
     String key = generateKey(senderId, receiverId, conversationId);
 
     if (isTyping) {
-      redisTemplate.opsForValue().set(key, "typing", TYPING_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-      webSocketService.sendTypingIndicator(receiverId, senderId, conversationId, true);
+      startOrRefresh(key, senderId, receiverId, conversationId);
+    } else {
+      stop(key);
+    }
+  }
+
+  private void startOrRefresh(String key, String senderId, String receiverId, Long conversationId) {
+    long now = System.currentTimeMillis();
+    long timeoutMillis = TimeUnit.SECONDS.toMillis(typingTimeoutSeconds);
+    TypingState created = new TypingState(senderId, receiverId, conversationId, now);
+    TypingState state = typingStates.putIfAbsent(key, created);
+
+    if (state == null) {
+      redisTemplate.opsForValue().set(key, "typing", typingTimeoutSeconds, TimeUnit.SECONDS);
+      sendFrame(created, true);
+      scheduleExpiry(key, created, timeoutMillis);
 
       log.debug(
           "Setup typing status for {} to {} in conversation {} (Timeout in {} seconds)",
           senderId,
           receiverId,
           conversationId,
-          TYPING_TIMEOUT_SECONDS);
-    } else {
-      redisTemplate.delete(key);
-      webSocketService.sendTypingIndicator(receiverId, senderId, conversationId, false);
+          typingTimeoutSeconds);
+      return;
+    }
 
-      log.debug(
-          "Flush typing status for {} to {} in conversation {}",
-          senderId,
-          receiverId,
-          conversationId);
+    synchronized (state) {
+      state.lastEventAt = now;
+
+      if (now - state.lastRedisWriteAt >= timeoutMillis / 2) {
+        redisTemplate.expire(key, typingTimeoutSeconds, TimeUnit.SECONDS);
+        state.lastRedisWriteAt = now;
+      }
+
+      if (now - state.lastFrameAt >= frameIntervalMillis) {
+        sendFrame(state, true);
+        state.lastFrameAt = now;
+      }
+    }
+  }
+
+  private void stop(String key) {
+    TypingState state = typingStates.remove(key);
+    if (state == null) {
+      return;
+    }
+
+    if (state.expiry != null) {
+      state.expiry.cancel(false);
+    }
+    redisTemplate.delete(key);
+    sendFrame(state, false);
+
+    log.debug(
+        "Flush typing status for {} to {} in conversation {}",
+        state.senderId,
+        state.receiverId,
+        state.conversationId);
+  }
+
+  private void scheduleExpiry(String key, TypingState state, long delayMillis) {
+    state.expiry =
+        expiryScheduler.schedule(() -> checkExpiry(key, state), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void checkExpiry(String key, TypingState state) {
+    try {
+      long timeoutMillis = TimeUnit.SECONDS.toMillis(typingTimeoutSeconds);
+      long idleMillis = System.currentTimeMillis() - state.lastEventAt;
+
+      if (idleMillis < timeoutMillis) {
+        scheduleExpiry(key, state, timeoutMillis - idleMillis);
+        return;
+      }
+
+      if (typingStates.remove(key, state)) {
+        sendFrame(state, false);
+        log.debug(
+            "Typing status of {} in conversation {} expired", state.senderId, state.conversationId);
+      }
+    } catch (Exception e) {
+      log.error("Error expiring typing status {}: {}", key, e.getMessage(), e);
+    }
+  }
+
+  private void sendFrame(TypingState state, boolean isTyping) {
+    webSocketService.sendTypingIndicator(
+        state.receiverId, state.senderId, state.conversationId, isTyping);
+    meterRegistry.counter("chat.typing.frames", "state", stateTag(isTyping)).increment();
+  }
+
+  private String stateTag(boolean isTyping) {
+    return isTyping ? "typing" : "stopped";
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    expiryScheduler.shutdownNow();
+  }
+
+  private static final class TypingState {
+    private final String senderId;
+    private final String receiverId;
+    private final Long conversationId;
+    private volatile long lastEventAt;
+    private volatile long lastFrameAt;
+    private volatile long lastRedisWriteAt;
+    private volatile ScheduledFuture<?> expiry;
+
+    private TypingState(String senderId, String receiverId, Long conversationId, long now) {
+      this.senderId = senderId;
+      this.receiverId = receiverId;
+      this.conversationId = conversationId;
+      this.lastEventAt = now;
+      this.lastFrameAt = now;
+      this.lastRedisWriteAt = now;
     }
   }
 }
@@ -76,7 +76,7 @@ public class WebSocketServiceImpl implements WebSocketService {
   @Override
   public void sendTypingIndicator(
       String username, String senderUsername, Long conversationId, boolean isTyping) {
-    log.info("Sending typing indicator to user: {}", username);
+    log.debug("Sending typing indicator to user: {}", username);
 
     try {
       Map<String, Object> response =
@@ -0,0 +1,42 @@
+package com.altester.chat_service.util;
+
+import com.altester.chat_service.exception.ChatException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the conversation list as the client saw it: the last message time and ID of the last
+ * conversation of a slice. Encoded as an opaque token, so a conversation that receives a message
+ * between two requests does not move the cursor.
+ */
+public record ConversationCursor(LocalDateTime lastMessageTime, long id) {
+
+  private static final char SEPARATOR = '|';
+
+  public String encode() {
+    String raw = lastMessageTime.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @throws ChatException if the token was not produced by {@link #encode()}
+   */
+  public static ConversationCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new ChatException("Invalid conversation cursor");
+      }
+      return new ConversationCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new ChatException("Invalid conversation cursor");
+    }
+  }
+}
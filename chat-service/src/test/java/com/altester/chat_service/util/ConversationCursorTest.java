@@ -0,0 +1,33 @@
+package com.altester.chat_service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.altester.chat_service.exception.ChatException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ConversationCursorTest {
+
+  @Test
+  void roundTripsTimeWithFractionalSecondsAndId() {
+    ConversationCursor cursor =
+        new ConversationCursor(LocalDateTime.of(2026, 3, 1, 14, 5, 9, 123_456_000), 42L);
+
+    assertThat(ConversationCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void encodesAsUrlSafeToken() {
+    String token = new ConversationCursor(LocalDateTime.of(2026, 3, 1, 14, 5), 7L).encode();
+
+    assertThat(token).matches("[A-Za-z0-9_-]+");
+  }
+
+  @Test
+  void rejectsTokensItDidNotProduce() {
+    assertThatThrownBy(() -> ConversationCursor.decode("42")).isInstanceOf(ChatException.class);
+    assertThatThrownBy(() -> ConversationCursor.decode("not base64!"))
+        .isInstanceOf(ChatException.class);
+  }
+}
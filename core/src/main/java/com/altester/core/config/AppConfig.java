@@ -4,6 +4,7 @@ import com.altester.core.repository.UserRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -38,6 +39,10 @@ public class AppConfig {
   @Value("${AI_GRADING_SERVICE_URL}")
   private String aiGradingServiceUrl;
 
+  /** Hashes created here are raised to the calibrated cost by auth-service on the next login. */
+  @Value("${password.hash.strength:10}")
+  private int passwordHashStrength;
+
   public String getAuthUrl() {
     return authServiceUrl + "/auth";
   }
@@ -84,7 +89,7 @@ public class AppConfig {
 
   @Bean
   BCryptPasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new BCryptPasswordEncoder(passwordHashStrength);
   }
 
   @Bean
@@ -100,8 +105,11 @@ public class AppConfig {
     return authProvider;
   }
 
+  /**
+   * Built through Boot's builder so calls to the other services are timed and carry trace headers.
+   */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    return restTemplateBuilder.build();
   }
 }
@@ -1,6 +1,9 @@
 package com.altester.core.config;
 
+import com.altester.observability.ObservationTaskDecorator;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -8,8 +11,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+  private final ObservationRegistry observationRegistry;
+
   @Bean(name = "taskExecutor")
   public Executor taskExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -17,6 +23,67 @@ public class AsyncConfig {
     executor.setMaxPoolSize(50);
     executor.setQueueCapacity(100);
     executor.setThreadNamePrefix("AiGrading-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "importExecutor")
+  public Executor importExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(20);
+    executor.setThreadNamePrefix("Import-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "exportExecutor")
+  public ThreadPoolTaskExecutor exportExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(8);
+    executor.setQueueCapacity(50);
+    executor.setThreadNamePrefix("Export-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "imageExecutor")
+  public Executor imageExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(500);
+    executor.setThreadNamePrefix("Image-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "cacheRefreshExecutor")
+  public Executor cacheRefreshExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(200);
+    executor.setThreadNamePrefix("CacheRefresh-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "cacheWarmupExecutor")
+  public Executor cacheWarmupExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(50);
+    executor.setThreadNamePrefix("CacheWarmup-");
+    executor.setTaskDecorator(new ObservationTaskDecorator(observationRegistry));
     executor.initialize();
     return executor;
   }
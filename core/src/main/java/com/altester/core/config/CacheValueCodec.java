@@ -0,0 +1,128 @@
+package com.altester.core.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes cached values for Redis with one shared, pre-configured {@link ObjectMapper}.
+ *
+ * <p>In {@link Mode#JSON} values are written as plain JSON, exactly as before. In {@link
+ * Mode#COMPACT} payloads above the compression threshold are deflated. Null properties are written
+ * in both modes, because leaving them out would turn an explicit null into the field's default when
+ * the value is read back. Compact payloads start with a two byte header (magic byte, format byte)
+ * so the format can evolve; values without the header are read as plain JSON. Both modes read
+ * everything either mode writes, so the mode can be switched without flushing the cache.
+ */
+public class CacheValueCodec {
+
+  public enum Mode {
+    JSON,
+    COMPACT
+  }
+
+  // Never the first byte of a UTF-8 JSON document
+  static final byte MAGIC = (byte) 0xAC;
+  static final byte FORMAT_JSON = 1;
+  static final byte FORMAT_DEFLATE_JSON = 2;
+
+  private static final int HEADER_LENGTH = 2;
+
+  private final ObjectMapper objectMapper;
+  private final Mode mode;
+  private final int compressionThreshold;
+
+  public CacheValueCodec(Mode mode, int compressionThreshold) {
+    this.mode = mode;
+    this.compressionThreshold = compressionThreshold;
+    this.objectMapper = createObjectMapper();
+  }
+
+  private static ObjectMapper createObjectMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new JavaTimeModule());
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    return mapper;
+  }
+
+  public byte[] encode(Object value) throws IOException {
+    byte[] json = objectMapper.writeValueAsBytes(value);
+    if (mode == Mode.JSON) {
+      return json;
+    }
+    if (json.length >= compressionThreshold) {
+      byte[] deflated = deflate(json);
+      if (deflated.length < json.length) {
+        return withHeader(FORMAT_DEFLATE_JSON, deflated, deflated.length);
+      }
+    }
+    return withHeader(FORMAT_JSON, json, json.length);
+  }
+
+  public <T> T decode(byte[] bytes, Class<T> targetType) throws IOException {
+    if (bytes[0] != MAGIC) {
+      return objectMapper.readValue(bytes, targetType);
+    }
+    if (bytes.length < HEADER_LENGTH) {
+      throw new IOException("Truncated cache value header");
+    }
+    return switch (bytes[1]) {
+      case FORMAT_JSON ->
+          objectMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, targetType);
+      case FORMAT_DEFLATE_JSON -> objectMapper.readValue(inflate(bytes), targetType);
+      default -> throw new IOException("Unknown cache value format " + bytes[1]);
+    };
+  }
+
+  private static byte[] withHeader(byte format, byte[] payload, int length) {
+    byte[] result = new byte[HEADER_LENGTH + length];
+    result[0] = MAGIC;
+    result[1] = format;
+    System.arraycopy(payload, 0, result, HEADER_LENGTH, length);
+    return result;
+  }
+
+  private static byte[] deflate(byte[] input) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(input);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] bytes) throws IOException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int count = inflater.inflate(buffer);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IOException("Truncated compressed cache value");
+        }
+        out.write(buffer, 0, count);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt compressed cache value", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
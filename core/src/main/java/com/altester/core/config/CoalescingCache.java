@@ -0,0 +1,414 @@
+package com.altester.core.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Decorates a Redis cache so that {@code @Cacheable(sync = true)} methods are computed once per key
+ * instead of once per concurrent caller.
+ *
+ * <ul>
+ *   <li>Callers on this node that miss the same key wait for the first one's result.
+ *   <li>Nodes coordinate through a short Redis lock; the others poll until the holder has stored
+ *       the value, or load it themselves once the lock has expired.
+ *   <li>Entries are kept for {@link CoalescingCacheSettings#getStaleWindow()} after they expire. A
+ *       stale entry is still returned while one node recomputes it in the background.
+ *   <li>Fresh entries are refreshed early with a probability that grows as they approach expiry and
+ *       with the time the value takes to compute, so hot keys rarely expire at all.
+ * </ul>
+ *
+ * Plain {@code @Cacheable} lookups treat stale entries as misses, so they behave as before. Caches
+ * without a TTL are only coalesced. Hits, misses, loads and refreshes are recorded under the
+ * standard {@code cache.*} meter names, tagged with the cache name.
+ *
+ * <p>Loaded values are written straight to the Redis cache, bypassing a transaction-aware
+ * decorator, because the Redis lock is released as soon as the value is stored. Background
+ * refreshes run with the security context of the request that triggered them.
+ */
+@Slf4j
+public class CoalescingCache implements Cache {
+
+  private static final String LOCK_PREFIX = "lock:";
+  private static final RedisScript<Long> UNLOCK =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final Cache delegate;
+  private final Cache loadTarget;
+  private final RedisCacheConfiguration cacheConfiguration;
+  private final Duration freshTtl;
+  private final CoalescingCacheSettings settings;
+  private final StringRedisTemplate redisTemplate;
+  private final Executor refreshExecutor;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter staleRefreshes;
+  private final Counter earlyRefreshes;
+  private final Timer loads;
+
+  private final ConcurrentHashMap<String, CompletableFuture<Object>> loading =
+      new ConcurrentHashMap<>();
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+  private volatile double averageLoadMillis;
+
+  /**
+   * @param freshTtl How long entries are fresh, null for caches whose entries never expire
+   */
+  public CoalescingCache(
+      Cache delegate,
+      RedisCacheConfiguration cacheConfiguration,
+      Duration freshTtl,
+      CoalescingCacheSettings settings,
+      StringRedisTemplate redisTemplate,
+      Executor refreshExecutor,
+      TransactionTemplate readOnlyTransaction,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.loadTarget =
+        delegate instanceof TransactionAwareCacheDecorator transactionAware
+            ? transactionAware.getTargetCache()
+            : delegate;
+    this.cacheConfiguration = cacheConfiguration;
+    this.freshTtl = freshTtl;
+    this.settings = settings;
+    this.redisTemplate = redisTemplate;
+    this.refreshExecutor = new DelegatingSecurityContextExecutor(refreshExecutor);
+    this.readOnlyTransaction = readOnlyTransaction;
+
+    String name = delegate.getName();
+    this.hits =
+        Counter.builder("cache.gets").tags("cache", name, "result", "hit").register(meterRegistry);
+    this.misses =
+        Counter.builder("cache.gets").tags("cache", name, "result", "miss").register(meterRegistry);
+    this.staleRefreshes =
+        Counter.builder("cache.refreshes")
+            .tags("cache", name, "trigger", "stale")
+            .register(meterRegistry);
+    this.earlyRefreshes =
+        Counter.builder("cache.refreshes")
+            .tags("cache", name, "trigger", "early")
+            .register(meterRegistry);
+    this.loads =
+        Timer.builder("cache.loads")
+            .description("Time spent computing missing or refreshed entries")
+            .tag("cache", name)
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    Entry entry = lookup(key);
+    if (entry == null || entry.stale) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return new SimpleValueWrapper(entry.value);
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    if (wrapper == null) {
+      return null;
+    }
+    if (type != null && !type.isInstance(wrapper.get())) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + wrapper.get());
+    }
+    return type == null ? null : type.cast(wrapper.get());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    Entry entry = lookup(key);
+    if (entry != null) {
+      hits.increment();
+      if (entry.stale) {
+        refreshInBackground(key, valueLoader, staleRefreshes);
+      } else if (shouldRefreshEarly(entry.freshMillis)) {
+        refreshInBackground(key, valueLoader, earlyRefreshes);
+      }
+      return (T) entry.value;
+    }
+    misses.increment();
+
+    String redisKey = redisKey(key);
+    CompletableFuture<Object> own = new CompletableFuture<>();
+    CompletableFuture<Object> inFlight = loading.putIfAbsent(redisKey, own);
+    if (inFlight != null) {
+      try {
+        return (T) inFlight.join();
+      } catch (CompletionException e) {
+        throw new ValueRetrievalException(key, valueLoader, e.getCause());
+      }
+    }
+
+    try {
+      Object value = loadAcrossNodes(key, redisKey, valueLoader);
+      own.complete(value);
+      return (T) value;
+    } catch (Throwable e) {
+      own.completeExceptionally(e instanceof ValueRetrievalException ? e.getCause() : e);
+      throw e;
+    } finally {
+      loading.remove(redisKey, own);
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    delegate.put(key, value);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    return delegate.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return delegate.invalidate();
+  }
+
+  /**
+   * Loads the value while holding the Redis lock of the key. Without the lock, waits for the
+   * holder's value and takes over once the lock expires.
+   */
+  private Object loadAcrossNodes(Object key, String redisKey, Callable<?> valueLoader) {
+    String lockKey = LOCK_PREFIX + redisKey;
+    long deadline = System.nanoTime() + settings.getLockTtl().toNanos();
+    boolean waited = false;
+    while (true) {
+      String token = tryLock(lockKey);
+      if (token != null) {
+        try {
+          if (waited) {
+            Entry entry = lookup(key);
+            if (entry != null) {
+              return entry.value;
+            }
+          }
+          return loadAndPut(key, valueLoader);
+        } finally {
+          unlock(lockKey, token);
+        }
+      }
+
+      if (System.nanoTime() > deadline) {
+        log.warn("Timed out waiting for another node to load '{}', loading it here", redisKey);
+        return loadAndPut(key, valueLoader);
+      }
+      sleep(key, valueLoader);
+      waited = true;
+      Entry entry = lookup(key);
+      if (entry != null) {
+        return entry.value;
+      }
+    }
+  }
+
+  private void refreshInBackground(Object key, Callable<?> valueLoader, Counter trigger) {
+    String redisKey = redisKey(key);
+    if (!refreshing.add(redisKey)) {
+      return;
+    }
+    trigger.increment();
+    try {
+      refreshExecutor.execute(() -> refresh(key, redisKey, valueLoader));
+    } catch (RejectedExecutionException e) {
+      refreshing.remove(redisKey);
+      log.debug("Refresh of '{}' skipped, refresh executor is saturated", redisKey);
+    }
+  }
+
+  private void refresh(Object key, String redisKey, Callable<?> valueLoader) {
+    String lockKey = LOCK_PREFIX + redisKey;
+    try {
+      String token = tryLock(lockKey);
+      if (token == null) {
+        return;
+      }
+      try {
+        // The loader runs outside the request that triggered it, so it gets its own session
+        Object value = readOnlyTransaction.execute(status -> timedLoad(key, valueLoader));
+        loadTarget.put(key, value);
+      } finally {
+        unlock(lockKey, token);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Background refresh of '{}' failed: {}", redisKey, e.getMessage());
+    } finally {
+      refreshing.remove(redisKey);
+    }
+  }
+
+  private Object loadAndPut(Object key, Callable<?> valueLoader) {
+    Object value = timedLoad(key, valueLoader);
+    loadTarget.put(key, value);
+    return value;
+  }
+
+  private Object timedLoad(Object key, Callable<?> valueLoader) {
+    long start = System.nanoTime();
+    Object value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    long elapsed = System.nanoTime() - start;
+    loads.record(elapsed, TimeUnit.NANOSECONDS);
+    double millis = elapsed / 1_000_000.0;
+    averageLoadMillis = averageLoadMillis == 0 ? millis : averageLoadMillis * 0.8 + millis * 0.2;
+    return value;
+  }
+
+  /**
+   * Refreshes with probability growing as the entry nears expiry (XFetch): an entry is refreshed
+   * when {@code loadTime * beta * -ln(random)} reaches its remaining fresh time.
+   */
+  private boolean shouldRefreshEarly(long freshMillis) {
+    double beta = settings.getEarlyRefreshBeta();
+    if (freshTtl == null || beta <= 0 || averageLoadMillis == 0) {
+      return false;
+    }
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    return averageLoadMillis * beta * -Math.log(random) >= freshMillis;
+  }
+
+  /** Reads the value and its remaining TTL in one round trip, or returns null on a miss. */
+  private Entry lookup(Object key) {
+    if (freshTtl == null) {
+      ValueWrapper wrapper = delegate.get(key);
+      return wrapper == null ? null : new Entry(wrapper.get(), Long.MAX_VALUE, false);
+    }
+
+    byte[] redisKey = redisKey(key).getBytes(StandardCharsets.UTF_8);
+    List<Object> results =
+        redisTemplate.execute(
+            (RedisCallback<List<Object>>)
+                connection -> {
+                  connection.openPipeline();
+                  connection.stringCommands().get(redisKey);
+                  connection.keyCommands().pTtl(redisKey);
+                  return connection.closePipeline();
+                });
+    if (results == null || !(results.get(0) instanceof byte[] bytes) || bytes.length == 0) {
+      return null;
+    }
+    Object value = cacheConfiguration.getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+    if (value == null) {
+      return null;
+    }
+    long remainingMillis = results.get(1) instanceof Long ttl && ttl >= 0 ? ttl : Long.MAX_VALUE;
+    long staleMillis = settings.getStaleWindow().toMillis();
+    return new Entry(value, remainingMillis - staleMillis, remainingMillis <= staleMillis);
+  }
+
+  private String tryLock(String lockKey) {
+    String token = UUID.randomUUID().toString();
+    Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, token, settings.getLockTtl());
+    return Boolean.TRUE.equals(locked) ? token : null;
+  }
+
+  private void unlock(String lockKey, String token) {
+    try {
+      redisTemplate.execute(UNLOCK, List.of(lockKey), token);
+    } catch (RuntimeException e) {
+      log.warn("Could not release cache lock '{}', it expires on its own", lockKey, e);
+    }
+  }
+
+  private void sleep(Object key, Callable<?> valueLoader) {
+    try {
+      Thread.sleep(settings.getPollInterval().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+  }
+
+  /** Same key layout as {@code RedisCache}, so both read and write the same entries. */
+  private String redisKey(Object key) {
+    String prefix = cacheConfiguration.getKeyPrefixFor(getName());
+    if (key instanceof String stringKey) {
+      return prefix + stringKey;
+    }
+    ConversionService conversionService = cacheConfiguration.getConversionService();
+    if (conversionService.canConvert(key.getClass(), String.class)) {
+      return prefix + conversionService.convert(key, String.class);
+    }
+    return prefix + key;
+  }
+
+  private static final class Entry {
+    private final Object value;
+    private final long freshMillis;
+    private final boolean stale;
+
+    private Entry(Object value, long freshMillis, boolean stale) {
+      this.value = value;
+      this.freshMillis = freshMillis;
+      this.stale = stale;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.altester.core.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wraps the caches of the Redis cache manager that have a coalescing configuration in a {@link
+ * CoalescingCache}. Other caches are returned as the delegate creates them.
+ */
+public class CoalescingCacheManager implements CacheManager {
+
+  private final CacheManager delegate;
+  private final Map<String, RedisCacheConfiguration> coalescedConfigurations;
+  private final CoalescingCacheSettings settings;
+  private final StringRedisTemplate redisTemplate;
+  private final Executor refreshExecutor;
+  private final TransactionTemplate readOnlyTransaction;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+  public CoalescingCacheManager(
+      CacheManager delegate,
+      Map<String, RedisCacheConfiguration> coalescedConfigurations,
+      CoalescingCacheSettings settings,
+      StringRedisTemplate redisTemplate,
+      Executor refreshExecutor,
+      TransactionTemplate readOnlyTransaction,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.coalescedConfigurations = coalescedConfigurations;
+    this.settings = settings;
+    this.redisTemplate = redisTemplate;
+    this.refreshExecutor = refreshExecutor;
+    this.readOnlyTransaction = readOnlyTransaction;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    Cache cache = caches.get(name);
+    if (cache != null) {
+      return cache;
+    }
+    Cache target = delegate.getCache(name);
+    if (target == null || !coalescedConfigurations.containsKey(name)) {
+      return target;
+    }
+    return caches.computeIfAbsent(name, key -> decorate(name, target));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return delegate.getCacheNames();
+  }
+
+  private Cache decorate(String name, Cache target) {
+    RedisCacheConfiguration configuration = coalescedConfigurations.get(name);
+    Duration storedTtl = configuration.getTtlFunction().getTimeToLive(name, null);
+    Duration freshTtl =
+        storedTtl == null || storedTtl.isZero() || storedTtl.isNegative()
+            ? null
+            : storedTtl.minus(settings.getStaleWindow());
+    return new CoalescingCache(
+        target,
+        configuration,
+        freshTtl,
+        settings,
+        redisTemplate,
+        refreshExecutor,
+        readOnlyTransaction,
+        meterRegistry);
+  }
+}
@@ -0,0 +1,23 @@
+package com.altester.core.config;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Tuning of {@link CoalescingCache}, shared by all caches of the cache manager. */
+@Getter
+@Builder
+public class CoalescingCacheSettings {
+
+  /** How long a node may hold the Redis load lock of a key, and how long others wait for it. */
+  private final Duration lockTtl;
+
+  /** How often waiting nodes check whether the lock holder has stored the value. */
+  private final Duration pollInterval;
+
+  /** How long an expired entry is kept and served while one caller recomputes it. */
+  private final Duration staleWindow;
+
+  /** Eagerness of probabilistic early refresh, 0 disables it. */
+  private final double earlyRefreshBeta;
+}
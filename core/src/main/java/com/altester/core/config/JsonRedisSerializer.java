@@ -1,29 +1,16 @@
 package com.altester.core.config;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.SerializationException;
 
 public class JsonRedisSerializer<T> implements RedisSerializer<T> {
 
-  private final ObjectMapper objectMapper;
+  private final CacheValueCodec codec;
   private final Class<T> targetType;
 
-  public JsonRedisSerializer(Class<T> targetType) {
+  public JsonRedisSerializer(Class<T> targetType, CacheValueCodec codec) {
     this.targetType = targetType;
-    this.objectMapper = createObjectMapper();
-  }
-
-  protected ObjectMapper createObjectMapper() {
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.registerModule(new JavaTimeModule());
-    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-    return mapper;
+    this.codec = codec;
   }
 
   @Override
@@ -32,7 +19,7 @@ public class JsonRedisSerializer<T> implements RedisSerializer<T> {
       return new byte[0];
     }
     try {
-      return objectMapper.writeValueAsBytes(t);
+      return codec.encode(t);
     } catch (Exception ex) {
       throw new SerializationException("Could not serialize object: " + ex.getMessage(), ex);
     }
@@ -44,7 +31,7 @@ public class JsonRedisSerializer<T> implements RedisSerializer<T> {
       return null;
     }
     try {
-      return objectMapper.readValue(bytes, targetType);
+      return codec.decode(bytes, targetType);
     } catch (Exception ex) {
       throw new SerializationException("Could not deserialize object: " + ex.getMessage(), ex);
     }
@@ -20,6 +20,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
@@ -34,6 +36,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
   private final UserDetailsService userDetailsService;
   private static final String BEARER_PREFIX = "Bearer ";
 
+  /**
+   * The filter chain is stateless, so Spring Security reloads the context of an async dispatch from
+   * this request attribute. Saving it here lets streamed exports finish under the authentication of
+   * the initial request instead of being denied.
+   */
+  private final SecurityContextRepository securityContextRepository =
+      new RequestAttributeSecurityContextRepository();
+
   private final List<String> whitelistedPaths =
       Arrays.asList(
           "/auth/signin",
@@ -78,6 +88,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                   userDetails, null, userDetails.getAuthorities());
           authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
           SecurityContextHolder.getContext().setAuthentication(authToken);
+          securityContextRepository.saveContext(
+              SecurityContextHolder.getContext(), request, response);
         } else {
           throw JwtAuthenticationException.invalidToken();
         }
@@ -13,29 +13,55 @@ import com.altester.core.dtos.core_service.subject.GroupStudentsResponseDTO;
 import com.altester.core.dtos.core_service.test.TestPreviewDTO;
 import com.altester.core.dtos.core_service.test.TestSummaryDTO;
 import com.altester.core.util.CacheablePage;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+  /**
+   * Caches read through {@code @Cacheable(sync = true)}. Only these are wrapped in a {@link
+   * CoalescingCache} and kept for the stale window beyond their TTL.
+   */
+  private static final Set<String> COALESCED_CACHES =
+      Set.of(
+          "academicHistory",
+          "aiAccuracy",
+          "attemptReview",
+          "availablePeriods",
+          "studentDashboard",
+          "studentTestAttempts",
+          "teacherGroup",
+          "teacherGroups",
+          "teacherPage",
+          "teacherStudents");
+
   @Value("${redis.host}")
   private String redisHost;
 
@@ -45,6 +71,28 @@ public class RedisConfig {
   @Value("${redis.ttl}")
   private long redisTTL;
 
+  /** Keys fetched per SCAN step when a cache or a key prefix is cleared. */
+  @Value("${redis.clear-scan-batch-size:1000}")
+  private int clearScanBatchSize;
+
+  @Value("${redis.coalescing.lock-ttl:10s}")
+  private Duration lockTtl;
+
+  @Value("${redis.coalescing.poll-interval:50ms}")
+  private Duration pollInterval;
+
+  @Value("${redis.coalescing.stale-window:60s}")
+  private Duration staleWindow;
+
+  @Value("${redis.coalescing.early-refresh-beta:1.0}")
+  private double earlyRefreshBeta;
+
+  @Value("${redis.serialization.mode:COMPACT}")
+  private CacheValueCodec.Mode serializationMode;
+
+  @Value("${redis.serialization.compression-threshold:2048}")
+  private int compressionThreshold;
+
   @Bean
   public LettuceConnectionFactory redisConnectionFactory() {
     RedisStandaloneConfiguration configuration =
@@ -52,167 +100,186 @@ public class RedisConfig {
     return new LettuceConnectionFactory(configuration);
   }
 
+  /** All cache serializers share this codec and therefore one configured ObjectMapper. */
+  @Bean
+  public CacheValueCodec cacheValueCodec() {
+    return new CacheValueCodec(serializationMode, compressionThreshold);
+  }
+
+  private <T> JsonRedisSerializer<T> serializer(Class<T> targetType) {
+    return new JsonRedisSerializer<>(targetType, cacheValueCodec());
+  }
+
   @Bean
   public RedisTemplate<String, Object> redisTemplate(
       RedisConnectionFactory redisConnectionFactory) {
     RedisTemplate<String, Object> template = new RedisTemplate<>();
     template.setConnectionFactory(redisConnectionFactory);
     template.setKeySerializer(new StringRedisSerializer());
-    template.setValueSerializer(new JsonRedisSerializer<>(Object.class));
+    template.setValueSerializer(serializer(Object.class));
     template.setHashKeySerializer(new StringRedisSerializer());
-    template.setHashValueSerializer(new JsonRedisSerializer<>(Object.class));
+    template.setHashValueSerializer(serializer(Object.class));
     template.afterPropertiesSet();
     return template;
   }
 
   @Primary
   @Bean
-  public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+  public CacheManager cacheManager(
+      RedisConnectionFactory redisConnectionFactory,
+      StringRedisTemplate stringRedisTemplate,
+      @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
     Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
     // Admin page caches
-    cacheConfigurations.put(
-        "students", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("students", createCacheConfiguration(serializer(CacheablePage.class)));
 
-    cacheConfigurations.put(
-        "teachers", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("teachers", createCacheConfiguration(serializer(CacheablePage.class)));
 
-    cacheConfigurations.put(
-        "adminStats", createCacheConfiguration(new JsonRedisSerializer<>(AdminPageDTO.class)));
+    cacheConfigurations.put("adminStats", createCacheConfiguration(serializer(AdminPageDTO.class)));
 
     // API key caches
-    cacheConfigurations.put(
-        "apiKeys", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("apiKeys", createCacheConfiguration(serializer(CacheablePage.class)));
 
-    cacheConfigurations.put(
-        "availableApiKeys", createCacheConfiguration(new JsonRedisSerializer<>(List.class)));
+    cacheConfigurations.put("availableApiKeys", createCacheConfiguration(serializer(List.class)));
 
     cacheConfigurations.put(
-        "testApiKeys", createCacheConfiguration(new JsonRedisSerializer<>(TestApiKeysDTO.class)));
+        "testApiKeys", createCacheConfiguration(serializer(TestApiKeysDTO.class)));
 
     // Group service caches
-    cacheConfigurations.put(
-        "groups", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("groups", createCacheConfiguration(serializer(CacheablePage.class)));
 
-    cacheConfigurations.put(
-        "group", createCacheConfiguration(new JsonRedisSerializer<>(GroupDTO.class)));
+    cacheConfigurations.put("group", createCacheConfiguration(serializer(GroupDTO.class)));
 
     cacheConfigurations.put(
-        "groupStudents", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "groupStudents", createCacheConfiguration(serializer(CacheablePage.class)));
 
     cacheConfigurations.put(
-        "groupTeachers", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "groupTeachers", createCacheConfiguration(serializer(CacheablePage.class)));
 
     cacheConfigurations.put(
         "groupStudentsWithCategories",
-        createCacheConfiguration(new JsonRedisSerializer<>(GroupStudentsResponseDTO.class)));
+        createCacheConfiguration(serializer(GroupStudentsResponseDTO.class)));
 
     cacheConfigurations.put(
-        "groupStudentsNotInGroup",
-        createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "groupStudentsNotInGroup", createCacheConfiguration(serializer(CacheablePage.class)));
 
     // Subject service caches
-    cacheConfigurations.put(
-        "subjects", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("subjects", createCacheConfiguration(serializer(CacheablePage.class)));
 
-    RedisCacheConfiguration defaultConfig =
-        createCacheConfiguration(new JsonRedisSerializer<>(Object.class));
+    RedisCacheConfiguration defaultConfig = createCacheConfiguration(serializer(Object.class));
 
     // Test service caches
-    cacheConfigurations.put(
-        "tests", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("tests", createCacheConfiguration(serializer(CacheablePage.class)));
 
-    cacheConfigurations.put(
-        "test", createCacheConfiguration(new JsonRedisSerializer<>(TestPreviewDTO.class)));
+    cacheConfigurations.put("test", createCacheConfiguration(serializer(TestPreviewDTO.class)));
 
     cacheConfigurations.put(
-        "testSummary", createCacheConfiguration(new JsonRedisSerializer<>(TestSummaryDTO.class)));
+        "testSummary", createCacheConfiguration(serializer(TestSummaryDTO.class)));
 
     cacheConfigurations.put(
-        "testsBySubject", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "testsBySubject", createCacheConfiguration(serializer(CacheablePage.class)));
 
     cacheConfigurations.put(
-        "testsByGroup", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "testsByGroup", createCacheConfiguration(serializer(CacheablePage.class)));
 
     // Question service caches
-    cacheConfigurations.put(
-        "questions", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+    cacheConfigurations.put("questions", createCacheConfiguration(serializer(CacheablePage.class)));
 
     cacheConfigurations.put(
-        "question", createCacheConfiguration(new JsonRedisSerializer<>(QuestionDetailsDTO.class)));
+        "question", createCacheConfiguration(serializer(QuestionDetailsDTO.class)));
 
     cacheConfigurations.put(
-        "testQuestions", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "testQuestions", createCacheConfiguration(serializer(CacheablePage.class)));
 
     // TeacherPageService caches
     cacheConfigurations.put(
-        "teacherPage", createCacheConfiguration(new JsonRedisSerializer<>(TeacherPageDTO.class)));
+        "teacherPage", createCacheConfiguration(serializer(TeacherPageDTO.class)));
+    cacheConfigurations.put("aiAccuracy", createCacheConfiguration(serializer(Double.class)));
     cacheConfigurations.put(
-        "teacherStudents",
-        createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "teacherStudents", createCacheConfiguration(serializer(CacheablePage.class)));
     cacheConfigurations.put(
-        "teacherGroups", createCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
+        "teacherGroups", createCacheConfiguration(serializer(CacheablePage.class)));
     cacheConfigurations.put(
-        "teacherGroup",
-        createCacheConfiguration(new JsonRedisSerializer<>(TeacherGroupDetailDTO.class)));
+        "teacherGroup", createCacheConfiguration(serializer(TeacherGroupDetailDTO.class)));
 
     // StudentService caches
     cacheConfigurations.put(
-        "studentDashboard",
-        createCacheConfiguration(new JsonRedisSerializer<>(StudentDashboardResponse.class)));
+        "studentDashboard", createCacheConfiguration(serializer(StudentDashboardResponse.class)));
     cacheConfigurations.put(
-        "academicHistory",
-        createCacheConfiguration(new JsonRedisSerializer<>(AcademicHistoryResponse.class)));
+        "academicHistory", createCacheConfiguration(serializer(AcademicHistoryResponse.class)));
     cacheConfigurations.put(
-        "availablePeriods",
-        createCacheConfiguration(new JsonRedisSerializer<>(AvailablePeriodsResponse.class)));
+        "availablePeriods", createCacheConfiguration(serializer(AvailablePeriodsResponse.class)));
     cacheConfigurations.put(
-        "studentTestAttempts",
-        createCacheConfiguration(new JsonRedisSerializer<>(StudentAttemptsResponse.class)));
+        "studentTestAttempts", createCacheConfiguration(serializer(StudentAttemptsResponse.class)));
     cacheConfigurations.put(
-        "attemptReview",
-        createCacheConfiguration(new JsonRedisSerializer<>(AttemptReviewDTO.class)));
+        "attemptReview", createCacheConfiguration(serializer(AttemptReviewDTO.class)));
 
     // AttemptRetrievalService caches
     cacheConfigurations.put(
-        "testAttemptsForTeacher", createCacheConfiguration(new JsonRedisSerializer<>(List.class)));
+        "testAttemptsForTeacher", createCacheConfiguration(serializer(List.class)));
     cacheConfigurations.put(
-        "testAttemptsForAdmin", createCacheConfiguration(new JsonRedisSerializer<>(List.class)));
+        "testAttemptsForAdmin", createCacheConfiguration(serializer(List.class)));
     cacheConfigurations.put(
         "studentAttemptsForTeacher",
-        createCacheConfiguration(new JsonRedisSerializer<>(StudentTestAttemptsResponseDTO.class)));
+        createCacheConfiguration(serializer(StudentTestAttemptsResponseDTO.class)));
     cacheConfigurations.put(
         "studentAttemptsForAdmin",
-        createCacheConfiguration(new JsonRedisSerializer<>(StudentTestAttemptsResponseDTO.class)));
+        createCacheConfiguration(serializer(StudentTestAttemptsResponseDTO.class)));
     cacheConfigurations.put(
-        "studentTestAttemptsForTeacher",
-        createCacheConfiguration(new JsonRedisSerializer<>(List.class)));
+        "studentTestAttemptsForTeacher", createCacheConfiguration(serializer(List.class)));
     cacheConfigurations.put(
-        "studentTestAttemptsForAdmin",
-        createCacheConfiguration(new JsonRedisSerializer<>(List.class)));
+        "studentTestAttemptsForAdmin", createCacheConfiguration(serializer(List.class)));
 
     // Prompt service caches
     cacheConfigurations.put(
-        "prompts",
-        createInfiniteCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
-
-    cacheConfigurations.put(
-        "myPrompts",
-        createInfiniteCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
-
-    cacheConfigurations.put(
-        "publicPrompts",
-        createInfiniteCacheConfiguration(new JsonRedisSerializer<>(CacheablePage.class)));
-
-    cacheConfigurations.put(
-        "promptDetails",
-        createInfiniteCacheConfiguration(new JsonRedisSerializer<>(PromptDetailsDTO.class)));
-
-    return RedisCacheManager.builder(redisConnectionFactory)
-        .cacheDefaults(defaultConfig)
-        .withInitialCacheConfigurations(cacheConfigurations)
-        .transactionAware()
-        .build();
+        "prompts", createInfiniteCacheConfiguration(serializer(CacheablePage.class)));
+
+    cacheConfigurations.put(
+        "myPrompts", createInfiniteCacheConfiguration(serializer(CacheablePage.class)));
+
+    cacheConfigurations.put(
+        "publicPrompts", createInfiniteCacheConfiguration(serializer(CacheablePage.class)));
+
+    cacheConfigurations.put(
+        "promptDetails", createInfiniteCacheConfiguration(serializer(PromptDetailsDTO.class)));
+
+    Map<String, RedisCacheConfiguration> coalescedConfigurations = new HashMap<>();
+    for (String name : COALESCED_CACHES) {
+      RedisCacheConfiguration configuration = withStaleWindow(cacheConfigurations.get(name));
+      cacheConfigurations.put(name, configuration);
+      coalescedConfigurations.put(name, configuration);
+    }
+
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(
+                RedisCacheWriter.nonLockingRedisCacheWriter(
+                    redisConnectionFactory, BatchStrategies.scan(clearScanBatchSize)))
+            .cacheDefaults(defaultConfig)
+            .withInitialCacheConfigurations(cacheConfigurations)
+            .transactionAware()
+            .build();
+    redisCacheManager.afterPropertiesSet();
+
+    TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    CoalescingCacheSettings settings =
+        CoalescingCacheSettings.builder()
+            .lockTtl(lockTtl)
+            .pollInterval(pollInterval)
+            .staleWindow(staleWindow)
+            .earlyRefreshBeta(earlyRefreshBeta)
+            .build();
+    return new CoalescingCacheManager(
+        redisCacheManager,
+        coalescedConfigurations,
+        settings,
+        stringRedisTemplate,
+        cacheRefreshExecutor,
+        readOnlyTransaction,
+        meterRegistry);
   }
 
   private RedisCacheConfiguration createCacheConfiguration(JsonRedisSerializer<?> serializer) {
@@ -224,6 +291,14 @@ public class RedisConfig {
         .disableCachingNullValues();
   }
 
+  /**
+   * Stores entries of a coalesced cache for the stale window beyond their TTL, so an expired entry
+   * can still be served while it is recomputed. See {@link CoalescingCache}.
+   */
+  private RedisCacheConfiguration withStaleWindow(RedisCacheConfiguration configuration) {
+    return configuration.entryTtl(Duration.ofSeconds(redisTTL).plus(staleWindow));
+  }
+
   private RedisCacheConfiguration createInfiniteCacheConfiguration(
       JsonRedisSerializer<?> serializer) {
     return RedisCacheConfiguration.defaultCacheConfig()
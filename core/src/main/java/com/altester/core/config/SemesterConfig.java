@@ -3,6 +3,8 @@ package com.altester.core.config;
 import com.altester.core.model.subject.enums.Semester;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +29,28 @@ public class SemesterConfig {
 
   private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+  /**
+   * Returns the configured dates at which the current semester or academic year changes: the start
+   * of each semester and the day after each semester ends.
+   *
+   * @return Boundary dates in ascending order, empty when the dates cannot be parsed
+   */
+  public List<LocalDate> getSemesterBoundaries() {
+    try {
+      return Stream.of(
+              LocalDate.parse(winterStartStr, dateFormatter),
+              LocalDate.parse(winterEndStr, dateFormatter).plusDays(1),
+              LocalDate.parse(summerStartStr, dateFormatter),
+              LocalDate.parse(summerEndStr, dateFormatter).plusDays(1))
+          .distinct()
+          .sorted()
+          .toList();
+    } catch (Exception e) {
+      log.error("Error parsing semester dates: {}", e.getMessage());
+      return List.of();
+    }
+  }
+
   public boolean isSemesterActive(Semester semester, Integer academicYear) {
     if (semester == null || academicYear == null) {
       return false;
@@ -0,0 +1,44 @@
+package com.altester.core.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the trigram indexes backing student search. Hibernate cannot express expression or GIN
+ * indexes, so they are created here once the schema is in place. Without the pg_trgm extension the
+ * search still works, only without index support.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentSearchIndexInitializer {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void createSearchIndexes() {
+    try {
+      jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+    } catch (Exception e) {
+      log.warn(
+          "pg_trgm extension is not available, student search runs unindexed: {}", e.getMessage());
+      return;
+    }
+
+    try {
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm ON users "
+              + "USING GIN ((lower(name || ' ' || surname)) gin_trgm_ops)");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users "
+              + "USING GIN ((lower(username)) gin_trgm_ops)");
+      log.info("Student search indexes are in place");
+    } catch (Exception e) {
+      log.error("Failed to create student search indexes: {}", e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.altester.core.controller;
+
+import com.altester.core.service.ExportService;
+import com.altester.core.serviceImpl.export.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import java.security.Principal;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/export")
+@Slf4j
+@Validated
+public class ExportController {
+
+  private final ExportService exportService;
+  private final ThreadPoolTaskExecutor exportExecutor;
+
+  @Value("${app.export.timeout:30m}")
+  private Duration exportTimeout;
+
+  @GetMapping("/test/{testId}/results")
+  @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+  public WebAsyncTask<Void> exportTestResults(
+      Principal principal,
+      @PathVariable Long testId,
+      @RequestParam(defaultValue = "CSV") ExportFormat format,
+      HttpServletResponse response) {
+    StreamingResponseBody body = exportService.exportTestResults(principal, testId, format);
+    return download("test-" + testId + "-results", format, body, response);
+  }
+
+  @GetMapping("/group/{groupId}/gradebook")
+  @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+  public WebAsyncTask<Void> exportGroupGradebook(
+      Principal principal,
+      @PathVariable Long groupId,
+      @RequestParam(defaultValue = "CSV") ExportFormat format,
+      HttpServletResponse response) {
+    StreamingResponseBody body = exportService.exportGroupGradebook(principal, groupId, format);
+    return download("group-" + groupId + "-gradebook", format, body, response);
+  }
+
+  @GetMapping("/test/{testId}/submissions")
+  @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+  public WebAsyncTask<Void> exportTestSubmissions(
+      Principal principal,
+      @PathVariable Long testId,
+      @RequestParam(defaultValue = "CSV") ExportFormat format,
+      HttpServletResponse response) {
+    StreamingResponseBody body = exportService.exportTestSubmissions(principal, testId, format);
+    return download("test-" + testId + "-submissions", format, body, response);
+  }
+
+  @GetMapping("/submissions")
+  @PreAuthorize("hasRole('ADMIN')")
+  public WebAsyncTask<Void> exportAllSubmissions(
+      Principal principal,
+      @RequestParam(defaultValue = "CSV") ExportFormat format,
+      HttpServletResponse response) {
+    StreamingResponseBody body = exportService.exportAllSubmissions(principal, format);
+    return download("submissions", format, body, response);
+  }
+
+  /**
+   * Streams the export on the export executor with the export timeout. Both apply to these
+   * endpoints only; other async requests keep the MVC defaults.
+   */
+  private WebAsyncTask<Void> download(
+      String fileName,
+      ExportFormat format,
+      StreamingResponseBody body,
+      HttpServletResponse response) {
+    log.debug("Streaming export {} as {}", fileName, format);
+    response.setContentType(format.getContentType() + ";charset=UTF-8");
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment()
+            .filename(fileName + "." + format.getExtension())
+            .build()
+            .toString());
+    return new WebAsyncTask<>(
+        exportTimeout.toMillis(),
+        exportExecutor,
+        () -> {
+          body.writeTo(response.getOutputStream());
+          response.flushBuffer();
+          return null;
+        });
+  }
+}
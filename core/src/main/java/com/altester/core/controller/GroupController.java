@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -38,6 +39,23 @@ public class GroupController {
     return ResponseEntity.ok("Group updated successfully");
   }
 
+  @PutMapping("/{groupId}/students")
+  public ResponseEntity<BulkEnrollmentResultDTO> enrollStudents(
+      @PathVariable Long groupId, @Valid @RequestBody BulkEnrollmentDTO bulkEnrollmentDTO) {
+    log.debug(
+        "Enrolling {} students into group with ID {}, replaceExisting={}",
+        bulkEnrollmentDTO.getStudentIds().size(),
+        groupId,
+        bulkEnrollmentDTO.isReplaceExisting());
+    BulkEnrollmentResultDTO result = groupService.enrollStudents(groupId, bulkEnrollmentDTO);
+    log.info(
+        "Enrolled students into group with ID {}: {} added, {} removed",
+        groupId,
+        result.getAdded(),
+        result.getRemoved());
+    return ResponseEntity.ok(result);
+  }
+
   @DeleteMapping("/delete/{groupId}")
   public ResponseEntity<String> deleteGroup(@PathVariable Long groupId) {
     log.debug("Deleting group with ID: {}", groupId);
@@ -107,4 +125,23 @@ public class GroupController {
 
     return ResponseEntity.ok(result);
   }
+
+  @GetMapping("/searchStudents")
+  public ResponseEntity<Slice<CreateGroupUserListDTO>> searchStudents(
+      @RequestParam(required = false) String searchQuery,
+      @RequestParam(required = false) Long excludedGroupId,
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(defaultValue = "20") int limit) {
+    log.debug(
+        "Searching students with searchQuery={}, excludedGroupId={}, afterId={}, limit={}",
+        searchQuery,
+        excludedGroupId,
+        afterId,
+        limit);
+
+    Slice<CreateGroupUserListDTO> students =
+        groupService.searchStudents(searchQuery, excludedGroupId, afterId, limit);
+
+    return ResponseEntity.ok(students);
+  }
 }
@@ -0,0 +1,61 @@
+package com.altester.core.controller;
+
+import com.altester.core.dtos.core_service.dataImport.ImportJobDTO;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.service.DataImportService;
+import java.io.InputStream;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/import")
+@Slf4j
+@RequiredArgsConstructor
+@Validated
+public class ImportController {
+
+  private final DataImportService dataImportService;
+
+  /**
+   * Import files are sent as the raw request body instead of multipart form data. They are streamed
+   * to disk under their own size limit, so the multipart limit stays small for all other uploads.
+   * The file name selects the format.
+   */
+  @PostMapping("/{entityType}")
+  public ResponseEntity<ImportJobDTO> startImport(
+      @PathVariable ImportEntityType entityType,
+      @RequestParam String fileName,
+      InputStream content,
+      Principal principal) {
+    log.debug("Starting {} import from file {}", entityType, fileName);
+    ImportJobDTO job = dataImportService.startImport(entityType, fileName, content, principal);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+  }
+
+  @PostMapping("/jobs/{jobId}/resume")
+  public ResponseEntity<ImportJobDTO> resumeImport(
+      @PathVariable Long jobId, @RequestParam String fileName, InputStream content) {
+    log.debug("Resuming import job {} with file {}", jobId, fileName);
+    ImportJobDTO job = dataImportService.resumeImport(jobId, fileName, content);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable Long jobId) {
+    log.debug("Fetching import job {}", jobId);
+    return ResponseEntity.ok(dataImportService.getImportJob(jobId));
+  }
+
+  @GetMapping("/jobs")
+  public ResponseEntity<Page<ImportJobDTO>> getImportJobs(
+      @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+    log.debug("Fetching import jobs with page={}, size={}", page, size);
+    return ResponseEntity.ok(dataImportService.getImportJobs(page, size));
+  }
+}
@@ -0,0 +1,30 @@
+package com.altester.core.controller;
+
+import com.altester.core.serviceImpl.question.QuestionImageSender;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/question-images")
+public class QuestionImageController {
+
+  private final QuestionImageSender questionImageSender;
+
+  @GetMapping("/{fileName:.+}")
+  public void getImage(
+      @PathVariable String fileName,
+      @RequestParam(name = "w", required = false) Integer width,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    questionImageSender.send(fileName, width, request, response);
+  }
+}
@@ -0,0 +1,33 @@
+package com.altester.core.dtos.core_service.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.dataImport.enums.ImportFormat;
+import com.altester.core.model.dataImport.enums.ImportJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobDTO {
+  private Long id;
+  private ImportEntityType entityType;
+  private ImportFormat format;
+  private ImportJobStatus status;
+  private String fileName;
+  private String createdBy;
+  private long committedRows;
+  private long importedRows;
+  private long skippedRows;
+  private long failedRows;
+  private String errorMessage;
+  private List<String> rowErrors;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+  private LocalDateTime finishedAt;
+}
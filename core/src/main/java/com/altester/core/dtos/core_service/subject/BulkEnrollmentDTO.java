@@ -0,0 +1,21 @@
+package com.altester.core.dtos.core_service.subject;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkEnrollmentDTO {
+
+  @NotNull(message = "Student IDs are required")
+  private Set<Long> studentIds;
+
+  /** When true, current members missing from {@link #studentIds} are removed from the group. */
+  private boolean replaceExisting;
+}
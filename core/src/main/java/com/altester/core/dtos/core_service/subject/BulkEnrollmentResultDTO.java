@@ -0,0 +1,19 @@
+package com.altester.core.dtos.core_service.subject;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkEnrollmentResultDTO {
+  private long groupId;
+  private int added;
+  private int removed;
+  private int unchanged;
+  private Set<Long> ignoredIds;
+}
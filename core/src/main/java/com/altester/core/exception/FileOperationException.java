@@ -18,4 +18,8 @@ public class FileOperationException extends AlTesterException {
   public static FileOperationException imageSave(String message) {
     return new FileOperationException("save", message);
   }
+
+  public static FileOperationException importRead(String message) {
+    return new FileOperationException("import", message);
+  }
 }
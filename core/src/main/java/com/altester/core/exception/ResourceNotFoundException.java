@@ -29,6 +29,10 @@ public class ResourceNotFoundException extends AlTesterException {
     return new ResourceNotFoundException(null, null, message);
   }
 
+  public static ResourceNotFoundException image(String fileName) {
+    return new ResourceNotFoundException("Image", fileName, null);
+  }
+
   public static ResourceNotFoundException prompt(Long id) {
     return new ResourceNotFoundException("Prompt", id.toString(), null);
   }
@@ -68,4 +72,8 @@ public class ResourceNotFoundException extends AlTesterException {
   public static ResourceNotFoundException question(Long id) {
     return new ResourceNotFoundException("Question", id.toString(), null);
   }
+
+  public static ResourceNotFoundException importJob(Long id) {
+    return new ResourceNotFoundException("ImportJob", id.toString(), null);
+  }
 }
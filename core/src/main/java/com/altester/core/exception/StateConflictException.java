@@ -40,4 +40,9 @@ public class StateConflictException extends AlTesterException {
         "different_semester",
         "Groups " + fromGroup + " and " + toGroup + " are not in the same semester");
   }
+
+  public static StateConflictException importNotResumable(Long jobId, String status) {
+    return new StateConflictException(
+        "import job", status, "Import job " + jobId + " is " + status + " and cannot be resumed");
+  }
 }
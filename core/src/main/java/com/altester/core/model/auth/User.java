@@ -11,7 +11,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
 @Data
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = @Index(name = "idx_users_role_surname_name", columnList = "role, surname, name, id"))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
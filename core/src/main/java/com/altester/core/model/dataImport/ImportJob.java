@@ -0,0 +1,70 @@
+package com.altester.core.model.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.dataImport.enums.ImportFormat;
+import com.altester.core.model.dataImport.enums.ImportJobStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.*;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "import_jobs")
+public class ImportJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ImportEntityType entityType;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ImportFormat format;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ImportJobStatus status;
+
+  @Column private String fileName;
+
+  @Column(nullable = false)
+  private String createdBy;
+
+  /** Number of data rows whose chunk has been committed; a resumed import skips these rows. */
+  @Column(nullable = false)
+  private long committedRows;
+
+  @Column(nullable = false)
+  private long importedRows;
+
+  @Column(nullable = false)
+  private long skippedRows;
+
+  @Column(nullable = false)
+  private long failedRows;
+
+  @Column(length = 1024)
+  private String errorMessage;
+
+  @ElementCollection(fetch = FetchType.EAGER)
+  @CollectionTable(name = "import_job_errors", joinColumns = @JoinColumn(name = "job_id"))
+  @Column(name = "message", length = 512)
+  @OrderColumn(name = "position")
+  @Builder.Default
+  private List<String> rowErrors = new ArrayList<>();
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column private LocalDateTime updatedAt;
+
+  @Column private LocalDateTime finishedAt;
+}
@@ -0,0 +1,10 @@
+package com.altester.core.model.dataImport.enums;
+
+public enum ImportEntityType {
+  USERS,
+  GROUPS,
+  MEMBERSHIPS,
+  TESTS,
+  QUESTIONS,
+  OPTIONS
+}
@@ -0,0 +1,6 @@
+package com.altester.core.model.dataImport.enums;
+
+public enum ImportFormat {
+  CSV, // Comma separated values with a header row
+  JSON // JSON array of objects or JSON Lines
+}
@@ -0,0 +1,8 @@
+package com.altester.core.model.dataImport.enums;
+
+public enum ImportJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
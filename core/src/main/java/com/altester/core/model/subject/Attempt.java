@@ -12,7 +12,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "attempts")
+@Table(
+    name = "attempts",
+    indexes = @Index(name = "idx_attempts_student_test", columnList = "student_id, test_id"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
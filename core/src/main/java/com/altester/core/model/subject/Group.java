@@ -12,7 +12,12 @@ import lombok.*;
 
 @Entity
 @Data
-@Table(name = "groups")
+@Table(
+    name = "groups",
+    indexes = {
+      @Index(name = "idx_groups_year_semester", columnList = "academic_year, semester"),
+      @Index(name = "idx_groups_teacher", columnList = "teacher_id")
+    })
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -49,7 +54,7 @@ public class Group {
   @JsonBackReference
   private User teacher;
 
-  @ManyToMany(fetch = FetchType.EAGER)
+  @ManyToMany
   @JoinTable(
       name = "group_tests",
       joinColumns = @JoinColumn(name = "group_id"),
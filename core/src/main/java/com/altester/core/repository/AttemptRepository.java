@@ -3,8 +3,11 @@ package com.altester.core.repository;
 import com.altester.core.model.auth.User;
 import com.altester.core.model.subject.Attempt;
 import com.altester.core.model.subject.Test;
+import com.altester.core.repository.projection.TestAttemptStatsView;
+import com.altester.core.repository.projection.TestScoreDiffView;
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +20,23 @@ import org.springframework.stereotype.Repository;
 public interface AttemptRepository extends JpaRepository<Attempt, Long> {
   List<Attempt> findByTestAndStudent(Test test, User student);
 
+  @Query(
+      value =
+          "SELECT a.test_id AS \"testId\", "
+              + "COUNT(*) FILTER (WHERE a.status IN ('COMPLETED', 'REVIEWED', 'AI_REVIEWED')) "
+              + "AS \"finishedAttempts\", "
+              + "COUNT(*) FILTER (WHERE a.status = 'IN_PROGRESS') AS \"inProgressAttempts\", "
+              + "COUNT(*) FILTER (WHERE a.status = 'COMPLETED') AS \"completedAttempts\", "
+              + "COUNT(*) FILTER (WHERE a.status = 'REVIEWED') AS \"reviewedAttempts\", "
+              + "COUNT(*) FILTER (WHERE a.status = 'AI_REVIEWED') AS \"aiReviewedAttempts\", "
+              + "MAX(a.score) FILTER (WHERE a.status = 'REVIEWED') AS \"bestReviewedScore\", "
+              + "MAX(a.ai_score) FILTER (WHERE a.status = 'AI_REVIEWED') AS \"bestAiScore\" "
+              + "FROM attempts a WHERE a.student_id = :studentId AND a.test_id IN (:testIds) "
+              + "GROUP BY a.test_id",
+      nativeQuery = true)
+  List<TestAttemptStatsView> findAttemptStatsByStudentAndTestIds(
+      @Param("studentId") Long studentId, @Param("testIds") Collection<Long> testIds);
+
   int countByEndTimeAfter(LocalDateTime date);
 
   @Query("SELECT a FROM Attempt a LEFT JOIN FETCH a.submissions WHERE a.id = :id")
@@ -26,6 +46,9 @@ public interface AttemptRepository extends JpaRepository<Attempt, Long> {
   @Query("SELECT a FROM Attempt a LEFT JOIN FETCH a.submissions WHERE a.id = :id")
   Optional<Attempt> findByIdWithSubmissionsAndLock(@Param("id") Long id);
 
-  @Query("SELECT a FROM Attempt a WHERE a.score IS NOT NULL AND a.aiScore IS NOT NULL")
-  List<Attempt> findAllWithBothScores();
+  @Query(
+      "SELECT a.test.id AS testId, SUM(ABS(a.score - a.aiScore)) AS totalDiff, "
+          + "COUNT(a) AS attemptCount FROM Attempt a "
+          + "WHERE a.score IS NOT NULL AND a.aiScore IS NOT NULL GROUP BY a.test.id")
+  List<TestScoreDiffView> sumScoreDiffsByTest();
 }
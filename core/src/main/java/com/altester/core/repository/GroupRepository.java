@@ -3,13 +3,33 @@ package com.altester.core.repository;
 import com.altester.core.model.auth.User;
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Test;
+import com.altester.core.repository.projection.EnrollmentConflictView;
+import com.altester.core.repository.projection.GroupRolloverView;
+import com.altester.core.repository.projection.GroupStudentCountView;
+import com.altester.core.repository.projection.StudentGroupView;
+import com.altester.core.repository.projection.TeacherGroupStatsView;
+import com.altester.core.repository.projection.TestGroupView;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface GroupRepository
+    extends JpaRepository<Group, Long>, JpaSpecificationExecutor<Group> {
+
+  String ACTIVE_FLAG_STALE =
+      "g.active <> (g.semester = :semester AND g.academic_year = :academicYear)";
 
-public interface GroupRepository extends JpaRepository<Group, Long> {
   Optional<Group> findByName(String name);
 
   List<Group> findByTeacher(User teacher);
@@ -20,8 +40,142 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
   List<Group> findByStudentsContainingAndActiveTrue(User student);
 
+  @Override
+  @EntityGraph(attributePaths = "teacher")
+  Page<Group> findAll(Specification<Group> spec, Pageable pageable);
+
+  @EntityGraph(attributePaths = {"tests", "teacher"})
   @Query("SELECT g FROM Group g JOIN g.students s WHERE s.id = :studentId")
   List<Group> findAllByStudentId(@Param("studentId") Long studentId);
 
   List<Group> findByTeacherAndTestsContaining(User currentUser, Test test);
+
+  List<Group> findAllByTestsContaining(Test test);
+
+  List<Group> findAllByStudentsContainingAndTestsContaining(User student, Test test);
+
+  boolean existsByStudentsContainingAndTestsContaining(User student, Test test);
+
+  boolean existsByTeacherAndTestsContaining(User teacher, Test test);
+
+  boolean existsByTeacherAndStudentsContainingAndTestsContaining(
+      User teacher, User student, Test test);
+
+  @Query("SELECT COUNT(DISTINCT t.id) FROM Group g JOIN g.tests t WHERE g.teacher = :teacher")
+  long countDistinctTestsByTeacher(@Param("teacher") User teacher);
+
+  @Query("SELECT COUNT(DISTINCT s.id) FROM Group g JOIN g.students s WHERE g.teacher = :teacher")
+  long countDistinctStudentsByTeacher(@Param("teacher") User teacher);
+
+  @Query(
+      value =
+          "SELECT g.id AS \"groupId\", g.name AS \"groupName\", g.active AS \"active\", "
+              + "(SELECT COUNT(*) FROM student_groups sg WHERE sg.group_id = g.id) "
+              + "AS \"studentCount\", "
+              + "(SELECT COUNT(*) FROM group_tests gt WHERE gt.group_id = g.id) "
+              + "AS \"testCount\", "
+              + "s.id AS \"subjectId\", s.name AS \"subjectName\", "
+              + "s.short_name AS \"subjectShortName\", s.description AS \"subjectDescription\" "
+              + "FROM groups g JOIN subject s ON s.id = g.subject_id "
+              + "WHERE g.teacher_id = :teacherId ORDER BY s.id, g.id",
+      nativeQuery = true)
+  List<TeacherGroupStatsView> findGroupStatsByTeacherId(@Param("teacherId") Long teacherId);
+
+  @Query(
+      "SELECT g.id AS groupId, COUNT(s.id) AS studentCount FROM Group g LEFT JOIN g.students s "
+          + "WHERE g.id IN :groupIds GROUP BY g.id")
+  List<GroupStudentCountView> countStudentsByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+  @Query(
+      value =
+          "SELECT g.id AS \"groupId\", u.username AS \"teacherUsername\" FROM groups g "
+              + "LEFT JOIN users u ON u.id = g.teacher_id WHERE "
+              + ACTIVE_FLAG_STALE,
+      nativeQuery = true)
+  List<GroupRolloverView> findGroupsWithStaleActiveFlag(
+      @Param("semester") String semester, @Param("academicYear") int academicYear);
+
+  /**
+   * Flips the active flag of the given groups where it no longer matches the current semester. Rows
+   * whose flag is already correct are not touched.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "UPDATE groups g SET active = NOT g.active WHERE g.id IN (:groupIds) AND "
+              + ACTIVE_FLAG_STALE,
+      nativeQuery = true)
+  int flipStaleActiveFlags(
+      @Param("groupIds") Collection<Long> groupIds,
+      @Param("semester") String semester,
+      @Param("academicYear") int academicYear);
+
+  @Query(
+      value = "SELECT sg.user_id FROM student_groups sg WHERE sg.group_id = :groupId",
+      nativeQuery = true)
+  Set<Long> findStudentIdsByGroupId(@Param("groupId") Long groupId);
+
+  /**
+   * Finds the given students that are already members of another group of the same subject for the
+   * given semester and academic year. Groups without a subject never conflict.
+   */
+  @Query(
+      value =
+          "SELECT u.id AS \"studentId\", u.name AS \"name\", u.surname AS \"surname\", "
+              + "g.name AS \"groupName\" FROM groups cur "
+              + "JOIN groups g ON g.subject_id = cur.subject_id AND g.id <> cur.id "
+              + "JOIN student_groups sg ON sg.group_id = g.id "
+              + "JOIN users u ON u.id = sg.user_id "
+              + "WHERE cur.id = :groupId AND g.semester = :semester "
+              + "AND g.academic_year = :academicYear AND sg.user_id IN (:studentIds) "
+              + "ORDER BY u.surname, u.name, u.id",
+      nativeQuery = true)
+  List<EnrollmentConflictView> findEnrollmentConflicts(
+      @Param("groupId") Long groupId,
+      @Param("semester") String semester,
+      @Param("academicYear") int academicYear,
+      @Param("studentIds") Collection<Long> studentIds);
+
+  @Modifying(flushAutomatically = true)
+  @Query(
+      value =
+          "INSERT INTO student_groups (group_id, user_id) SELECT :groupId, u.id FROM users u "
+              + "WHERE u.id IN (:studentIds) AND NOT EXISTS (SELECT 1 FROM student_groups sg "
+              + "WHERE sg.group_id = :groupId AND sg.user_id = u.id)",
+      nativeQuery = true)
+  int addStudents(@Param("groupId") Long groupId, @Param("studentIds") Collection<Long> studentIds);
+
+  @Modifying(flushAutomatically = true)
+  @Query(
+      value =
+          "DELETE FROM student_groups sg WHERE sg.group_id = :groupId "
+              + "AND sg.user_id IN (:studentIds)",
+      nativeQuery = true)
+  int removeStudents(
+      @Param("groupId") Long groupId, @Param("studentIds") Collection<Long> studentIds);
+
+  @Query(
+      "SELECT s.id AS studentId, g.id AS groupId, g.name AS groupName, g.active AS active "
+          + "FROM Group g JOIN g.students s "
+          + "WHERE g.teacher = :teacher AND g.active = true AND s.id IN :studentIds "
+          + "ORDER BY g.id")
+  List<StudentGroupView> findActiveTeacherGroupsOfStudents(
+      @Param("teacher") User teacher, @Param("studentIds") Collection<Long> studentIds);
+
+  @Query(
+      "SELECT t.id AS testId, g.id AS groupId, g.name AS groupName, tch.id AS teacherId "
+          + "FROM Group g JOIN g.tests t LEFT JOIN g.teacher tch "
+          + "WHERE t.id IN :testIds ORDER BY g.id")
+  List<TestGroupView> findTestGroupsByTestIds(@Param("testIds") Collection<Long> testIds);
+
+  @Query(
+      "SELECT DISTINCT s.username FROM Group g JOIN g.tests t JOIN g.students s "
+          + "WHERE t.id = :testId AND g.active = true")
+  List<String> findActiveStudentUsernamesByTestId(@Param("testId") Long testId);
+
+  @Query(
+      "SELECT DISTINCT g.teacher FROM Group g JOIN g.tests t "
+          + "WHERE t.id = :testId AND g.active = true AND g.teacher IS NOT NULL")
+  List<User> findActiveTeachersByTestId(@Param("testId") Long testId);
 }
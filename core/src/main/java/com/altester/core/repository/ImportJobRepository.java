@@ -0,0 +1,48 @@
+package com.altester.core.repository;
+
+import com.altester.core.model.dataImport.ImportJob;
+import com.altester.core.model.dataImport.enums.ImportJobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+  Page<ImportJob> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+  /**
+   * Changes the status of a job only if it still has the expected one.
+   *
+   * @return 1 if the job had the expected status and was updated, 0 otherwise
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE ImportJob j SET j.status = :to, j.updatedAt = :now "
+          + "WHERE j.id = :jobId AND j.status = :from")
+  int updateStatus(
+      @Param("jobId") Long jobId,
+      @Param("from") ImportJobStatus from,
+      @Param("to") ImportJobStatus to,
+      @Param("now") LocalDateTime now);
+
+  /** Fails jobs in the given states that have made no progress since the cutoff. */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE ImportJob j SET j.status = :failed, j.errorMessage = :message, "
+          + "j.updatedAt = :now, j.finishedAt = :now "
+          + "WHERE j.status IN :statuses AND j.updatedAt < :cutoff")
+  int failStale(
+      @Param("statuses") Collection<ImportJobStatus> statuses,
+      @Param("failed") ImportJobStatus failed,
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("now") LocalDateTime now,
+      @Param("message") String message);
+}
@@ -4,9 +4,18 @@ import com.altester.core.model.subject.Question;
 import com.altester.core.model.subject.Test;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
   List<Question> findByTest(Test test);
+
+  boolean existsByImagePath(String imagePath);
+
+  @Query(
+      "SELECT DISTINCT q.imagePath FROM Question q "
+          + "WHERE q.test.id = :testId AND q.imagePath IS NOT NULL")
+  List<String> findImagePathsByTestId(@Param("testId") Long testId);
 }
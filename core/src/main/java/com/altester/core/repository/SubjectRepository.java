@@ -2,10 +2,15 @@ package com.altester.core.repository;
 
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Subject;
+import com.altester.core.repository.projection.GroupSubjectView;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SubjectRepository extends JpaRepository<Subject, Long> {
 
@@ -17,6 +22,12 @@ public interface SubjectRepository extends JpaRepository<Subject, Long> {
 
   Optional<Subject> findByGroupsContaining(Group group);
 
+  @Query(
+      "SELECT g.id AS groupId, s.shortName AS shortName FROM Subject s JOIN s.groups g "
+          + "WHERE g.id IN :groupIds")
+  List<GroupSubjectView> findSubjectShortNamesByGroupIds(
+      @Param("groupIds") Collection<Long> groupIds);
+
   Page<Subject> findByNameContainingIgnoreCaseOrShortNameContainingIgnoreCase(
       String name, String shortName, Pageable pageable);
 }
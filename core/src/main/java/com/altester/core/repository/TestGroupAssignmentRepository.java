@@ -5,9 +5,13 @@ import com.altester.core.model.ApiKey.Prompt;
 import com.altester.core.model.ApiKey.TestGroupAssignment;
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Test;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +21,9 @@ public interface TestGroupAssignmentRepository extends JpaRepository<TestGroupAs
   List<TestGroupAssignment> findByApiKey(ApiKey apiKey);
 
   List<TestGroupAssignment> findByPrompt(Prompt prompt);
+
+  @Query(
+      "SELECT DISTINCT a.test.id FROM TestGroupAssignment a "
+          + "WHERE a.aiEvaluation = true AND a.test.id IN :testIds")
+  Set<Long> findAiEvaluatedTestIds(@Param("testIds") Collection<Long> testIds);
 }
@@ -1,9 +1,12 @@
 package com.altester.core.repository;
 
 import com.altester.core.model.subject.Test;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,6 +15,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface TestRepository extends JpaRepository<Test, Long> {
 
+  @EntityGraph(attributePaths = "questions")
+  List<Test> findWithQuestionsByIdIn(Collection<Long> ids);
+
   @Query(
       "SELECT DISTINCT t FROM Test t WHERE "
           + "(:searchQuery IS NULL OR :searchQuery = '' OR "
@@ -71,4 +77,8 @@ public interface TestRepository extends JpaRepository<Test, Long> {
   @Query(
       "SELECT t FROM Test t LEFT JOIN FETCH t.questions WHERE t.isOpen = false AND (t.questions IS EMPTY OR SIZE(t.questions) = 0)")
   List<Test> findAllNonOpenTestsWithoutQuestions();
+
+  @Query("SELECT t.id FROM Test t WHERE t.startTime > :from AND t.startTime <= :to")
+  List<Long> findIdsStartingBetween(
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -2,7 +2,9 @@ package com.altester.core.repository;
 
 import com.altester.core.model.auth.User;
 import com.altester.core.model.auth.enums.RolesEnum;
+import com.altester.core.util.StudentSearchUtils;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -14,6 +16,14 @@ import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends CrudRepository<User, Long>, JpaSpecificationExecutor<User> {
 
+  String NOT_IN_GROUPS =
+      "NOT EXISTS (SELECT 1 FROM student_groups sg WHERE sg.user_id = u.id"
+          + " AND sg.group_id IN (:groupIds))";
+
+  String IN_ACTIVE_GROUP_OF_TEACHER =
+      "EXISTS (SELECT 1 FROM student_groups sg JOIN groups g ON g.id = sg.group_id"
+          + " WHERE sg.user_id = u.id AND g.teacher_id = :teacherId AND g.active = true)";
+
   Optional<User> findByEmail(String email);
 
   Optional<User> findByUsername(String username);
@@ -25,5 +35,72 @@ public interface UserRepository extends CrudRepository<User, Long>, JpaSpecifica
   @Query("SELECT u FROM User u WHERE u.role = :role")
   List<User> findAllByRole(@Param("role") RolesEnum role);
 
+  List<User> findAllByIdInAndRole(Collection<Long> ids, RolesEnum role);
+
   int countByLastLoginAfter(LocalDateTime date);
+
+  @Query(
+      value =
+          "SELECT u.* FROM users u WHERE "
+              + StudentSearchUtils.STUDENT_MATCH
+              + " ORDER BY u.surname, u.name, u.id",
+      countQuery = "SELECT COUNT(*) FROM users u WHERE " + StudentSearchUtils.STUDENT_MATCH,
+      nativeQuery = true)
+  Page<User> searchStudents(@Param("pattern") String pattern, Pageable pageable);
+
+  @Query(
+      value =
+          "SELECT u.* FROM users u WHERE "
+              + StudentSearchUtils.STUDENT_MATCH
+              + " AND "
+              + NOT_IN_GROUPS
+              + " ORDER BY u.surname, u.name, u.id",
+      countQuery =
+          "SELECT COUNT(*) FROM users u WHERE "
+              + StudentSearchUtils.STUDENT_MATCH
+              + " AND "
+              + NOT_IN_GROUPS,
+      nativeQuery = true)
+  Page<User> searchStudentsNotInGroups(
+      @Param("pattern") String pattern,
+      @Param("groupIds") Collection<Long> groupIds,
+      Pageable pageable);
+
+  /**
+   * Typeahead search ordered by surname, name and id. The cursor is the id of the last student of
+   * the previous slice; students of the excluded group are skipped when a group id is given.
+   */
+  @Query(
+      value =
+          "SELECT u.* FROM users u WHERE "
+              + StudentSearchUtils.STUDENT_MATCH
+              + " AND (CAST(:groupId AS bigint) IS NULL OR NOT EXISTS ("
+              + "SELECT 1 FROM student_groups sg"
+              + " WHERE sg.user_id = u.id AND sg.group_id = CAST(:groupId AS bigint)))"
+              + " AND (CAST(:afterId AS bigint) IS NULL OR (u.surname, u.name, u.id) > ("
+              + "SELECT c.surname, c.name, c.id FROM users c"
+              + " WHERE c.id = CAST(:afterId AS bigint)))"
+              + " ORDER BY u.surname, u.name, u.id LIMIT :limit",
+      nativeQuery = true)
+  List<User> searchStudentsAfter(
+      @Param("pattern") String pattern,
+      @Param("groupId") Long excludedGroupId,
+      @Param("afterId") Long afterId,
+      @Param("limit") int limit);
+
+  @Query(
+      value =
+          "SELECT u.* FROM users u WHERE "
+              + StudentSearchUtils.STUDENT_MATCH
+              + " AND "
+              + IN_ACTIVE_GROUP_OF_TEACHER
+              + " ORDER BY u.surname, u.name, u.id",
+      countQuery =
+          "SELECT COUNT(*) FROM users u WHERE "
+              + StudentSearchUtils.STUDENT_MATCH
+              + " AND "
+              + IN_ACTIVE_GROUP_OF_TEACHER,
+      nativeQuery = true)
+  Page<User> searchStudentsOfTeacher(
+      @Param("teacherId") Long teacherId, @Param("pattern") String pattern, Pageable pageable);
 }
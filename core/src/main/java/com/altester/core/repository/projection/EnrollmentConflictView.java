@@ -0,0 +1,12 @@
+package com.altester.core.repository.projection;
+
+/** Student already enrolled in another group of the same subject, semester and academic year. */
+public interface EnrollmentConflictView {
+  Long getStudentId();
+
+  String getName();
+
+  String getSurname();
+
+  String getGroupName();
+}
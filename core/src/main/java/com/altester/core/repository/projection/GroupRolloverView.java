@@ -0,0 +1,8 @@
+package com.altester.core.repository.projection;
+
+/** Group whose stored active flag differs from the current semester, with its teacher. */
+public interface GroupRolloverView {
+  Long getGroupId();
+
+  String getTeacherUsername();
+}
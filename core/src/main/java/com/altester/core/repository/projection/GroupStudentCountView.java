@@ -0,0 +1,8 @@
+package com.altester.core.repository.projection;
+
+/** Number of students enrolled in a group. */
+public interface GroupStudentCountView {
+  Long getGroupId();
+
+  Long getStudentCount();
+}
@@ -0,0 +1,8 @@
+package com.altester.core.repository.projection;
+
+/** Maps a group to the short name of the subject it belongs to. */
+public interface GroupSubjectView {
+  Long getGroupId();
+
+  String getShortName();
+}
@@ -0,0 +1,12 @@
+package com.altester.core.repository.projection;
+
+/** One row of the student_groups relation with the group columns shown next to a student. */
+public interface StudentGroupView {
+  Long getStudentId();
+
+  Long getGroupId();
+
+  String getGroupName();
+
+  boolean isActive();
+}
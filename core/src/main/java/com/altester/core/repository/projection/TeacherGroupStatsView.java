@@ -0,0 +1,22 @@
+package com.altester.core.repository.projection;
+
+/** Group of a teacher with member and test counts and the subject it belongs to. */
+public interface TeacherGroupStatsView {
+  Long getGroupId();
+
+  String getGroupName();
+
+  Boolean getActive();
+
+  Long getStudentCount();
+
+  Long getTestCount();
+
+  Long getSubjectId();
+
+  String getSubjectName();
+
+  String getSubjectShortName();
+
+  String getSubjectDescription();
+}
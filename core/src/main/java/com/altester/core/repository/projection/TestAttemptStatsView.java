@@ -0,0 +1,20 @@
+package com.altester.core.repository.projection;
+
+/** Attempt statistics of one student for one test, aggregated over all attempts. */
+public interface TestAttemptStatsView {
+  Long getTestId();
+
+  Long getFinishedAttempts();
+
+  Long getInProgressAttempts();
+
+  Long getCompletedAttempts();
+
+  Long getReviewedAttempts();
+
+  Long getAiReviewedAttempts();
+
+  Integer getBestReviewedScore();
+
+  Integer getBestAiScore();
+}
@@ -0,0 +1,12 @@
+package com.altester.core.repository.projection;
+
+/** One row of the group_tests relation with the group columns needed for test listings. */
+public interface TestGroupView {
+  Long getTestId();
+
+  Long getGroupId();
+
+  String getGroupName();
+
+  Long getTeacherId();
+}
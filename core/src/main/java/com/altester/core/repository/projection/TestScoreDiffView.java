@@ -0,0 +1,10 @@
+package com.altester.core.repository.projection;
+
+/** Sum of teacher/AI score differences over the attempts of one test graded by both. */
+public interface TestScoreDiffView {
+  Long getTestId();
+
+  Long getTotalDiff();
+
+  Long getAttemptCount();
+}
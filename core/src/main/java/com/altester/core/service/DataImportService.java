@@ -0,0 +1,59 @@
+package com.altester.core.service;
+
+import com.altester.core.dtos.core_service.dataImport.ImportJobDTO;
+import com.altester.core.exception.*;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import java.io.InputStream;
+import java.security.Principal;
+import org.springframework.data.domain.Page;
+
+public interface DataImportService {
+
+  /**
+   * Starts a background import of users, groups, memberships, tests, questions or options from a
+   * CSV file with a header row, a JSON array or a JSON Lines file. The file is parsed incrementally
+   * and written in chunks, each chunk in its own transaction.
+   *
+   * @param entityType Type of the entities in the file
+   * @param fileName Name of the uploaded file, its extension selects the format
+   * @param content Content of the CSV or JSON file
+   * @param principal Administrator starting the import
+   * @return The created import job, with status QUEUED
+   * @throws ValidationException if the file is empty, too large or its format is not supported
+   * @throws FileOperationException if the file cannot be stored for processing
+   */
+  ImportJobDTO startImport(
+      ImportEntityType entityType, String fileName, InputStream content, Principal principal);
+
+  /**
+   * Resumes a failed import job with the corrected file. Rows which were already committed are
+   * skipped, so the file must keep the order of the original one. Jobs interrupted by a restart are
+   * marked as failed by {@code StaleImportJobSweeper} and can be resumed the same way.
+   *
+   * @param jobId ID of the failed import job
+   * @param fileName Name of the uploaded file, its extension selects the format
+   * @param content Content of the CSV or JSON file
+   * @return The resumed import job, with status QUEUED
+   * @throws ResourceNotFoundException if the job doesn't exist
+   * @throws StateConflictException if the job has not failed
+   */
+  ImportJobDTO resumeImport(Long jobId, String fileName, InputStream content);
+
+  /**
+   * Retrieves an import job with its progress and the first recorded row errors
+   *
+   * @param jobId ID of the import job
+   * @return ImportJobDTO with the job's progress
+   * @throws ResourceNotFoundException if the job doesn't exist
+   */
+  ImportJobDTO getImportJob(Long jobId);
+
+  /**
+   * Retrieves import jobs, newest first
+   *
+   * @param page Page number (zero-based)
+   * @param size Number of jobs per page
+   * @return Page of ImportJobDTO objects
+   */
+  Page<ImportJobDTO> getImportJobs(int page, int size);
+}
@@ -0,0 +1,61 @@
+package com.altester.core.service;
+
+import com.altester.core.exception.*;
+import com.altester.core.serviceImpl.export.ExportFormat;
+import java.security.Principal;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+
+  /**
+   * Exports all attempts of a test with student, status and scores. Teachers only get attempts of
+   * students in their groups assigned to the test; admins get all attempts. Access is checked
+   * before the returned body starts streaming.
+   *
+   * @param principal The authenticated teacher or admin
+   * @param testId ID of the test
+   * @param format Output format
+   * @return Body streaming one row per attempt
+   * @throws ResourceNotFoundException if the test doesn't exist
+   * @throws AccessDeniedException if a teacher has no group assigned to the test
+   */
+  StreamingResponseBody exportTestResults(Principal principal, Long testId, ExportFormat format);
+
+  /**
+   * Exports the gradebook of a group: one row per student and test assigned to the group, with the
+   * number of attempts and the best scores.
+   *
+   * @param principal The authenticated teacher or admin
+   * @param groupId ID of the group
+   * @param format Output format
+   * @return Body streaming one row per student and test
+   * @throws ResourceNotFoundException if the group doesn't exist
+   * @throws AccessDeniedException if a teacher does not teach the group
+   */
+  StreamingResponseBody exportGroupGradebook(
+      Principal principal, Long groupId, ExportFormat format);
+
+  /**
+   * Exports every submission of a test with the answer, selected options, scores and feedback.
+   * Teachers only get submissions of students in their groups assigned to the test.
+   *
+   * @param principal The authenticated teacher or admin
+   * @param testId ID of the test
+   * @param format Output format
+   * @return Body streaming one row per submission
+   * @throws ResourceNotFoundException if the test doesn't exist
+   * @throws AccessDeniedException if a teacher has no group assigned to the test
+   */
+  StreamingResponseBody exportTestSubmissions(
+      Principal principal, Long testId, ExportFormat format);
+
+  /**
+   * Exports every submission of every test, ordered by submission ID. Admin only.
+   *
+   * @param principal The authenticated admin
+   * @param format Output format
+   * @return Body streaming one row per submission
+   * @throws AccessDeniedException if the user is not an admin
+   */
+  StreamingResponseBody exportAllSubmissions(Principal principal, ExportFormat format);
+}
@@ -3,6 +3,7 @@ package com.altester.core.service;
 import com.altester.core.dtos.core_service.subject.*;
 import com.altester.core.exception.*;
 import com.altester.core.util.CacheablePage;
+import org.springframework.data.domain.Slice;
 
 public interface GroupService {
 
@@ -54,6 +55,19 @@ public interface GroupService {
    */
   void updateGroup(Long id, UpdateGroupDTO updateGroupDTO);
 
+  /**
+   * Enrolls many students into a group at once, e.g. from an import. Only students joining or
+   * leaving the group are written, and conflicts with other groups of the subject are checked in
+   * bulk
+   *
+   * @param id ID of the group
+   * @param bulkEnrollmentDTO DTO containing student IDs and whether they replace current members
+   * @return Numbers of added, removed and unchanged students and the ignored IDs
+   * @throws StateConflictException if group cannot be modified due to activity constraints
+   * @throws ValidationException if a student is already in another group of the subject
+   */
+  BulkEnrollmentResultDTO enrollStudents(Long id, BulkEnrollmentDTO bulkEnrollmentDTO);
+
   /**
    * Creates a new group with provided information and returns the generated ID
    *
@@ -107,4 +121,16 @@ public interface GroupService {
    */
   CacheablePage<CreateGroupUserListDTO> getAllStudentsNotInGroup(
       int page, int size, Long groupId, String searchQuery);
+
+  /**
+   * Typeahead search over students using keyset pagination, ordered by surname, name and ID
+   *
+   * @param searchQuery Optional search text matched against full name and username
+   * @param excludedGroupId Optional ID of a group whose members are skipped
+   * @param afterId ID of the last student of the previous slice, null for the first slice
+   * @param limit Maximum number of students to return
+   * @return Slice of CreateGroupUserListDTO objects
+   */
+  Slice<CreateGroupUserListDTO> searchStudents(
+      String searchQuery, Long excludedGroupId, Long afterId, int limit);
 }
@@ -6,6 +6,7 @@ import com.altester.core.model.subject.Attempt;
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Test;
 import com.altester.core.model.subject.enums.NotificationType;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.http.HttpStatus;
 
@@ -62,6 +63,15 @@ public interface NotificationDispatchService {
    */
   void notifyNewStudentJoined(User student, Group group);
 
+  /**
+   * Notifies a teacher about several students joining one of their groups at once. A single
+   * notification is sent regardless of the number of students.
+   *
+   * @param students The students who joined the group
+   * @param group The group the students joined
+   */
+  void notifyNewStudentsJoined(Collection<User> students, Group group);
+
   /**
    * Notifies system administrators when a test is created without any questions. Includes a link to
    * the test editor to add questions.
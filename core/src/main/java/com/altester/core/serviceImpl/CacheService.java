@@ -1,13 +1,20 @@
 package com.altester.core.serviceImpl;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +34,7 @@ public class CacheService {
     clearAttemptRelatedCaches();
     clearApiKeyRelatedCaches();
     clearQuestionRelatedCaches();
+    clearCaches("teacherPage");
     log.info("All caches cleared.");
   }
 
@@ -67,7 +75,6 @@ public class CacheService {
   public void clearTeacherRelatedCaches() {
     clearCaches(
         "teachers",
-        "teacherPage",
         "teacherStudents",
         "teacherGroups",
         "testAttemptsForTeacher",
@@ -76,6 +83,84 @@ public class CacheService {
     log.debug("All teacher-related caches have been cleared");
   }
 
+  /**
+   * Evicts the cached teacher page of the given users only. The teacher page holds counts and the
+   * subject mapping of a single teacher's groups, so it is invalidated per teacher instead of with
+   * the other teacher caches.
+   *
+   * @param usernames Usernames whose teacher page is stale, null entries are ignored
+   */
+  public void evictTeacherPages(Collection<String> usernames) {
+    evictKeys("teacherPage", usernames);
+  }
+
+  /**
+   * Evicts single entries of a cache, leaving the rest of it in place
+   *
+   * @param cacheName Name of the cache
+   * @param keys Keys to evict, null entries are ignored
+   */
+  public void evictKeys(String cacheName, Collection<?> keys) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      log.warn("Cache '{}' not found", cacheName);
+      return;
+    }
+
+    keys.stream().filter(Objects::nonNull).distinct().forEach(cache::evict);
+    log.debug("Evicted {} from cache '{}'", keys, cacheName);
+  }
+
+  /**
+   * Evicts the cached student pages of a single student, leaving those of other students in place.
+   * Used when a student's own attempts change, so that warmed dashboards of everyone else survive.
+   *
+   * @param username Username of the student
+   */
+  public void evictStudentCaches(String username) {
+    clearCaches("students");
+    evictKeys("availablePeriods", List.of(username));
+    String prefix = username + ":";
+    evictByPrefix("studentDashboard", prefix);
+    evictByPrefix("academicHistory", prefix);
+    evictByPrefix("studentTestAttempts", prefix);
+    evictByPrefix("attemptReview", prefix);
+  }
+
+  /**
+   * Evicts all entries of a cache whose key starts with the given prefix. Like {@link
+   * #clearCaches}, the eviction is deferred until the current transaction commits.
+   *
+   * @param cacheName Name of the cache
+   * @param keyPrefix Key prefix, matched literally
+   */
+  public void evictByPrefix(String cacheName, String keyPrefix) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null || !(cache.getNativeCache() instanceof RedisCacheWriter cacheWriter)) {
+      log.warn("Cache '{}' not found", cacheName);
+      return;
+    }
+    byte[] pattern =
+        (cacheName + "::" + escapeGlob(keyPrefix) + "*").getBytes(StandardCharsets.UTF_8);
+    Runnable evict = () -> cacheWriter.clean(cacheName, pattern);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evict.run();
+            }
+          });
+    } else {
+      evict.run();
+    }
+    log.debug("Evicted keys '{}*' from cache '{}'", keyPrefix, cacheName);
+  }
+
+  private static String escapeGlob(String value) {
+    return value.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+  }
+
   public void clearAdminRelatedCaches() {
     clearCaches("adminStats", "testAttemptsForAdmin", "studentAttemptsForAdmin");
     log.debug("All admin-related caches have been cleared");
@@ -90,7 +175,8 @@ public class CacheService {
         "studentAttemptsForAdmin",
         "studentTestAttempts",
         "studentTestAttemptsForTeacher",
-        "studentTestAttemptsForAdmin");
+        "studentTestAttemptsForAdmin",
+        "aiAccuracy");
     log.debug("All attempt-related caches have been cleared");
   }
 
@@ -123,6 +209,20 @@ public class CacheService {
     log.debug("Set processing flag '{}' with TTL {} seconds", key, ttlSeconds);
   }
 
+  /**
+   * Store a processing flag unless it is already set, e.g. to let only one node run a job
+   *
+   * @param key The key to store the flag under
+   * @param value The value to store
+   * @param ttlSeconds The time-to-live in seconds
+   * @return true if the flag was stored, false if it was already set
+   */
+  public <T> boolean claimProcessingFlag(String key, T value, long ttlSeconds) {
+    String flagKey = FLAG + key;
+    return Boolean.TRUE.equals(
+        redisTemplate.opsForValue().setIfAbsent(flagKey, value, Duration.ofSeconds(ttlSeconds)));
+  }
+
   /**
    * Get a processing flag value
    *
@@ -13,11 +13,13 @@ import com.altester.core.model.subject.Group;
 import com.altester.core.repository.*;
 import com.altester.core.service.AdminPageService;
 import com.altester.core.serviceImpl.CacheService;
+import com.altester.core.serviceImpl.group.GroupMembershipEventPublisher;
 import com.altester.core.util.AiAccuracy;
 import com.altester.core.util.CacheablePage;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,6 +55,7 @@ public class AdminPageServiceImpl implements AdminPageService {
   private final CacheService cacheService;
   private final AttemptRepository attemptRepository;
   private final AiAccuracy aiAccuracy;
+  private final GroupMembershipEventPublisher membershipEventPublisher;
 
   private User getUserByUsername(String username) {
     return userRepository
@@ -213,10 +216,12 @@ public class AdminPageServiceImpl implements AdminPageService {
 
     user.setRole(RolesEnum.STUDENT);
     userRepository.save(user);
+    membershipEventPublisher.publishUsersChanged(List.of(user));
 
     cacheService.clearAdminRelatedCaches();
     cacheService.clearStudentRelatedCaches();
     cacheService.clearTeacherRelatedCaches();
+    cacheService.evictTeacherPages(List.of(user.getUsername()));
 
     log.info("User {} (ID: {}) successfully promoted to STUDENT", user.getUsername(), user.getId());
   }
@@ -241,10 +246,17 @@ public class AdminPageServiceImpl implements AdminPageService {
 
     user.setRole(RolesEnum.TEACHER);
     userRepository.save(user);
+    membershipEventPublisher.publishUsersChanged(List.of(user));
 
     cacheService.clearAdminRelatedCaches();
     cacheService.clearTeacherRelatedCaches();
     cacheService.clearStudentRelatedCaches();
+    cacheService.evictTeacherPages(
+        studentGroups.stream()
+            .map(Group::getTeacher)
+            .filter(Objects::nonNull)
+            .map(User::getUsername)
+            .toList());
 
     log.info("User {} (ID: {}) successfully promoted to TEACHER", user.getUsername(), user.getId());
   }
@@ -278,6 +290,7 @@ public class AdminPageServiceImpl implements AdminPageService {
     cacheService.clearAdminRelatedCaches();
     cacheService.clearStudentRelatedCaches();
     cacheService.clearTeacherRelatedCaches();
+    cacheService.evictTeacherPages(List.of(username, savedUser.getUsername()));
 
     log.info("User {} (ID: {}) successfully updated", savedUser.getUsername(), savedUser.getId());
     return userMapper.convertToUsersListDTO(savedUser);
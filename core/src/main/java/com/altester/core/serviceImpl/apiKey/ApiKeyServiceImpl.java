@@ -400,9 +400,8 @@ public class ApiKeyServiceImpl implements ApiKeyService {
     }
 
     if (assignments.isEmpty() && currentUser.getRole() == RolesEnum.TEACHER) {
-      List<Group> teacherGroups = groupRepository.findByTeacher(currentUser);
       boolean hasAccessToTest =
-          teacherGroups.stream().anyMatch(group -> group.getTests().contains(test));
+          groupRepository.existsByTeacherAndTestsContaining(currentUser, test);
 
       if (!hasAccessToTest) {
         log.warn(
@@ -112,7 +112,7 @@ public class TestAttemptServiceImpl implements TestAttemptService {
     attempt = attemptRepository.save(attempt);
 
     cacheService.clearAttemptRelatedCaches();
-    cacheService.clearStudentRelatedCaches();
+    cacheService.evictStudentCaches(student.getUsername());
 
     return dtoMapper.getQuestionByNumber(attempt, 1, questionsForAttempt);
   }
@@ -38,13 +38,13 @@ public class TestAttemptValidation {
   }
 
   public void validateStudentTestAccess(User student, Test test) {
-    List<Group> studentGroups = groupRepository.findAllByStudentId(student.getId());
+    List<Group> testGroups =
+        groupRepository.findAllByStudentsContainingAndTestsContaining(student, test);
 
     boolean isTestInStudentGroup =
-        studentGroups.stream()
+        testGroups.stream()
             .filter(Group::isActive)
-            .filter(group -> !groupActivityService.isGroupInFuture(group))
-            .anyMatch(group -> group.getTests().stream().anyMatch(t -> t.getId() == test.getId()));
+            .anyMatch(group -> !groupActivityService.isGroupInFuture(group));
 
     if (!isTestInStudentGroup) {
       throw AccessDeniedException.testAccess();
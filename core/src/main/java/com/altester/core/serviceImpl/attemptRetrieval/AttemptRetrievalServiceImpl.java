@@ -48,14 +48,12 @@ public class AttemptRetrievalServiceImpl implements AttemptRetrievalService {
     User teacher = accessValidator.getUserFromPrincipal(principal);
     accessValidator.verifyTeacherRole(teacher);
 
-    testRepository
-        .findById(testId)
-        .orElseThrow(() -> new ResourceNotFoundException("Test", testId.toString(), null));
+    Test test =
+        testRepository
+            .findById(testId)
+            .orElseThrow(() -> new ResourceNotFoundException("Test", testId.toString(), null));
 
-    List<Group> teacherGroups =
-        groupRepository.findByTeacher(teacher).stream()
-            .filter(group -> group.getTests().stream().anyMatch(t -> t.getId() == testId))
-            .toList();
+    List<Group> teacherGroups = groupRepository.findByTeacherAndTestsContaining(teacher, test);
 
     List<Attempt> allAttempts = attemptRepository.findAll();
     return dataProcessor.processGroupsForTestAttempts(
@@ -80,14 +78,12 @@ public class AttemptRetrievalServiceImpl implements AttemptRetrievalService {
     User admin = accessValidator.getUserFromPrincipal(principal);
     accessValidator.verifyAdminRole(admin);
 
-    testRepository
-        .findById(testId)
-        .orElseThrow(() -> new ResourceNotFoundException("Test", testId.toString(), null));
+    Test test =
+        testRepository
+            .findById(testId)
+            .orElseThrow(() -> new ResourceNotFoundException("Test", testId.toString(), null));
 
-    List<Group> groups =
-        groupRepository.findAll().stream()
-            .filter(group -> group.getTests().stream().anyMatch(t -> t.getId() == testId))
-            .toList();
+    List<Group> groups = groupRepository.findAllByTestsContaining(test);
 
     List<Attempt> allAttempts = attemptRepository.findAll();
     return dataProcessor.processGroupsForTestAttempts(groups, testId, allAttempts, searchQuery);
@@ -229,9 +225,8 @@ public class AttemptRetrievalServiceImpl implements AttemptRetrievalService {
             .orElseThrow(() -> new ResourceNotFoundException("Test", testId.toString(), null));
 
     boolean hasAccess =
-        groupRepository.findByTeacher(teacher).stream()
-            .filter(group -> group.getStudents().contains(student))
-            .anyMatch(group -> group.getTests().contains(test));
+        groupRepository.existsByTeacherAndStudentsContainingAndTestsContaining(
+            teacher, student, test);
 
     if (!hasAccess) {
       throw AccessDeniedException.attemptAccess();
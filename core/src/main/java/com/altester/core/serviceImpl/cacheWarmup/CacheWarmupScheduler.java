@@ -0,0 +1,80 @@
+package com.altester.core.serviceImpl.cacheWarmup;
+
+import com.altester.core.repository.TestRepository;
+import com.altester.core.serviceImpl.CacheService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Starts cache warm-ups ahead of known test windows: periodically for tests whose start time is
+ * within the lead time, and right after a teacher opens a test. Scheduled warm-ups are claimed
+ * through a Redis flag so only one node runs each of them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupScheduler {
+
+  private static final String CLAIM_PREFIX = "cacheWarmup:";
+
+  private final TestRepository testRepository;
+  private final CacheWarmupService cacheWarmupService;
+  private final CacheService cacheService;
+
+  @Value("${cache.warmup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${cache.warmup.lead-time:10m}")
+  private Duration leadTime;
+
+  @Scheduled(
+      fixedDelayString = "${cache.warmup.scan-interval-ms:60000}",
+      initialDelayString = "${cache.warmup.scan-interval-ms:60000}")
+  public void warmUpcomingTests() {
+    if (!enabled) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> testIds = testRepository.findIdsStartingBetween(now, now.plus(leadTime));
+    for (Long testId : testIds) {
+      // The claim outlives the window, so each start time is warmed once across all nodes
+      if (cacheService.claimProcessingFlag(
+          CLAIM_PREFIX + testId, true, leadTime.multipliedBy(2).toSeconds())) {
+        log.debug("Scheduling cache warm-up for test {} starting soon", testId);
+        cacheWarmupService.warmTest(testId);
+      }
+    }
+  }
+
+  /**
+   * Warms the caches for a test that was just opened. The warm-up starts after the current
+   * transaction commits, so it reads the opened test and is not undone by the cache eviction that
+   * comes with the change.
+   *
+   * @param testId ID of the opened test
+   */
+  public void warmAfterCommit(Long testId) {
+    if (!enabled) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              cacheWarmupService.warmTest(testId);
+            }
+          });
+    } else {
+      cacheWarmupService.warmTest(testId);
+    }
+  }
+}
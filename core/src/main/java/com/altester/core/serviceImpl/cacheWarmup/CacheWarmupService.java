@@ -0,0 +1,155 @@
+package com.altester.core.serviceImpl.cacheWarmup;
+
+import com.altester.core.model.auth.User;
+import com.altester.core.model.subject.Test;
+import com.altester.core.repository.GroupRepository;
+import com.altester.core.repository.QuestionRepository;
+import com.altester.core.repository.TestRepository;
+import com.altester.core.service.StudentService;
+import com.altester.core.serviceImpl.question.QuestionImageStore;
+import com.altester.core.serviceImpl.teacherPage.TeacherPageStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Pre-loads the cache entries that every enrolled student and teacher requests when a test opens:
+ * student dashboards, the students' attempt lists of the test, the teacher pages and the metadata
+ * of the test's question images. Entries are loaded through the cached service methods themselves,
+ * one at a time and at a limited rate, so the warm-up never competes with real traffic for the
+ * database.
+ */
+@Slf4j
+@Service
+public class CacheWarmupService {
+
+  private final TestRepository testRepository;
+  private final GroupRepository groupRepository;
+  private final QuestionRepository questionRepository;
+  private final StudentService studentService;
+  private final TeacherPageStatsService teacherPageStatsService;
+  private final QuestionImageStore questionImageStore;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final Counter loadedEntries;
+  private final Counter failedEntries;
+  private final Counter completedRuns;
+  private final Timer runDuration;
+  private final AtomicLong pendingEntries = new AtomicLong();
+  private final AtomicLong lastCompletedEpochSeconds = new AtomicLong();
+
+  @Value("${cache.warmup.rate-per-second:50}")
+  private int ratePerSecond;
+
+  public CacheWarmupService(
+      TestRepository testRepository,
+      GroupRepository groupRepository,
+      QuestionRepository questionRepository,
+      StudentService studentService,
+      TeacherPageStatsService teacherPageStatsService,
+      QuestionImageStore questionImageStore,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.testRepository = testRepository;
+    this.groupRepository = groupRepository;
+    this.questionRepository = questionRepository;
+    this.studentService = studentService;
+    this.teacherPageStatsService = teacherPageStatsService;
+    this.questionImageStore = questionImageStore;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+
+    this.loadedEntries =
+        Counter.builder("cache.warmup.entries").tag("result", "loaded").register(meterRegistry);
+    this.failedEntries =
+        Counter.builder("cache.warmup.entries").tag("result", "failed").register(meterRegistry);
+    this.completedRuns = Counter.builder("cache.warmup.completed").register(meterRegistry);
+    this.runDuration = Timer.builder("cache.warmup.duration").register(meterRegistry);
+    Gauge.builder("cache.warmup.pending", pendingEntries, AtomicLong::get)
+        .description("Entries still to be loaded by running warm-ups")
+        .register(meterRegistry);
+    Gauge.builder("cache.warmup.last.completed", lastCompletedEpochSeconds, AtomicLong::get)
+        .description("Epoch second at which the last warm-up completed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Warms the caches for the given test. Attempt lists are only loaded for open tests, because they
+   * cannot be requested for closed ones.
+   *
+   * @param testId ID of the test about to be taken
+   */
+  @Async("cacheWarmupExecutor")
+  public void warmTest(Long testId) {
+    Test test = testRepository.findById(testId).orElse(null);
+    if (test == null) {
+      return;
+    }
+    boolean open = test.isOpen();
+
+    List<Runnable> entries = new ArrayList<>();
+    for (String username : groupRepository.findActiveStudentUsernamesByTestId(testId)) {
+      Principal student = new UsernamePasswordAuthenticationToken(username, null);
+      entries.add(() -> studentService.getStudentDashboard(student, null, null));
+      if (open) {
+        entries.add(() -> studentService.getStudentTestAttempts(student, testId));
+      }
+    }
+    for (User teacher : groupRepository.findActiveTeachersByTestId(testId)) {
+      entries.add(() -> teacherPageStatsService.buildTeacherPage(teacher));
+    }
+    for (String imagePath : questionRepository.findImagePathsByTestId(testId)) {
+      entries.add(() -> questionImageStore.metadata(imagePath));
+    }
+
+    log.info("Warming {} cache entries for test {}", entries.size(), testId);
+    runDuration.record(() -> load(entries));
+    completedRuns.increment();
+    lastCompletedEpochSeconds.set(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+    log.info("Cache warm-up for test {} completed", testId);
+  }
+
+  private void load(List<Runnable> entries) {
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+    long next = System.nanoTime();
+    int done = 0;
+    pendingEntries.addAndGet(entries.size());
+    try {
+      for (Runnable entry : entries) {
+        long delay = next - System.nanoTime();
+        if (delay > 0) {
+          TimeUnit.NANOSECONDS.sleep(delay);
+        }
+        next = Math.max(next, System.nanoTime()) + intervalNanos;
+
+        try {
+          readOnlyTransaction.executeWithoutResult(status -> entry.run());
+          loadedEntries.increment();
+        } catch (RuntimeException e) {
+          failedEntries.increment();
+          log.debug("Cache warm-up entry failed: {}", e.getMessage());
+        }
+        done++;
+        pendingEntries.decrementAndGet();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Cache warm-up interrupted");
+    } finally {
+      pendingEntries.addAndGet(done - entries.size());
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.exception.FileOperationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming reader for RFC 4180 CSV files. The first record is the header; quoted fields may
+ * contain separators, doubled quotes and line breaks. Empty lines are skipped.
+ *
+ * <p>Row numbers are physical line numbers counted from the line after the header. Empty lines and
+ * line breaks inside quoted fields advance them too, so a row keeps the number it has in the file
+ * and a resumed import skips exactly the rows that were committed.
+ */
+public class CsvImportRowReader implements ImportRowReader {
+
+  private static final char SEPARATOR = ',';
+  private static final char QUOTE = '"';
+
+  private final Reader reader;
+  private final List<String> header;
+  private final long headerLines;
+  private List<String> nextRecord;
+  private long nextRecordLine;
+  private long lines;
+  private int previous = -1;
+  private int pending = -2;
+
+  public CsvImportRowReader(Reader reader) {
+    this.reader = reader;
+    List<String> headerRecord = readRecord();
+    if (headerRecord == null) {
+      throw FileOperationException.importRead("CSV file is empty");
+    }
+    this.header = headerRecord.stream().map(ImportRow::normalizeColumn).toList();
+    this.headerLines = lines;
+    this.nextRecord = readRecord();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return nextRecord != null;
+  }
+
+  @Override
+  public ImportRow next() {
+    if (nextRecord == null) {
+      throw new NoSuchElementException();
+    }
+
+    List<String> fields = nextRecord;
+    long rowNumber = nextRecordLine - headerLines;
+    if (fields.size() > header.size()) {
+      throw FileOperationException.importRead(
+          "Row " + rowNumber + " has more fields than the header");
+    }
+
+    Map<String, String> values = new HashMap<>();
+    for (int i = 0; i < fields.size(); i++) {
+      values.put(header.get(i), fields.get(i));
+    }
+
+    nextRecord = readRecord();
+    return new ImportRow(rowNumber, values);
+  }
+
+  private List<String> readRecord() {
+    try {
+      List<String> fields;
+      do {
+        nextRecordLine = lines + 1;
+        fields = parseRecord();
+      } while (fields != null && fields.size() == 1 && fields.getFirst().isEmpty());
+      return fields;
+    } catch (IOException e) {
+      throw FileOperationException.importRead("Failed to read CSV file: " + e.getMessage());
+    }
+  }
+
+  private List<String> parseRecord() throws IOException {
+    int c = read();
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw FileOperationException.importRead("Unterminated quoted field in CSV file");
+        }
+        if (c == QUOTE) {
+          int following = read();
+          if (following == QUOTE) {
+            field.append(QUOTE);
+          } else {
+            quoted = false;
+            c = following;
+            continue;
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == QUOTE && field.isEmpty()) {
+        quoted = true;
+      } else if (c == SEPARATOR) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == '\r' || c == -1) {
+        if (c == '\r') {
+          int following = read();
+          if (following != '\n') {
+            pending = following;
+          }
+        }
+        fields.add(field.toString());
+        return fields;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int c = pending;
+      pending = -2;
+      return c;
+    }
+    int c = reader.read();
+    if (c == '\r' || (c == '\n' && previous != '\r')) {
+      lines++;
+    }
+    previous = c;
+    return c;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
@@ -0,0 +1,213 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.dtos.core_service.dataImport.ImportJobDTO;
+import com.altester.core.exception.FileOperationException;
+import com.altester.core.exception.ResourceNotFoundException;
+import com.altester.core.exception.StateConflictException;
+import com.altester.core.exception.ValidationException;
+import com.altester.core.model.dataImport.ImportJob;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.dataImport.enums.ImportFormat;
+import com.altester.core.model.dataImport.enums.ImportJobStatus;
+import com.altester.core.repository.ImportJobRepository;
+import com.altester.core.service.DataImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataImportServiceImpl implements DataImportService {
+
+  private static final List<String> CSV_EXTENSIONS = List.of(".csv");
+  private static final List<String> JSON_EXTENSIONS = List.of(".json", ".jsonl", ".ndjson");
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final ImportJobRepository importJobRepository;
+  private final ImportJobRunner importJobRunner;
+
+  @Value("${import.max-file-size:512MB}")
+  private DataSize maxFileSize;
+
+  @Override
+  public ImportJobDTO startImport(
+      ImportEntityType entityType, String fileName, InputStream content, Principal principal) {
+    ImportFormat format = detectFormat(fileName);
+    Path storedFile = storeFile(fileName, content);
+
+    LocalDateTime now = LocalDateTime.now();
+    ImportJob job =
+        importJobRepository.save(
+            ImportJob.builder()
+                .entityType(entityType)
+                .format(format)
+                .status(ImportJobStatus.QUEUED)
+                .fileName(fileName)
+                .createdBy(principal.getName())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+    log.info(
+        "User {} started {} import job {} from file {}",
+        principal.getName(),
+        entityType,
+        job.getId(),
+        fileName);
+
+    return submit(job, storedFile);
+  }
+
+  @Override
+  public ImportJobDTO resumeImport(Long jobId, String fileName, InputStream content) {
+    ImportJob job = getJobById(jobId);
+
+    if (job.getStatus() != ImportJobStatus.FAILED) {
+      log.error("Import job {} cannot be resumed in status {}", jobId, job.getStatus());
+      throw StateConflictException.importNotResumable(
+          jobId, job.getStatus().name().toLowerCase(Locale.ROOT));
+    }
+
+    ImportFormat format = detectFormat(fileName);
+    Path storedFile = storeFile(fileName, content);
+
+    job.setFormat(format);
+    job.setFileName(fileName);
+    job.setStatus(ImportJobStatus.QUEUED);
+    job.setErrorMessage(null);
+    job.setFinishedAt(null);
+    job.setUpdatedAt(LocalDateTime.now());
+    job = importJobRepository.save(job);
+
+    log.info("Resuming import job {} after row {}", jobId, job.getCommittedRows());
+
+    return submit(job, storedFile);
+  }
+
+  @Override
+  public ImportJobDTO getImportJob(Long jobId) {
+    return toDTO(getJobById(jobId));
+  }
+
+  @Override
+  public Page<ImportJobDTO> getImportJobs(int page, int size) {
+    return importJobRepository
+        .findAllByOrderByCreatedAtDesc(PageRequest.of(page, size))
+        .map(this::toDTO);
+  }
+
+  private ImportJobDTO submit(ImportJob job, Path storedFile) {
+    try {
+      importJobRunner.run(job.getId(), storedFile);
+    } catch (TaskRejectedException e) {
+      log.error("Import job {} rejected, too many imports are running", job.getId());
+      job.setStatus(ImportJobStatus.FAILED);
+      job.setErrorMessage("Too many imports are running, resume the job later");
+      job.setFinishedAt(LocalDateTime.now());
+      job = importJobRepository.save(job);
+      deleteFile(storedFile);
+    }
+    return toDTO(job);
+  }
+
+  private ImportJob getJobById(Long jobId) {
+    return importJobRepository
+        .findById(jobId)
+        .orElseThrow(
+            () -> {
+              log.error("Import job with id: {} not found", jobId);
+              return ResourceNotFoundException.importJob(jobId);
+            });
+  }
+
+  private ImportFormat detectFormat(String fileName) {
+    String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+    if (CSV_EXTENSIONS.stream().anyMatch(name::endsWith)) {
+      return ImportFormat.CSV;
+    }
+    if (JSON_EXTENSIONS.stream().anyMatch(name::endsWith)) {
+      return ImportFormat.JSON;
+    }
+
+    throw ValidationException.invalidParameter(
+        "fileName", "Unsupported import file '" + fileName + "', use CSV or JSON");
+  }
+
+  /** Streams the request body to a temporary file, rejecting it once it exceeds the size limit. */
+  private Path storeFile(String fileName, InputStream content) {
+    Path storedFile = null;
+    try {
+      storedFile = Files.createTempFile("altester-import-", ".tmp");
+      long size = 0;
+      try (OutputStream out = Files.newOutputStream(storedFile)) {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+          size += read;
+          if (size > maxFileSize.toBytes()) {
+            throw ValidationException.invalidParameter(
+                "file", "Import file must not be larger than " + maxFileSize.toMegabytes() + "MB");
+          }
+          out.write(buffer, 0, read);
+        }
+      }
+      if (size == 0) {
+        throw ValidationException.invalidParameter("file", "Import file must not be empty");
+      }
+      return storedFile;
+    } catch (IOException e) {
+      log.error("Failed to store import file {}: {}", fileName, e.getMessage());
+      deleteFile(storedFile);
+      throw FileOperationException.importRead("Failed to store import file: " + e.getMessage());
+    } catch (RuntimeException e) {
+      deleteFile(storedFile);
+      throw e;
+    }
+  }
+
+  private void deleteFile(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete import file {}: {}", file, e.getMessage());
+    }
+  }
+
+  private ImportJobDTO toDTO(ImportJob job) {
+    return ImportJobDTO.builder()
+        .id(job.getId())
+        .entityType(job.getEntityType())
+        .format(job.getFormat())
+        .status(job.getStatus())
+        .fileName(job.getFileName())
+        .createdBy(job.getCreatedBy())
+        .committedRows(job.getCommittedRows())
+        .importedRows(job.getImportedRows())
+        .skippedRows(job.getSkippedRows())
+        .failedRows(job.getFailedRows())
+        .errorMessage(job.getErrorMessage())
+        .rowErrors(List.copyOf(job.getRowErrors()))
+        .createdAt(job.getCreatedAt())
+        .updatedAt(job.getUpdatedAt())
+        .finishedAt(job.getFinishedAt())
+        .build();
+  }
+}
@@ -0,0 +1,107 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.config.SemesterConfig;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.subject.enums.Semester;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports groups with the columns name, subject (short name), teacher (username), semester and
+ * academic_year. Semester and academic year default to the current ones, like when a group is
+ * created in the admin UI. Rows whose group name already exists are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupImportWriter implements ImportChunkWriter {
+
+  private static final String INSERT_GROUP =
+      "INSERT INTO groups (name, semester, academic_year, active, teacher_id, subject_id) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final ImportJdbcSupport jdbcSupport;
+  private final SemesterConfig semesterConfig;
+
+  @Override
+  public ImportEntityType getEntityType() {
+    return ImportEntityType.GROUPS;
+  }
+
+  @Override
+  public void write(List<ImportRow> rows, ImportChunkResult result) {
+    List<ImportRow> parsedRows = new ArrayList<>();
+    for (ImportRow row : rows) {
+      try {
+        row.require("name");
+        row.require("subject");
+        row.require("teacher");
+        semesterOf(row);
+        academicYearOf(row);
+        parsedRows.add(row);
+      } catch (ImportRowException e) {
+        result.reject(row, e.getMessage());
+      }
+    }
+
+    Map<String, Long> subjectIds =
+        jdbcSupport.findIds(
+            "SELECT id, short_name AS value FROM subject WHERE short_name IN (:values)",
+            parsedRows.stream().map(row -> row.get("subject")).toList());
+    Map<String, Long> teacherIds =
+        jdbcSupport.findIds(
+            "SELECT id, username AS value FROM users "
+                + "WHERE role = 'TEACHER' AND username IN (:values)",
+            parsedRows.stream().map(row -> row.get("teacher")).toList());
+    Set<String> existingNames =
+        new HashSet<>(
+            jdbcSupport
+                .findIds(
+                    "SELECT id, name AS value FROM groups WHERE name IN (:values)",
+                    parsedRows.stream().map(row -> row.get("name")).toList())
+                .keySet());
+
+    List<ImportRow> newGroups = new ArrayList<>();
+    for (ImportRow row : parsedRows) {
+      if (!subjectIds.containsKey(row.get("subject"))) {
+        result.reject(row, "Subject '" + row.get("subject") + "' not found");
+      } else if (!teacherIds.containsKey(row.get("teacher"))) {
+        result.reject(row, "Teacher '" + row.get("teacher") + "' not found");
+      } else if (!existingNames.add(row.get("name"))) {
+        result.skipped();
+      } else {
+        newGroups.add(row);
+      }
+    }
+
+    if (newGroups.isEmpty()) {
+      return;
+    }
+
+    jdbcSupport
+        .jdbc()
+        .batchUpdate(
+            INSERT_GROUP,
+            newGroups,
+            newGroups.size(),
+            (statement, row) -> {
+              Semester semester = semesterOf(row);
+              int academicYear = academicYearOf(row);
+              statement.setString(1, row.get("name"));
+              statement.setString(2, semester.name());
+              statement.setInt(3, academicYear);
+              statement.setBoolean(4, semesterConfig.isSemesterActive(semester, academicYear));
+              statement.setLong(5, teacherIds.get(row.get("teacher")));
+              statement.setLong(6, subjectIds.get(row.get("subject")));
+            });
+    result.imported(newGroups.size());
+  }
+
+  private Semester semesterOf(ImportRow row) {
+    return row.getEnum("semester", Semester.class, semesterConfig.getCurrentSemester());
+  }
+
+  private int academicYearOf(ImportRow row) {
+    return row.getInt("academic_year", semesterConfig.getCurrentAcademicYear());
+  }
+}
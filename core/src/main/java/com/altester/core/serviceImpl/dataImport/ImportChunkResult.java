@@ -0,0 +1,27 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/** Outcome of writing one chunk of rows. */
+@Getter
+public class ImportChunkResult {
+
+  private int imported;
+  private int skipped;
+  private final List<String> errors = new ArrayList<>();
+
+  public void imported(int count) {
+    imported += count;
+  }
+
+  /** Counts a row describing data that already exists, which keeps re-imports idempotent. */
+  public void skipped() {
+    skipped++;
+  }
+
+  public void reject(ImportRow row, String message) {
+    errors.add("Row " + row.getRowNumber() + ": " + message);
+  }
+}
@@ -0,0 +1,16 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import java.util.List;
+
+/**
+ * Validates and writes one chunk of import rows of a single entity type. Implementations resolve
+ * references for the whole chunk with batched lookups and insert valid rows with JDBC batching. The
+ * caller runs each chunk in its own transaction.
+ */
+public interface ImportChunkWriter {
+
+  ImportEntityType getEntityType();
+
+  void write(List<ImportRow> rows, ImportChunkResult result);
+}
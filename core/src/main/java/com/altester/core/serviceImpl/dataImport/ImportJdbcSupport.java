@@ -0,0 +1,93 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** JDBC helpers shared by the import chunk writers. */
+@Component
+@RequiredArgsConstructor
+public class ImportJdbcSupport {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  public JdbcTemplate jdbc() {
+    return jdbcTemplate;
+  }
+
+  public NamedParameterJdbcTemplate named() {
+    return namedJdbcTemplate;
+  }
+
+  /**
+   * Maps the values of a key column to the ID of the row holding it.
+   *
+   * @param sql Query selecting "id" and "value" columns, with an IN (:values) parameter
+   * @param values Values to look up
+   * @return Map of value to row ID, empty if no values are given
+   */
+  public Map<String, Long> findIds(String sql, Collection<String> values) {
+    Map<String, Long> ids = new HashMap<>();
+    if (values.isEmpty()) {
+      return ids;
+    }
+    namedJdbcTemplate.query(
+        sql,
+        new MapSqlParameterSource("values", values),
+        (ResultSet rs) -> {
+          ids.put(rs.getString("value"), rs.getLong("id"));
+        });
+    return ids;
+  }
+
+  /**
+   * Executes a batched insert and returns the generated IDs in the order of the rows.
+   *
+   * @param sql Insert statement
+   * @param rows Rows to insert
+   * @param binder Binds one row to the statement
+   * @return Generated IDs, one per row
+   */
+  public <T> List<Long> batchInsertReturningIds(String sql, List<T> rows, RowBinder<T> binder) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.execute(
+        (ConnectionCallback<List<Long>>)
+            connection -> {
+              try (PreparedStatement statement =
+                  connection.prepareStatement(sql, new String[] {"id"})) {
+                for (T row : rows) {
+                  binder.bind(statement, row);
+                  statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                  while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                  }
+                }
+                return ids;
+              }
+            });
+  }
+
+  @FunctionalInterface
+  public interface RowBinder<T> {
+    void bind(PreparedStatement statement, T row) throws SQLException;
+  }
+}
@@ -0,0 +1,190 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.exception.ResourceNotFoundException;
+import com.altester.core.model.dataImport.ImportJob;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.dataImport.enums.ImportFormat;
+import com.altester.core.model.dataImport.enums.ImportJobStatus;
+import com.altester.core.repository.ImportJobRepository;
+import com.altester.core.serviceImpl.CacheService;
+import com.altester.core.serviceImpl.group.GroupMembershipEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams an uploaded import file through the chunk writer of its entity type. Every chunk is
+ * validated and written in its own transaction together with the job's progress, so a failed job
+ * can be resumed after the last committed row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobRunner {
+
+  private static final int MAX_RECORDED_ERRORS = 100;
+  private static final int MAX_MESSAGE_LENGTH = 1024;
+  private static final int MAX_ROW_ERROR_LENGTH = 512;
+  private static final EnumSet<ImportEntityType> MEMBERSHIP_TYPES =
+      EnumSet.of(ImportEntityType.GROUPS, ImportEntityType.MEMBERSHIPS);
+
+  private final ImportJobRepository importJobRepository;
+  private final List<ImportChunkWriter> writers;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final CacheService cacheService;
+  private final GroupMembershipEventPublisher membershipEventPublisher;
+
+  @Value("${import.chunk-size:500}")
+  private int chunkSize;
+
+  /**
+   * Runs the import job on the import executor and deletes the file afterwards. Rows up to the
+   * job's committed row count are skipped, which resumes a previously failed job. A job that is no
+   * longer queued when a thread picks it up, because it was failed as stale or resumed meanwhile,
+   * is not run.
+   *
+   * @param jobId ID of the job to run
+   * @param file Uploaded file stored on local disk
+   */
+  @Async("importExecutor")
+  public void run(Long jobId, Path file) {
+    if (importJobRepository.updateStatus(
+            jobId, ImportJobStatus.QUEUED, ImportJobStatus.RUNNING, LocalDateTime.now())
+        == 0) {
+      log.warn("Import job {} is no longer queued, skipping it", jobId);
+      deleteFile(file);
+      return;
+    }
+
+    ImportJob job =
+        importJobRepository
+            .findById(jobId)
+            .orElseThrow(() -> ResourceNotFoundException.importJob(jobId));
+    long resumeAfter = job.getCommittedRows();
+
+    log.info("Starting {} import job {} from row {}", job.getEntityType(), jobId, resumeAfter + 1);
+
+    try (ImportRowReader reader = openReader(job.getFormat(), file)) {
+      ImportChunkWriter writer = writerFor(job.getEntityType());
+      List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+      while (reader.hasNext()) {
+        ImportRow row = reader.next();
+        if (row.getRowNumber() <= resumeAfter) {
+          continue;
+        }
+
+        chunk.add(row);
+        if (chunk.size() >= chunkSize) {
+          job = writeChunk(job, writer, chunk);
+          chunk.clear();
+        }
+      }
+
+      if (!chunk.isEmpty()) {
+        job = writeChunk(job, writer, chunk);
+      }
+
+      job.setStatus(ImportJobStatus.COMPLETED);
+      log.info(
+          "Import job {} completed: {} imported, {} skipped, {} failed",
+          jobId,
+          job.getImportedRows(),
+          job.getSkippedRows(),
+          job.getFailedRows());
+    } catch (Exception e) {
+      log.error(
+          "Import job {} failed after row {}: {}",
+          jobId,
+          job.getCommittedRows(),
+          e.getMessage(),
+          e);
+      job = importJobRepository.findById(jobId).orElse(job);
+      job.setStatus(ImportJobStatus.FAILED);
+      job.setErrorMessage(truncate(e.getMessage(), MAX_MESSAGE_LENGTH));
+    } finally {
+      LocalDateTime now = LocalDateTime.now();
+      job.setUpdatedAt(now);
+      job.setFinishedAt(now);
+      importJobRepository.save(job);
+      deleteFile(file);
+      invalidateCaches(job.getEntityType());
+    }
+  }
+
+  private ImportJob writeChunk(ImportJob job, ImportChunkWriter writer, List<ImportRow> chunk) {
+    long lastRow = chunk.getLast().getRowNumber();
+
+    return transactionTemplate.execute(
+        status -> {
+          ImportChunkResult result = new ImportChunkResult();
+          writer.write(chunk, result);
+
+          job.setCommittedRows(lastRow);
+          job.setImportedRows(job.getImportedRows() + result.getImported());
+          job.setSkippedRows(job.getSkippedRows() + result.getSkipped());
+          job.setFailedRows(job.getFailedRows() + result.getErrors().size());
+          result.getErrors().stream()
+              .limit(Math.max(0, MAX_RECORDED_ERRORS - job.getRowErrors().size()))
+              .map(error -> truncate(error, MAX_ROW_ERROR_LENGTH))
+              .forEach(job.getRowErrors()::add);
+          job.setUpdatedAt(LocalDateTime.now());
+
+          log.debug("Import job {} committed rows up to {}", job.getId(), lastRow);
+          return importJobRepository.save(job);
+        });
+  }
+
+  private ImportRowReader openReader(ImportFormat format, Path file) throws IOException {
+    return switch (format) {
+      case CSV -> new CsvImportRowReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+      case JSON ->
+          new JsonImportRowReader(
+              objectMapper, new BufferedInputStream(Files.newInputStream(file)));
+    };
+  }
+
+  private ImportChunkWriter writerFor(ImportEntityType entityType) {
+    return writers.stream()
+        .filter(writer -> writer.getEntityType() == entityType)
+        .findFirst()
+        .orElseThrow(
+            () -> new IllegalStateException("No import writer for entity type " + entityType));
+  }
+
+  private void invalidateCaches(ImportEntityType entityType) {
+    cacheService.clearAllCaches();
+    if (MEMBERSHIP_TYPES.contains(entityType)) {
+      membershipEventPublisher.publishAllChanged();
+    }
+  }
+
+  private void deleteFile(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete import file {}: {}", file, e.getMessage());
+    }
+  }
+
+  private String truncate(String message, int maxLength) {
+    if (message == null || message.length() <= maxLength) {
+      return message;
+    }
+    return message.substring(0, maxLength);
+  }
+}
@@ -0,0 +1,131 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * One data row of an import file. Column names are normalized so that "academic_year",
+ * "academicYear" and "Academic Year" address the same value.
+ */
+public class ImportRow {
+
+  public static final String LIST_SEPARATOR = ";";
+
+  @Getter private final long rowNumber;
+  private final Map<String, String> values;
+
+  ImportRow(long rowNumber, Map<String, String> values) {
+    this.rowNumber = rowNumber;
+    this.values = values;
+  }
+
+  static String normalizeColumn(String column) {
+    return column.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+  }
+
+  /** Returns the trimmed value of the column, or null if it is missing or blank. */
+  public String get(String column) {
+    String value = values.get(normalizeColumn(column));
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    return value.trim();
+  }
+
+  /** Returns the non-blank items of a ";" separated list column. */
+  public List<String> getList(String column) {
+    String value = get(column);
+    if (value == null) {
+      return List.of();
+    }
+    return Arrays.stream(value.split(LIST_SEPARATOR))
+        .map(String::trim)
+        .filter(item -> !item.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+  public String require(String column) {
+    String value = get(column);
+    if (value == null) {
+      throw new ImportRowException("Column '" + column + "' is required");
+    }
+    return value;
+  }
+
+  public String require(String column, int maxLength) {
+    String value = require(column);
+    if (value.length() > maxLength) {
+      throw new ImportRowException(
+          "Column '" + column + "' must not be longer than " + maxLength + " characters");
+    }
+    return value;
+  }
+
+  public Integer getInt(String column) {
+    String value = get(column);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new ImportRowException("Column '" + column + "' must be a whole number");
+    }
+  }
+
+  public int getInt(String column, int defaultValue) {
+    Integer value = getInt(column);
+    return value != null ? value : defaultValue;
+  }
+
+  public int requirePositiveInt(String column) {
+    Integer value = getInt(column);
+    if (value == null || value <= 0) {
+      throw new ImportRowException("Column '" + column + "' must be a positive number");
+    }
+    return value;
+  }
+
+  public boolean getBoolean(String column, boolean defaultValue) {
+    String value = get(column);
+    if (value == null) {
+      return defaultValue;
+    }
+    return switch (value.toLowerCase(Locale.ROOT)) {
+      case "true", "yes", "1" -> true;
+      case "false", "no", "0" -> false;
+      default -> throw new ImportRowException("Column '" + column + "' must be true or false");
+    };
+  }
+
+  public <E extends Enum<E>> E getEnum(String column, Class<E> type, E defaultValue) {
+    String value = get(column);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new ImportRowException("Column '" + column + "' has unknown value '" + value + "'");
+    }
+  }
+
+  public LocalDateTime getDateTime(String column) {
+    String value = get(column);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new ImportRowException(
+          "Column '" + column + "' must be a date-time like 2025-09-01T08:00");
+    }
+  }
+}
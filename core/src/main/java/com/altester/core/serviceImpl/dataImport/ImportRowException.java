@@ -0,0 +1,9 @@
+package com.altester.core.serviceImpl.dataImport;
+
+/** Rejects a single import row; the row is reported and the rest of the chunk is imported. */
+public class ImportRowException extends RuntimeException {
+
+  public ImportRowException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/** Reads an import file row by row without loading it into memory. */
+public interface ImportRowReader extends Iterator<ImportRow>, Closeable {}
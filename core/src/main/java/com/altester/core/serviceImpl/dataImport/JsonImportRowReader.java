@@ -0,0 +1,87 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.exception.FileOperationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming reader for a JSON array of flat objects or JSON Lines. Objects are bound one at a time
+ * so the file is never held in memory as a whole.
+ */
+public class JsonImportRowReader implements ImportRowReader {
+
+  private final MappingIterator<JsonNode> iterator;
+  private long rowNumber;
+
+  public JsonImportRowReader(ObjectMapper objectMapper, InputStream inputStream) {
+    try {
+      this.iterator = objectMapper.readerFor(JsonNode.class).readValues(inputStream);
+    } catch (IOException e) {
+      throw FileOperationException.importRead("Failed to read JSON file: " + e.getMessage());
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return iterator.hasNextValue();
+    } catch (IOException e) {
+      throw FileOperationException.importRead(
+          "Malformed JSON after row " + rowNumber + ": " + e.getMessage());
+    }
+  }
+
+  @Override
+  public ImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    JsonNode node;
+    try {
+      node = iterator.nextValue();
+    } catch (IOException e) {
+      throw FileOperationException.importRead(
+          "Malformed JSON after row " + rowNumber + ": " + e.getMessage());
+    }
+    rowNumber++;
+
+    if (!node.isObject()) {
+      throw FileOperationException.importRead("Row " + rowNumber + " is not a JSON object");
+    }
+
+    Map<String, String> values = new HashMap<>();
+    node.fields()
+        .forEachRemaining(
+            field -> {
+              JsonNode value = field.getValue();
+              if (!value.isNull()) {
+                values.put(ImportRow.normalizeColumn(field.getKey()), asText(value));
+              }
+            });
+    return new ImportRow(rowNumber, values);
+  }
+
+  /** Arrays of plain values become ";" separated lists, matching list columns of CSV files. */
+  private String asText(JsonNode value) {
+    if (value.isArray()) {
+      List<String> items = new ArrayList<>();
+      value.forEach(item -> items.add(item.isValueNode() ? item.asText() : item.toString()));
+      return String.join(ImportRow.LIST_SEPARATOR, items);
+    }
+    return value.isValueNode() ? value.asText() : value.toString();
+  }
+
+  @Override
+  public void close() throws IOException {
+    iterator.close();
+  }
+}
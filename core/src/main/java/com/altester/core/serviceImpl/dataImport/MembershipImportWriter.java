@@ -0,0 +1,207 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.subject.Group;
+import com.altester.core.model.subject.enums.Semester;
+import com.altester.core.serviceImpl.group.GroupActivityService;
+import java.util.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports group memberships with the columns group (name) and student (username). Groups of past
+ * semesters cannot be changed, and a student may only be in one group of a subject per semester and
+ * academic year, checked against the database and the rows of the chunk with one query per chunk.
+ * Existing memberships are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class MembershipImportWriter implements ImportChunkWriter {
+
+  private static final String INSERT_MEMBERSHIP =
+      "INSERT INTO student_groups (group_id, user_id) VALUES (?, ?)";
+
+  private final ImportJdbcSupport jdbcSupport;
+  private final GroupActivityService groupActivityService;
+
+  @Override
+  public ImportEntityType getEntityType() {
+    return ImportEntityType.MEMBERSHIPS;
+  }
+
+  @Override
+  public void write(List<ImportRow> rows, ImportChunkResult result) {
+    List<ImportRow> parsedRows = new ArrayList<>();
+    for (ImportRow row : rows) {
+      try {
+        row.require("group");
+        row.require("student");
+        parsedRows.add(row);
+      } catch (ImportRowException e) {
+        result.reject(row, e.getMessage());
+      }
+    }
+
+    if (parsedRows.isEmpty()) {
+      return;
+    }
+
+    Map<String, GroupRef> groups =
+        findGroups(parsedRows.stream().map(row -> row.get("group")).toList());
+    Map<String, Long> studentIds =
+        jdbcSupport.findIds(
+            "SELECT id, username AS value FROM users "
+                + "WHERE role = 'STUDENT' AND username IN (:values)",
+            parsedRows.stream().map(row -> row.get("student")).toList());
+    Map<String, Long> enrolledGroupIds = findEnrollments(studentIds.values(), groups.values());
+
+    List<long[]> memberships = new ArrayList<>();
+    for (ImportRow row : parsedRows) {
+      GroupRef group = groups.get(row.get("group"));
+      Long studentId = studentIds.get(row.get("student"));
+
+      if (group == null) {
+        result.reject(row, "Group '" + row.get("group") + "' not found");
+      } else if (studentId == null) {
+        result.reject(row, "Student '" + row.get("student") + "' not found");
+      } else if (!group.isModifiable()) {
+        result.reject(row, "Group '" + group.getName() + "' belongs to a past semester");
+      } else {
+        String key = enrollmentKey(studentId, group);
+        Long enrolledGroupId = enrolledGroupIds.get(key);
+
+        if (enrolledGroupId == null) {
+          enrolledGroupIds.put(key, group.getId());
+          memberships.add(new long[] {group.getId(), studentId});
+        } else if (enrolledGroupId == group.getId()) {
+          result.skipped();
+        } else {
+          result.reject(
+              row,
+              "Student '"
+                  + row.get("student")
+                  + "' is already in another group of the same subject for semester "
+                  + group.getSemester()
+                  + " and year "
+                  + group.getAcademicYear());
+        }
+      }
+    }
+
+    if (memberships.isEmpty()) {
+      return;
+    }
+
+    jdbcSupport
+        .jdbc()
+        .batchUpdate(
+            INSERT_MEMBERSHIP,
+            memberships,
+            memberships.size(),
+            (statement, membership) -> {
+              statement.setLong(1, membership[0]);
+              statement.setLong(2, membership[1]);
+            });
+    result.imported(memberships.size());
+  }
+
+  private Map<String, GroupRef> findGroups(Collection<String> names) {
+    Map<String, GroupRef> groups = new HashMap<>();
+    jdbcSupport
+        .named()
+        .query(
+            "SELECT id, name, semester, academic_year, subject_id FROM groups "
+                + "WHERE name IN (:names)",
+            new MapSqlParameterSource("names", names),
+            rs -> {
+              long subjectId = rs.getLong("subject_id");
+              Long nullableSubjectId = rs.wasNull() ? null : subjectId;
+              Group group =
+                  Group.builder()
+                      .id(rs.getLong("id"))
+                      .name(rs.getString("name"))
+                      .semester(Semester.valueOf(rs.getString("semester")))
+                      .academicYear(rs.getInt("academic_year"))
+                      .build();
+              groups.put(
+                  group.getName(),
+                  new GroupRef(
+                      group, nullableSubjectId, groupActivityService.canModifyGroup(group)));
+            });
+    return groups;
+  }
+
+  /**
+   * Loads the existing memberships of the students in groups of the chunk's subjects, keyed by
+   * student, subject, semester and academic year.
+   */
+  private Map<String, Long> findEnrollments(
+      Collection<Long> studentIds, Collection<GroupRef> groups) {
+    Set<Long> subjectIds = new HashSet<>();
+    groups.stream().map(GroupRef::getSubjectId).filter(Objects::nonNull).forEach(subjectIds::add);
+
+    Map<String, Long> enrollments = new HashMap<>();
+    if (studentIds.isEmpty() || subjectIds.isEmpty()) {
+      return enrollments;
+    }
+
+    jdbcSupport
+        .named()
+        .query(
+            "SELECT sg.user_id, g.id, g.semester, g.academic_year, g.subject_id "
+                + "FROM student_groups sg JOIN groups g ON g.id = sg.group_id "
+                + "WHERE sg.user_id IN (:studentIds) AND g.subject_id IN (:subjectIds)",
+            new MapSqlParameterSource()
+                .addValue("studentIds", studentIds)
+                .addValue("subjectIds", subjectIds),
+            rs -> {
+              enrollments.put(
+                  enrollmentKey(
+                      rs.getLong("user_id"),
+                      rs.getLong("subject_id"),
+                      rs.getString("semester"),
+                      rs.getInt("academic_year")),
+                  rs.getLong("id"));
+            });
+    return enrollments;
+  }
+
+  private String enrollmentKey(long studentId, GroupRef group) {
+    if (group.getSubjectId() == null) {
+      return studentId + ":group:" + group.getId();
+    }
+    return enrollmentKey(
+        studentId, group.getSubjectId(), group.getSemester().name(), group.getAcademicYear());
+  }
+
+  private String enrollmentKey(long studentId, long subjectId, String semester, int academicYear) {
+    return studentId + ":" + subjectId + ":" + semester + ":" + academicYear;
+  }
+
+  /** Group of the chunk with the subject ID, which the entity does not map. */
+  @Getter
+  @RequiredArgsConstructor
+  private static class GroupRef {
+    private final Group group;
+    private final Long subjectId;
+    private final boolean modifiable;
+
+    long getId() {
+      return group.getId();
+    }
+
+    String getName() {
+      return group.getName();
+    }
+
+    Semester getSemester() {
+      return group.getSemester();
+    }
+
+    int getAcademicYear() {
+      return group.getAcademicYear();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.subject.enums.QuestionType;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports options of multiple choice questions. The question is given by the question_id column, or
+ * by its text in the question column together with test_id or test (unique title). Further columns:
+ * text, description and correct (false by default).
+ */
+@Component
+@RequiredArgsConstructor
+public class OptionImportWriter implements ImportChunkWriter {
+
+  private static final String INSERT_OPTION =
+      "INSERT INTO options (text, description, is_correct, question_id) VALUES (?, ?, ?, ?)";
+
+  private static final String SELECT_QUESTIONS =
+      "SELECT id, test_id, question_text, question_type FROM questions ";
+
+  private final ImportJdbcSupport jdbcSupport;
+
+  @Override
+  public ImportEntityType getEntityType() {
+    return ImportEntityType.OPTIONS;
+  }
+
+  @Override
+  public void write(List<ImportRow> rows, ImportChunkResult result) {
+    TestReferences tests = TestReferences.load(jdbcSupport, rows);
+    QuestionReferences questions = loadQuestions(rows);
+
+    List<ImportRow> newOptions = new ArrayList<>();
+    Map<ImportRow, Long> questionIds = new IdentityHashMap<>();
+    for (ImportRow row : rows) {
+      try {
+        row.require("text", 255);
+        String description = row.get("description");
+        if (description != null && description.length() > 1024) {
+          throw new ImportRowException(
+              "Column 'description' must not be longer than 1024 characters");
+        }
+        row.getBoolean("correct", false);
+        questionIds.put(row, questions.resolve(row, tests));
+        newOptions.add(row);
+      } catch (ImportRowException e) {
+        result.reject(row, e.getMessage());
+      }
+    }
+
+    if (newOptions.isEmpty()) {
+      return;
+    }
+
+    jdbcSupport
+        .jdbc()
+        .batchUpdate(
+            INSERT_OPTION,
+            newOptions,
+            newOptions.size(),
+            (statement, row) -> {
+              statement.setString(1, row.get("text"));
+              statement.setString(2, row.get("description"));
+              statement.setBoolean(3, row.getBoolean("correct", false));
+              statement.setLong(4, questionIds.get(row));
+            });
+    result.imported(newOptions.size());
+  }
+
+  private QuestionReferences loadQuestions(List<ImportRow> rows) {
+    Set<Long> ids = new HashSet<>();
+    Set<String> texts = new HashSet<>();
+    for (ImportRow row : rows) {
+      try {
+        Integer id = row.getInt("question_id");
+        if (id != null) {
+          ids.add(id.longValue());
+        } else if (row.get("question") != null) {
+          texts.add(row.get("question"));
+        }
+      } catch (ImportRowException e) {
+        // Reported when the row itself is resolved
+      }
+    }
+
+    QuestionReferences references = new QuestionReferences();
+    if (!ids.isEmpty()) {
+      loadQuestions("WHERE id IN (:values)", ids, references);
+    }
+    if (!texts.isEmpty()) {
+      loadQuestions("WHERE question_text IN (:values)", texts, references);
+    }
+    return references;
+  }
+
+  private void loadQuestions(
+      String condition, Collection<?> values, QuestionReferences references) {
+    jdbcSupport
+        .named()
+        .query(
+            SELECT_QUESTIONS + condition,
+            new MapSqlParameterSource("values", values),
+            rs -> {
+              QuestionRef question =
+                  new QuestionRef(
+                      rs.getLong("id"), QuestionType.valueOf(rs.getString("question_type")));
+              references.byId.put(question.id, question);
+              references
+                  .byTestAndText
+                  .computeIfAbsent(
+                      rs.getLong("test_id") + ":" + rs.getString("question_text"),
+                      key -> new ArrayList<>())
+                  .add(question);
+            });
+  }
+
+  private static class QuestionReferences {
+    private final Map<Long, QuestionRef> byId = new HashMap<>();
+    private final Map<String, List<QuestionRef>> byTestAndText = new HashMap<>();
+
+    long resolve(ImportRow row, TestReferences tests) {
+      QuestionRef question;
+      Integer id = row.getInt("question_id");
+      if (id != null) {
+        question = byId.get(id.longValue());
+        if (question == null) {
+          throw new ImportRowException("Question with ID " + id + " not found");
+        }
+      } else {
+        String text = row.require("question");
+        List<QuestionRef> matches =
+            byTestAndText.getOrDefault(tests.resolve(row) + ":" + text, List.of());
+        if (matches.isEmpty()) {
+          throw new ImportRowException("Question '" + text + "' not found in the test");
+        }
+        if (matches.size() > 1) {
+          throw new ImportRowException(
+              "Question '" + text + "' is not unique, use the question_id column instead");
+        }
+        question = matches.getFirst();
+      }
+
+      if (question.type != QuestionType.MULTIPLE_CHOICE
+          && question.type != QuestionType.IMAGE_WITH_MULTIPLE_CHOICE) {
+        throw new ImportRowException("Options can only be added to multiple choice questions");
+      }
+      return question.id;
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class QuestionRef {
+    private final long id;
+    private final QuestionType type;
+  }
+}
@@ -0,0 +1,89 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.subject.enums.QuestionDifficulty;
+import com.altester.core.model.subject.enums.QuestionType;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports questions with the columns test_id or test (unique title), question_text, question_type,
+ * difficulty (MEDIUM by default), score and correct_answer. Question types that need an image
+ * cannot be imported, since images are uploaded separately.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionImportWriter implements ImportChunkWriter {
+
+  private static final String INSERT_QUESTION =
+      "INSERT INTO questions (question_text, score, correct_answer, question_type, difficulty, "
+          + "test_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+  private static final Set<QuestionType> IMAGE_TYPES =
+      EnumSet.of(
+          QuestionType.IMAGE_ONLY,
+          QuestionType.TEXT_WITH_IMAGE,
+          QuestionType.IMAGE_WITH_MULTIPLE_CHOICE);
+
+  private final ImportJdbcSupport jdbcSupport;
+
+  @Override
+  public ImportEntityType getEntityType() {
+    return ImportEntityType.QUESTIONS;
+  }
+
+  @Override
+  public void write(List<ImportRow> rows, ImportChunkResult result) {
+    TestReferences tests = TestReferences.load(jdbcSupport, rows);
+
+    List<ImportRow> newQuestions = new ArrayList<>();
+    Map<ImportRow, Long> testIds = new IdentityHashMap<>();
+    for (ImportRow row : rows) {
+      try {
+        row.require("question_text", 255);
+        QuestionType type = row.getEnum("question_type", QuestionType.class, null);
+        if (type == null) {
+          throw new ImportRowException("Column 'question_type' is required");
+        }
+        if (IMAGE_TYPES.contains(type)) {
+          throw new ImportRowException("Questions of type " + type + " cannot be imported");
+        }
+        row.getEnum("difficulty", QuestionDifficulty.class, QuestionDifficulty.MEDIUM);
+        row.requirePositiveInt("score");
+        String correctAnswer = row.get("correct_answer");
+        if (correctAnswer != null && correctAnswer.length() > 1000) {
+          throw new ImportRowException(
+              "Column 'correct_answer' must not be longer than 1000 characters");
+        }
+        testIds.put(row, tests.resolve(row));
+        newQuestions.add(row);
+      } catch (ImportRowException e) {
+        result.reject(row, e.getMessage());
+      }
+    }
+
+    if (newQuestions.isEmpty()) {
+      return;
+    }
+
+    jdbcSupport
+        .jdbc()
+        .batchUpdate(
+            INSERT_QUESTION,
+            newQuestions,
+            newQuestions.size(),
+            (statement, row) -> {
+              statement.setString(1, row.get("question_text"));
+              statement.setInt(2, row.requirePositiveInt("score"));
+              statement.setString(3, row.get("correct_answer"));
+              statement.setString(4, row.getEnum("question_type", QuestionType.class, null).name());
+              statement.setString(
+                  5,
+                  row.getEnum("difficulty", QuestionDifficulty.class, QuestionDifficulty.MEDIUM)
+                      .name());
+              statement.setLong(6, testIds.get(row));
+            });
+    result.imported(newQuestions.size());
+  }
+}
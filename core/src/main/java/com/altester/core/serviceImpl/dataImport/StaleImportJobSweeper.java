@@ -0,0 +1,49 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.dataImport.enums.ImportJobStatus;
+import com.altester.core.repository.ImportJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails import jobs that were queued or running when their node stopped. Such jobs never finish on
+ * their own and could not be resumed, because only failed jobs can. A job counts as stale once its
+ * progress has not been updated for {@code import.stale-after}; running jobs update it with every
+ * committed chunk. The first sweep runs shortly after startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StaleImportJobSweeper {
+
+  private static final String STALE_MESSAGE =
+      "Import was interrupted, resume the job with the same file";
+
+  private final ImportJobRepository importJobRepository;
+
+  @Value("${import.stale-after:30m}")
+  private Duration staleAfter;
+
+  @Scheduled(
+      initialDelayString = "${import.stale-sweep-initial-delay-ms:60000}",
+      fixedDelayString = "${import.stale-sweep-interval-ms:300000}")
+  public void failStaleJobs() {
+    LocalDateTime now = LocalDateTime.now();
+    int failed =
+        importJobRepository.failStale(
+            EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING),
+            ImportJobStatus.FAILED,
+            now.minus(staleAfter),
+            now,
+            STALE_MESSAGE);
+    if (failed > 0) {
+      log.warn("Marked {} interrupted import jobs as failed", failed);
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.ApiKey.ApiKey;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import com.altester.core.model.subject.Group;
+import com.altester.core.model.subject.enums.Semester;
+import com.altester.core.repository.ApiKeyRepository;
+import com.altester.core.repository.PromptRepository;
+import com.altester.core.serviceImpl.group.GroupActivityService;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports tests created by an administrator. Columns: title, description, duration, max_attempts,
+ * is_open, start_time, end_time, easy/medium/hard_questions_count, easy/medium/hard_question_score,
+ * allow_teacher_edit and groups (";" separated group names the test is assigned to). Tests have no
+ * natural key, so re-importing a row creates another test; resuming a failed job skips the rows
+ * that were already committed. Like tests created in the UI, every group assignment gets the global
+ * API key and the default prompt with AI evaluation enabled, if a global key exists.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestImportWriter implements ImportChunkWriter {
+
+  private static final String INSERT_TEST =
+      "INSERT INTO tests (title, description, duration, is_open, max_attempts, "
+          + "easy_questions_count, medium_questions_count, hard_questions_count, "
+          + "easy_question_score, medium_question_score, hard_question_score, "
+          + "start_time, end_time, is_created_by_admin, allow_teacher_edit) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?)";
+
+  private static final String INSERT_GROUP_TEST =
+      "INSERT INTO group_tests (group_id, test_id) VALUES (?, ?)";
+
+  private static final String INSERT_ASSIGNMENT =
+      "INSERT INTO test_group_assignments (test_id, group_id, api_key_id, prompt_id, "
+          + "assigned_at, assigned_by_id, ai_evaluation) VALUES (?, ?, ?, ?, ?, ?, true)";
+
+  private static final long DEFAULT_PROMPT_ID = 1L;
+
+  private final ImportJdbcSupport jdbcSupport;
+  private final GroupActivityService groupActivityService;
+  private final ApiKeyRepository apiKeyRepository;
+  private final PromptRepository promptRepository;
+
+  @Override
+  public ImportEntityType getEntityType() {
+    return ImportEntityType.TESTS;
+  }
+
+  @Override
+  public void write(List<ImportRow> rows, ImportChunkResult result) {
+    List<ImportRow> parsedRows = new ArrayList<>();
+    for (ImportRow row : rows) {
+      try {
+        validate(row);
+        parsedRows.add(row);
+      } catch (ImportRowException e) {
+        result.reject(row, e.getMessage());
+      }
+    }
+
+    Map<Long, Long> teacherIds = new HashMap<>();
+    Map<String, Long> groupIds =
+        findModifiableGroupIds(
+            parsedRows.stream().flatMap(row -> row.getList("groups").stream()).toList(),
+            teacherIds);
+
+    List<ImportRow> newTests = new ArrayList<>();
+    for (ImportRow row : parsedRows) {
+      Optional<String> unknownGroup =
+          row.getList("groups").stream().filter(name -> !groupIds.containsKey(name)).findFirst();
+      if (unknownGroup.isPresent()) {
+        result.reject(
+            row, "Group '" + unknownGroup.get() + "' not found or belongs to a past semester");
+      } else {
+        newTests.add(row);
+      }
+    }
+
+    List<Long> testIds =
+        jdbcSupport.batchInsertReturningIds(
+            INSERT_TEST,
+            newTests,
+            (statement, row) -> {
+              statement.setString(1, row.get("title"));
+              statement.setString(2, row.get("description"));
+              statement.setInt(3, row.requirePositiveInt("duration"));
+              statement.setBoolean(4, row.getBoolean("is_open", false));
+              statement.setObject(5, row.getInt("max_attempts"), Types.INTEGER);
+              statement.setInt(6, row.getInt("easy_questions_count", 0));
+              statement.setInt(7, row.getInt("medium_questions_count", 0));
+              statement.setInt(8, row.getInt("hard_questions_count", 0));
+              statement.setInt(9, row.getInt("easy_question_score", 5));
+              statement.setInt(10, row.getInt("medium_question_score", 8));
+              statement.setInt(11, row.getInt("hard_question_score", 10));
+              statement.setTimestamp(12, toTimestamp(row.getDateTime("start_time")));
+              statement.setTimestamp(13, toTimestamp(row.getDateTime("end_time")));
+              statement.setBoolean(14, row.getBoolean("allow_teacher_edit", false));
+            });
+
+    List<long[]> groupTests = new ArrayList<>();
+    for (int i = 0; i < newTests.size(); i++) {
+      long testId = testIds.get(i);
+      newTests.get(i).getList("groups").stream()
+          .map(groupIds::get)
+          .forEach(groupId -> groupTests.add(new long[] {groupId, testId}));
+    }
+
+    if (!groupTests.isEmpty()) {
+      jdbcSupport
+          .jdbc()
+          .batchUpdate(
+              INSERT_GROUP_TEST,
+              groupTests,
+              groupTests.size(),
+              (statement, groupTest) -> {
+                statement.setLong(1, groupTest[0]);
+                statement.setLong(2, groupTest[1]);
+              });
+      insertAssignments(groupTests, teacherIds);
+    }
+    result.imported(newTests.size());
+  }
+
+  /**
+   * Creates the AI grading assignments the UI creates for new tests. The assignment is made on
+   * behalf of the group's teacher, so groups without a teacher get none.
+   */
+  private void insertAssignments(List<long[]> groupTests, Map<Long, Long> teacherIds) {
+    List<ApiKey> globalKeys = apiKeyRepository.findAllIsGlobalTrue();
+    if (globalKeys.isEmpty()) {
+      return;
+    }
+    Long apiKeyId = globalKeys.getFirst().getId();
+    Long promptId = promptRepository.existsById(DEFAULT_PROMPT_ID) ? DEFAULT_PROMPT_ID : null;
+    Timestamp assignedAt = Timestamp.valueOf(LocalDateTime.now());
+
+    List<long[]> assignments =
+        groupTests.stream().filter(groupTest -> teacherIds.get(groupTest[0]) != null).toList();
+    if (assignments.isEmpty()) {
+      return;
+    }
+    jdbcSupport
+        .jdbc()
+        .batchUpdate(
+            INSERT_ASSIGNMENT,
+            assignments,
+            assignments.size(),
+            (statement, groupTest) -> {
+              statement.setLong(1, groupTest[1]);
+              statement.setLong(2, groupTest[0]);
+              statement.setLong(3, apiKeyId);
+              statement.setObject(4, promptId, Types.BIGINT);
+              statement.setTimestamp(5, assignedAt);
+              statement.setLong(6, teacherIds.get(groupTest[0]));
+            });
+  }
+
+  private void validate(ImportRow row) {
+    row.require("title", 255);
+    String description = row.get("description");
+    if (description != null && description.length() > 1024) {
+      throw new ImportRowException("Column 'description' must not be longer than 1024 characters");
+    }
+    row.requirePositiveInt("duration");
+
+    Integer maxAttempts = row.getInt("max_attempts");
+    if (maxAttempts != null && maxAttempts <= 0) {
+      throw new ImportRowException("Column 'max_attempts' must be a positive number");
+    }
+
+    for (String column :
+        List.of(
+            "easy_questions_count",
+            "medium_questions_count",
+            "hard_questions_count",
+            "easy_question_score",
+            "medium_question_score",
+            "hard_question_score")) {
+      if (row.getInt(column, 0) < 0) {
+        throw new ImportRowException("Column '" + column + "' must not be negative");
+      }
+    }
+
+    row.getBoolean("is_open", false);
+    row.getBoolean("allow_teacher_edit", false);
+
+    LocalDateTime startTime = row.getDateTime("start_time");
+    LocalDateTime endTime = row.getDateTime("end_time");
+    if (startTime != null && endTime != null && !endTime.isAfter(startTime)) {
+      throw new ImportRowException("End time must be after start time");
+    }
+  }
+
+  private Map<String, Long> findModifiableGroupIds(
+      Collection<String> names, Map<Long, Long> teacherIds) {
+    Map<String, Long> groupIds = new HashMap<>();
+    if (names.isEmpty()) {
+      return groupIds;
+    }
+
+    jdbcSupport
+        .named()
+        .query(
+            "SELECT id, name, semester, academic_year, teacher_id FROM groups "
+                + "WHERE name IN (:names)",
+            new MapSqlParameterSource("names", new HashSet<>(names)),
+            rs -> {
+              Group group =
+                  Group.builder()
+                      .id(rs.getLong("id"))
+                      .name(rs.getString("name"))
+                      .semester(Semester.valueOf(rs.getString("semester")))
+                      .academicYear(rs.getInt("academic_year"))
+                      .build();
+              if (groupActivityService.canModifyGroup(group)) {
+                groupIds.put(group.getName(), group.getId());
+                teacherIds.put(group.getId(), rs.getObject("teacher_id", Long.class));
+              }
+            });
+    return groupIds;
+  }
+
+  private Timestamp toTimestamp(LocalDateTime dateTime) {
+    return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+  }
+}
@@ -0,0 +1,77 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import java.util.*;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Resolves the test a question or option row belongs to, either by the "test_id" column or by the
+ * unique title in the "test" column. All references of a chunk are loaded with two queries.
+ */
+class TestReferences {
+
+  private final Set<Long> existingIds = new HashSet<>();
+  private final Map<String, List<Long>> idsByTitle = new HashMap<>();
+
+  static TestReferences load(ImportJdbcSupport jdbcSupport, List<ImportRow> rows) {
+    TestReferences references = new TestReferences();
+    Set<Long> ids = new HashSet<>();
+    Set<String> titles = new HashSet<>();
+    for (ImportRow row : rows) {
+      try {
+        Integer id = row.getInt("test_id");
+        if (id != null) {
+          ids.add(id.longValue());
+        } else if (row.get("test") != null) {
+          titles.add(row.get("test"));
+        }
+      } catch (ImportRowException e) {
+        // Reported when the row itself is resolved
+      }
+    }
+
+    if (!ids.isEmpty()) {
+      references.existingIds.addAll(
+          jdbcSupport
+              .named()
+              .queryForList(
+                  "SELECT id FROM tests WHERE id IN (:ids)",
+                  new MapSqlParameterSource("ids", ids),
+                  Long.class));
+    }
+    if (!titles.isEmpty()) {
+      jdbcSupport
+          .named()
+          .query(
+              "SELECT id, title FROM tests WHERE title IN (:titles)",
+              new MapSqlParameterSource("titles", titles),
+              rs -> {
+                references
+                    .idsByTitle
+                    .computeIfAbsent(rs.getString("title"), title -> new ArrayList<>())
+                    .add(rs.getLong("id"));
+              });
+    }
+    return references;
+  }
+
+  long resolve(ImportRow row) {
+    Integer id = row.getInt("test_id");
+    if (id != null) {
+      if (!existingIds.contains(id.longValue())) {
+        throw new ImportRowException("Test with ID " + id + " not found");
+      }
+      return id;
+    }
+
+    String title = row.require("test");
+    List<Long> matches = idsByTitle.getOrDefault(title, List.of());
+    if (matches.isEmpty()) {
+      throw new ImportRowException("Test '" + title + "' not found");
+    }
+    if (matches.size() > 1) {
+      throw new ImportRowException(
+          "Test title '" + title + "' is not unique, use the test_id column instead");
+    }
+    return matches.getFirst();
+  }
+}
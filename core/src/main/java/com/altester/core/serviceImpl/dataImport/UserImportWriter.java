@@ -0,0 +1,101 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import com.altester.core.model.auth.enums.RolesEnum;
+import com.altester.core.model.dataImport.enums.ImportEntityType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports users with the columns name, surname, email, username and role (STUDENT by default).
+ * Users are created like LDAP users on first login: enabled, not registered and without a local
+ * password. Rows whose username already exists are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportWriter implements ImportChunkWriter {
+
+  private static final String INSERT_USER =
+      "INSERT INTO users (name, surname, email, username, role, created, enabled, is_registered) "
+          + "VALUES (?, ?, ?, ?, ?, ?, true, false)";
+
+  private final ImportJdbcSupport jdbcSupport;
+
+  @Override
+  public ImportEntityType getEntityType() {
+    return ImportEntityType.USERS;
+  }
+
+  @Override
+  public void write(List<ImportRow> rows, ImportChunkResult result) {
+    List<ImportRow> parsedRows = new ArrayList<>();
+    for (ImportRow row : rows) {
+      try {
+        row.require("name", 63);
+        row.require("surname", 127);
+        row.require("email", 63);
+        row.require("username", 7);
+        RolesEnum role = row.getEnum("role", RolesEnum.class, RolesEnum.STUDENT);
+        if (role == RolesEnum.ADMIN) {
+          throw new ImportRowException("Administrators cannot be imported");
+        }
+        parsedRows.add(row);
+      } catch (ImportRowException e) {
+        result.reject(row, e.getMessage());
+      }
+    }
+
+    Set<String> existingUsernames = new HashSet<>();
+    Set<String> existingEmails = new HashSet<>();
+    if (!parsedRows.isEmpty()) {
+      jdbcSupport
+          .named()
+          .query(
+              "SELECT username, email FROM users WHERE username IN (:usernames) "
+                  + "OR email IN (:emails)",
+              new MapSqlParameterSource()
+                  .addValue("usernames", parsedRows.stream().map(r -> r.get("username")).toList())
+                  .addValue("emails", parsedRows.stream().map(r -> r.get("email")).toList()),
+              rs -> {
+                existingUsernames.add(rs.getString("username"));
+                existingEmails.add(rs.getString("email"));
+              });
+    }
+
+    List<ImportRow> newUsers = new ArrayList<>();
+    for (ImportRow row : parsedRows) {
+      if (!existingUsernames.add(row.get("username"))) {
+        result.skipped();
+      } else if (!existingEmails.add(row.get("email"))) {
+        result.reject(row, "Email '" + row.get("email") + "' is already used by another user");
+      } else {
+        newUsers.add(row);
+      }
+    }
+
+    if (newUsers.isEmpty()) {
+      return;
+    }
+
+    Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+    jdbcSupport
+        .jdbc()
+        .batchUpdate(
+            INSERT_USER,
+            newUsers,
+            newUsers.size(),
+            (statement, row) -> {
+              statement.setString(1, row.get("name"));
+              statement.setString(2, row.get("surname"));
+              statement.setString(3, row.get("email"));
+              statement.setString(4, row.get("username"));
+              statement.setString(
+                  5, row.getEnum("role", RolesEnum.class, RolesEnum.STUDENT).name());
+              statement.setTimestamp(6, created);
+            });
+    result.imported(newUsers.size());
+  }
+}
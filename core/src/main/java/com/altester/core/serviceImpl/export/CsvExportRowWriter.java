@@ -0,0 +1,69 @@
+package com.altester.core.serviceImpl.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes RFC 4180 CSV with a header row. Fields are quoted only when needed. Text fields that a
+ * spreadsheet would read as a formula are prefixed with a single quote.
+ */
+public class CsvExportRowWriter implements ExportRowWriter {
+
+  private final Writer writer;
+
+  public CsvExportRowWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  @Override
+  public void writeHeader(List<String> columns) throws IOException {
+    writeRow(columns.toArray());
+  }
+
+  @Override
+  public void writeRow(Object[] values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      if (values[i] instanceof Number number) {
+        writeField(number.toString());
+      } else if (values[i] != null) {
+        writeField(neutralizeFormula(values[i].toString()));
+      }
+    }
+    writer.write("\r\n");
+  }
+
+  private static String neutralizeFormula(String value) {
+    if (value.isEmpty()) {
+      return value;
+    }
+    return switch (value.charAt(0)) {
+      case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+      default -> value;
+    };
+  }
+
+  private void writeField(String value) throws IOException {
+    boolean needsQuotes =
+        value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+    if (!needsQuotes) {
+      writer.write(value);
+      return;
+    }
+
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.flush();
+  }
+}
@@ -0,0 +1,18 @@
+package com.altester.core.serviceImpl.export;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+  CSV("text/csv", "csv"),
+  JSONL("application/x-ndjson", "jsonl"),
+  ;
+
+  private final String contentType;
+  private final String extension;
+
+  ExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+}
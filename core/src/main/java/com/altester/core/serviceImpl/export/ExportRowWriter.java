@@ -0,0 +1,13 @@
+package com.altester.core.serviceImpl.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/** Writes exported rows one at a time to an output stream. */
+public interface ExportRowWriter extends Closeable {
+
+  void writeHeader(List<String> columns) throws IOException;
+
+  void writeRow(Object[] values) throws IOException;
+}
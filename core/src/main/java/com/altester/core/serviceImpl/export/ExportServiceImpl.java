@@ -0,0 +1,163 @@
+package com.altester.core.serviceImpl.export;
+
+import com.altester.core.exception.AccessDeniedException;
+import com.altester.core.exception.ResourceNotFoundException;
+import com.altester.core.model.auth.User;
+import com.altester.core.model.auth.enums.RolesEnum;
+import com.altester.core.model.subject.Group;
+import com.altester.core.model.subject.Test;
+import com.altester.core.repository.GroupRepository;
+import com.altester.core.repository.TestRepository;
+import com.altester.core.service.ExportService;
+import com.altester.core.serviceImpl.attemptRetrieval.AttemptAccessValidator;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+  private static final String STUDENT_OF_TEACHER =
+      " AND EXISTS (SELECT 1 FROM student_groups sg JOIN groups g ON g.id = sg.group_id "
+          + "JOIN group_tests gt ON gt.group_id = g.id WHERE sg.user_id = a.student_id "
+          + "AND gt.test_id = a.test_id AND g.teacher_id = ?)";
+
+  private static final String TEST_RESULTS =
+      "SELECT a.id AS attempt_id, u.username, u.name, u.surname, a.attempt_number, a.status, "
+          + "a.start_time, a.end_time, a.score, a.ai_score "
+          + "FROM attempts a JOIN users u ON u.id = a.student_id WHERE a.test_id = ?";
+
+  private static final String TEST_RESULTS_ORDER =
+      " ORDER BY u.surname, u.name, u.username, a.attempt_number";
+
+  private static final String GROUP_GRADEBOOK =
+      "SELECT u.username, u.name, u.surname, t.id AS test_id, t.title AS test_title, "
+          + "COUNT(a.id) AS attempts, "
+          + "MAX(a.score) FILTER (WHERE a.status <> 'IN_PROGRESS') AS best_score, "
+          + "MAX(a.ai_score) FILTER (WHERE a.status <> 'IN_PROGRESS') AS best_ai_score, "
+          + "MAX(a.end_time) AS last_finished_at "
+          + "FROM student_groups sg JOIN users u ON u.id = sg.user_id "
+          + "JOIN group_tests gt ON gt.group_id = sg.group_id JOIN tests t ON t.id = gt.test_id "
+          + "LEFT JOIN attempts a ON a.student_id = u.id AND a.test_id = t.id "
+          + "WHERE sg.group_id = ? "
+          + "GROUP BY u.id, u.username, u.name, u.surname, t.id, t.title "
+          + "ORDER BY u.surname, u.name, u.username, t.id";
+
+  private static final String SUBMISSIONS =
+      "SELECT s.id AS submission_id, a.id AS attempt_id, a.test_id, u.username, "
+          + "a.attempt_number, q.id AS question_id, q.question_type, q.question_text, "
+          + "s.answer_text, (SELECT string_agg(o.text, '; ' ORDER BY o.id) "
+          + "FROM submission_selected_options sso JOIN options o ON o.id = sso.option_id "
+          + "WHERE sso.submission_id = s.id) AS selected_options, "
+          + "s.score, s.ai_score, s.teacher_feedback, s.ai_feedback, s.ai_graded, "
+          + "s.regrade_requested "
+          + "FROM submissions s JOIN attempts a ON a.id = s.attempt_id "
+          + "JOIN users u ON u.id = a.student_id JOIN questions q ON q.id = s.question_id";
+
+  private final ResultSetExporter resultSetExporter;
+  private final AttemptAccessValidator accessValidator;
+  private final TestRepository testRepository;
+  private final GroupRepository groupRepository;
+
+  @Override
+  public StreamingResponseBody exportTestResults(
+      Principal principal, Long testId, ExportFormat format) {
+    User user = accessValidator.getUserFromPrincipal(principal);
+    Test test = getTestWithAccess(user, testId);
+
+    log.info("User {} exporting results of test {} as {}", user.getUsername(), testId, format);
+
+    String name = "results of test " + test.getId();
+    if (user.getRole() == RolesEnum.ADMIN) {
+      return resultSetExporter.stream(
+          name, TEST_RESULTS + TEST_RESULTS_ORDER, format, test.getId());
+    }
+    return resultSetExporter.stream(
+        name,
+        TEST_RESULTS + STUDENT_OF_TEACHER + TEST_RESULTS_ORDER,
+        format,
+        test.getId(),
+        user.getId());
+  }
+
+  @Override
+  public StreamingResponseBody exportGroupGradebook(
+      Principal principal, Long groupId, ExportFormat format) {
+    User user = accessValidator.getUserFromPrincipal(principal);
+    Group group =
+        groupRepository
+            .findById(groupId)
+            .orElseThrow(
+                () -> {
+                  log.error("Group with id: {} not found", groupId);
+                  return ResourceNotFoundException.group(groupId);
+                });
+
+    if (user.getRole() != RolesEnum.ADMIN
+        && (user.getRole() != RolesEnum.TEACHER
+            || group.getTeacher() == null
+            || !group.getTeacher().getId().equals(user.getId()))) {
+      log.error("User {} has no access to group {}", user.getUsername(), groupId);
+      throw AccessDeniedException.groupAccess();
+    }
+
+    log.info("User {} exporting gradebook of group {} as {}", user.getUsername(), groupId, format);
+
+    return resultSetExporter.stream(
+        "gradebook of group " + group.getId(), GROUP_GRADEBOOK, format, group.getId());
+  }
+
+  @Override
+  public StreamingResponseBody exportTestSubmissions(
+      Principal principal, Long testId, ExportFormat format) {
+    User user = accessValidator.getUserFromPrincipal(principal);
+    Test test = getTestWithAccess(user, testId);
+
+    log.info("User {} exporting submissions of test {} as {}", user.getUsername(), testId, format);
+
+    String name = "submissions of test " + test.getId();
+    String sql = SUBMISSIONS + " WHERE a.test_id = ?";
+    String order = " ORDER BY a.id, s.order_index, s.id";
+    if (user.getRole() == RolesEnum.ADMIN) {
+      return resultSetExporter.stream(name, sql + order, format, test.getId());
+    }
+    return resultSetExporter.stream(
+        name, sql + STUDENT_OF_TEACHER + order, format, test.getId(), user.getId());
+  }
+
+  @Override
+  public StreamingResponseBody exportAllSubmissions(Principal principal, ExportFormat format) {
+    User user = accessValidator.getUserFromPrincipal(principal);
+    accessValidator.verifyAdminRole(user);
+
+    log.info("Admin {} exporting all submissions as {}", user.getUsername(), format);
+
+    return resultSetExporter.stream("all submissions", SUBMISSIONS + " ORDER BY s.id", format);
+  }
+
+  private Test getTestWithAccess(User user, Long testId) {
+    Test test =
+        testRepository
+            .findById(testId)
+            .orElseThrow(
+                () -> {
+                  log.error("Test with id: {} not found", testId);
+                  return ResourceNotFoundException.test(testId);
+                });
+
+    if (user.getRole() == RolesEnum.ADMIN) {
+      return test;
+    }
+
+    if (user.getRole() != RolesEnum.TEACHER
+        || !groupRepository.existsByTeacherAndTestsContaining(user, test)) {
+      log.error("User {} has no access to test {}", user.getUsername(), testId);
+      throw AccessDeniedException.testAccess();
+    }
+    return test;
+  }
+}
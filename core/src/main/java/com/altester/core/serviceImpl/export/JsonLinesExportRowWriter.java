@@ -0,0 +1,41 @@
+package com.altester.core.serviceImpl.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/** Writes one JSON object per line, keyed by the exported column names. */
+public class JsonLinesExportRowWriter implements ExportRowWriter {
+
+  private final JsonGenerator generator;
+  private List<String> columns;
+
+  public JsonLinesExportRowWriter(ObjectMapper objectMapper, OutputStream outputStream)
+      throws IOException {
+    this.generator = objectMapper.getFactory().createGenerator(outputStream);
+    this.generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+  }
+
+  @Override
+  public void writeHeader(List<String> columns) {
+    this.columns = columns;
+  }
+
+  @Override
+  public void writeRow(Object[] values) throws IOException {
+    generator.writeStartObject();
+    for (int i = 0; i < values.length; i++) {
+      generator.writeFieldName(columns.get(i));
+      generator.writeObject(values[i]);
+    }
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  @Override
+  public void close() throws IOException {
+    generator.close();
+  }
+}
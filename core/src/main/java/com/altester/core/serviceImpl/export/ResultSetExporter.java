@@ -0,0 +1,148 @@
+package com.altester.core.serviceImpl.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams the result of a query straight to an output stream. The query runs in a read-only
+ * transaction on a forward-only cursor with a fetch size, so PostgreSQL returns rows in batches and
+ * memory use stays constant regardless of the number of exported rows.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResultSetExporter {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.export.fetch-size:1000}")
+  private int fetchSize;
+
+  /**
+   * Creates a response body which runs the query when the response is written.
+   *
+   * @param name Name of the export used in log messages
+   * @param sql Query to export; its column labels become the CSV header or JSON keys
+   * @param format Output format
+   * @param params Positional query parameters
+   * @return Body streaming the query result
+   */
+  public StreamingResponseBody stream(
+      String name, String sql, ExportFormat format, Object... params) {
+    return outputStream -> {
+      long start = System.currentTimeMillis();
+      long rows = export(sql, format, outputStream, params);
+      log.info(
+          "Exported {} rows of {} as {} in {} ms",
+          rows,
+          name,
+          format,
+          System.currentTimeMillis() - start);
+    };
+  }
+
+  /**
+   * Runs the query and writes every row to the output stream.
+   *
+   * @return Number of exported rows
+   */
+  public long export(String sql, ExportFormat format, OutputStream outputStream, Object... params)
+      throws IOException {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+
+    try {
+      Long rows =
+          transactionTemplate.execute(
+              status ->
+                  jdbcTemplate.query(
+                      connection -> {
+                        PreparedStatement statement =
+                            connection.prepareStatement(
+                                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        statement.setFetchSize(fetchSize);
+                        for (int i = 0; i < params.length; i++) {
+                          statement.setObject(i + 1, params[i]);
+                        }
+                        return statement;
+                      },
+                      (ResultSetExtractor<Long>)
+                          resultSet -> writeRows(resultSet, format, outputStream)));
+      return rows != null ? rows : 0;
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private long writeRows(ResultSet resultSet, ExportFormat format, OutputStream outputStream)
+      throws SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    int columnCount = metaData.getColumnCount();
+    List<String> columns = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      columns.add(metaData.getColumnLabel(i));
+    }
+
+    long rows = 0;
+    try (ExportRowWriter writer = createWriter(format, outputStream)) {
+      writer.writeHeader(columns);
+      Object[] values = new Object[columnCount];
+      while (resultSet.next()) {
+        for (int i = 0; i < columnCount; i++) {
+          values[i] = toExportValue(resultSet.getObject(i + 1));
+        }
+        writer.writeRow(values);
+        rows++;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return rows;
+  }
+
+  private ExportRowWriter createWriter(ExportFormat format, OutputStream outputStream)
+      throws IOException {
+    return switch (format) {
+      case CSV ->
+          new CsvExportRowWriter(
+              new BufferedWriter(
+                  new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE));
+      case JSONL ->
+          new JsonLinesExportRowWriter(
+              objectMapper, new BufferedOutputStream(outputStream, BUFFER_SIZE));
+    };
+  }
+
+  private Object toExportValue(Object value) {
+    if (value instanceof Timestamp timestamp) {
+      return timestamp.toLocalDateTime();
+    }
+    return value;
+  }
+}
@@ -3,11 +3,15 @@ package com.altester.core.serviceImpl.group;
 import com.altester.core.config.SemesterConfig;
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.enums.Semester;
-import com.altester.core.repository.GroupRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,39 +19,23 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class GroupActivityService {
 
-  private final GroupRepository groupRepository;
   private final SemesterConfig semesterConfig;
 
   /**
-   * Checks and updates a group's activity status based on current semester settings
+   * Determines whether a group belongs to the current semester. The result is derived from the
+   * semester configuration and does not rely on, or modify, the stored active flag, which is kept
+   * in sync by {@link SemesterRolloverScheduler}.
    *
-   * @param group Group to check and update
-   * @return Updated activity status (true if active)
+   * @param group Group to check
+   * @return true if the group's semester and academic year are the current ones
    */
-  public boolean checkAndUpdateGroupActivity(Group group) {
+  public boolean isGroupActive(Group group) {
     if (group == null) {
       log.warn("Attempted to check activity for null group");
       return false;
     }
 
-    boolean isActiveSemester =
-        semesterConfig.isSemesterActive(group.getSemester(), group.getAcademicYear());
-
-    if (isActiveSemester != group.isActive()) {
-
-      log.info(
-          "{} group {} as semester {} {} {} active",
-          isActiveSemester ? "Active" : "Non active",
-          group.getName(),
-          group.getSemester(),
-          group.getAcademicYear(),
-          isActiveSemester ? "is now" : "is no longer");
-
-      group.setActive(isActiveSemester);
-      groupRepository.save(group);
-    }
-
-    return group.isActive();
+    return semesterConfig.isSemesterActive(group.getSemester(), group.getAcademicYear());
   }
 
   /** Determines if a group belongs to a future semester relative to current date */
@@ -84,6 +72,42 @@ public class GroupActivityService {
     return false;
   }
 
+  /**
+   * Builds the SQL equivalent of {@link #isGroupInFuture(Group)} so that the future check can be
+   * evaluated by the database.
+   */
+  public Predicate isGroupInFuturePredicate(Root<Group> root, CriteriaBuilder criteriaBuilder) {
+    Semester currentSemester = semesterConfig.getCurrentSemester();
+    int currentAcademicYear = semesterConfig.getCurrentAcademicYear();
+    Path<Integer> academicYear = root.get("academicYear");
+    Path<Semester> semester = root.get("semester");
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(criteriaBuilder.greaterThan(academicYear, currentAcademicYear));
+
+    if (currentSemester == Semester.WINTER) {
+      predicates.add(
+          criteriaBuilder.and(
+              criteriaBuilder.equal(academicYear, currentAcademicYear),
+              criteriaBuilder.equal(semester, Semester.SUMMER)));
+    }
+
+    LocalDate now = LocalDate.now();
+    boolean beforeCurrentSemesterStart =
+        currentSemester == Semester.WINTER
+            ? now.isBefore(LocalDate.of(currentAcademicYear, 9, 1))
+            : now.isBefore(LocalDate.of(currentAcademicYear + 1, 2, 1));
+
+    if (beforeCurrentSemesterStart) {
+      predicates.add(
+          criteriaBuilder.and(
+              criteriaBuilder.equal(academicYear, currentAcademicYear),
+              criteriaBuilder.equal(semester, currentSemester)));
+    }
+
+    return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
+  }
+
   /**
    * Checks if a group can be modified based on its activity status Active groups and future groups
    * can be modified
@@ -93,18 +117,6 @@ public class GroupActivityService {
       return false;
     }
 
-    checkAndUpdateGroupActivity(group);
-
-    if (group.isActive()) {
-      return true;
-    }
-
-    return isGroupInFuture(group);
-  }
-
-  @Scheduled(cron = "0 0 0 * * *")
-  public void updateAllGroupStatuses() {
-    log.info("Running scheduled group status update");
-    groupRepository.findAll().forEach(this::checkAndUpdateGroupActivity);
+    return isGroupActive(group) || isGroupInFuture(group);
   }
 }
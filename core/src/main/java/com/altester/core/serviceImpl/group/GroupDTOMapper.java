@@ -29,13 +29,14 @@ public class GroupDTOMapper {
         .build();
   }
 
-  public GroupsResponse toGroupsResponse(Group group, String subjectName, boolean isInFuture) {
+  public GroupsResponse toGroupsResponse(
+      Group group, String subjectName, int studentCount, boolean isInFuture) {
     GroupsResponse response =
         new GroupsResponse(
             group.getId(),
             group.getName(),
             group.getTeacher() != null ? group.getTeacher().getUsername() : "No teacher",
-            group.getStudents().size(),
+            studentCount,
             subjectName,
             group.getSemester(),
             group.getAcademicYear(),
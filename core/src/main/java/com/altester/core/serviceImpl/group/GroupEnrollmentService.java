@@ -0,0 +1,139 @@
+package com.altester.core.serviceImpl.group;
+
+import com.altester.core.model.auth.User;
+import com.altester.core.model.auth.enums.RolesEnum;
+import com.altester.core.model.subject.Group;
+import com.altester.core.model.subject.enums.Semester;
+import com.altester.core.repository.GroupRepository;
+import com.altester.core.repository.UserRepository;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies student membership changes to groups as a diff on the student_groups join table. Only
+ * rows of students that actually join or leave are inserted or deleted, instead of replacing the
+ * whole membership collection, and students are resolved and validated with batched queries.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GroupEnrollmentService {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final GroupRepository groupRepository;
+  private final UserRepository userRepository;
+  private final GroupStudentService studentService;
+
+  /**
+   * Resolves the requested students and computes how the group's membership has to change.
+   * Requested IDs which do not belong to a student are reported as ignored.
+   *
+   * @param group Group whose membership is changed
+   * @param requestedIds IDs of the students the group should contain
+   * @param replaceExisting Whether current members missing from the request are removed
+   * @return Students to add and remove, without applying the change
+   */
+  public GroupMembershipDiff diff(Group group, Set<Long> requestedIds, boolean replaceExisting) {
+    Set<Long> currentIds = groupRepository.findStudentIdsByGroupId(group.getId());
+
+    List<User> requestedStudents =
+        inBatches(
+            requestedIds, batch -> userRepository.findAllByIdInAndRole(batch, RolesEnum.STUDENT));
+
+    Set<Long> studentIds = new HashSet<>();
+    List<User> addedStudents = new ArrayList<>();
+    for (User student : requestedStudents) {
+      studentIds.add(student.getId());
+      if (!currentIds.contains(student.getId())) {
+        addedStudents.add(student);
+      }
+    }
+
+    Set<Long> ignoredIds = new HashSet<>(requestedIds);
+    ignoredIds.removeAll(studentIds);
+
+    Set<Long> removedIds = new HashSet<>();
+    if (replaceExisting) {
+      removedIds.addAll(currentIds);
+      removedIds.removeAll(studentIds);
+    }
+
+    List<User> removedStudents =
+        removedIds.isEmpty()
+            ? List.of()
+            : inBatches(removedIds, batch -> toList(userRepository.findAllById(batch)));
+
+    Set<Long> unchangedIds = new HashSet<>(currentIds);
+    unchangedIds.removeAll(removedIds);
+
+    return GroupMembershipDiff.builder()
+        .addedStudents(addedStudents)
+        .removedStudents(removedStudents)
+        .unchangedStudentIds(unchangedIds)
+        .ignoredIds(ignoredIds)
+        .build();
+  }
+
+  /**
+   * Validates the joining students with a single conflict query per batch and writes the diff to
+   * the join table.
+   *
+   * @param group Group whose membership is changed
+   * @param diff Membership change computed by {@link #diff(Group, Set, boolean)}
+   * @param semester Semester the group belongs to after the change
+   * @param academicYear Academic year the group belongs to after the change
+   * @param revalidateUnchanged Whether remaining members are validated as well, e.g. when the group
+   *     moves to another semester
+   */
+  public void apply(
+      Group group,
+      GroupMembershipDiff diff,
+      Semester semester,
+      Integer academicYear,
+      boolean revalidateUnchanged) {
+    List<Long> addedIds = diff.getAddedStudents().stream().map(User::getId).toList();
+    List<Long> removedIds = diff.getRemovedStudents().stream().map(User::getId).toList();
+
+    List<Long> idsToValidate = new ArrayList<>(addedIds);
+    if (revalidateUnchanged) {
+      idsToValidate.addAll(diff.getUnchangedStudentIds());
+    }
+    forEachBatch(
+        idsToValidate,
+        batch ->
+            studentService.validateNoEnrollmentConflicts(group, batch, semester, academicYear));
+
+    forEachBatch(removedIds, batch -> groupRepository.removeStudents(group.getId(), batch));
+    forEachBatch(addedIds, batch -> groupRepository.addStudents(group.getId(), batch));
+
+    log.debug(
+        "Group {} membership changed: {} added, {} removed, {} unchanged",
+        group.getId(),
+        addedIds.size(),
+        removedIds.size(),
+        diff.getUnchangedStudentIds().size());
+  }
+
+  private static <T> List<T> toList(Iterable<T> iterable) {
+    List<T> list = new ArrayList<>();
+    iterable.forEach(list::add);
+    return list;
+  }
+
+  private static <R> List<R> inBatches(Collection<Long> ids, Function<List<Long>, List<R>> loader) {
+    List<R> result = new ArrayList<>();
+    forEachBatch(new ArrayList<>(ids), batch -> result.addAll(loader.apply(batch)));
+    return result;
+  }
+
+  private static void forEachBatch(List<Long> ids, Consumer<List<Long>> action) {
+    for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+      action.accept(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+    }
+  }
+}
@@ -1,88 +1,125 @@
 package com.altester.core.serviceImpl.group;
 
+import com.altester.core.model.auth.User;
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Subject;
-import com.altester.core.repository.SubjectRepository;
+import com.altester.core.model.subject.enums.Semester;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+/** Translates the admin group list filters into a specification evaluated by the database. */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class GroupFilterService {
 
   private final GroupActivityService groupActivityService;
-  private final SubjectRepository subjectRepository;
 
-  public List<Group> applySearchFilter(List<Group> groups, String searchQuery) {
-    if (!StringUtils.hasText(searchQuery)) return groups;
+  public Specification<Group> createGroupSpecification(
+      String searchQuery, String activityFilter, Boolean available, Long subjectId) {
+    return (root, query, criteriaBuilder) -> {
+      List<Predicate> predicates = new ArrayList<>();
 
+      if (StringUtils.hasText(searchQuery)) {
+        predicates.add(searchPredicate(root, criteriaBuilder, searchQuery));
+      }
+
+      if (StringUtils.hasText(activityFilter)) {
+        Predicate activityPredicate = activityPredicate(root, criteriaBuilder, activityFilter);
+        if (activityPredicate != null) {
+          predicates.add(activityPredicate);
+        }
+      }
+
+      if (Boolean.TRUE.equals(available)) {
+        predicates.add(
+            criteriaBuilder.not(
+                criteriaBuilder.exists(subjectOf(root, query, criteriaBuilder, null))));
+        predicates.add(activeOrFuture(root, criteriaBuilder));
+      } else if (subjectId != null) {
+        predicates.add(criteriaBuilder.exists(subjectOf(root, query, criteriaBuilder, subjectId)));
+        predicates.add(activeOrFuture(root, criteriaBuilder));
+      }
+
+      return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  private Predicate searchPredicate(
+      Root<Group> root, CriteriaBuilder criteriaBuilder, String searchQuery) {
     String lowerQuery = searchQuery.toLowerCase();
-    return groups.stream()
-        .filter(
-            group ->
-                (group.getName() != null && group.getName().toLowerCase().contains(lowerQuery))
-                    || (group.getTeacher() != null
-                        && group.getTeacher().getUsername() != null
-                        && group.getTeacher().getUsername().toLowerCase().contains(lowerQuery))
-                    || (group.getSemester() != null
-                        && group.getSemester().toString().toLowerCase().contains(lowerQuery)))
-        .toList();
+    String likePattern = "%" + lowerQuery + "%";
+    Join<Group, User> teacher = root.join("teacher", JoinType.LEFT);
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), likePattern));
+    predicates.add(
+        criteriaBuilder.like(criteriaBuilder.lower(teacher.get("username")), likePattern));
+
+    List<Semester> matchingSemesters =
+        Arrays.stream(Semester.values())
+            .filter(semester -> semester.toString().toLowerCase().contains(lowerQuery))
+            .toList();
+    if (!matchingSemesters.isEmpty()) {
+      predicates.add(root.get("semester").in(matchingSemesters));
+    }
+
+    return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
   }
 
-  public List<Group> applyActivityFilter(List<Group> groups, String activityFilter) {
-    if (!StringUtils.hasText(activityFilter)) return groups;
-
-    return groups.stream()
-        .filter(
-            group -> {
-              boolean isInFuture = groupActivityService.isGroupInFuture(group);
-              return switch (activityFilter) {
-                case "active" -> group.isActive() && !isInFuture;
-                case "inactive" -> !group.isActive() && !isInFuture;
-                case "future" -> isInFuture;
-                default -> true;
-              };
-            })
-        .toList();
+  private Predicate activityPredicate(
+      Root<Group> root, CriteriaBuilder criteriaBuilder, String activityFilter) {
+    return switch (activityFilter) {
+      case "active" ->
+          criteriaBuilder.and(
+              criteriaBuilder.isTrue(root.get("active")),
+              criteriaBuilder.not(
+                  groupActivityService.isGroupInFuturePredicate(root, criteriaBuilder)));
+      case "inactive" ->
+          criteriaBuilder.and(
+              criteriaBuilder.isFalse(root.get("active")),
+              criteriaBuilder.not(
+                  groupActivityService.isGroupInFuturePredicate(root, criteriaBuilder)));
+      case "future" -> groupActivityService.isGroupInFuturePredicate(root, criteriaBuilder);
+      default -> null;
+    };
   }
 
-  public List<Group> applyAvailabilityAndSubjectFilter(
-      List<Group> groups, Boolean available, Long subjectId) {
-    if (available != null && available) {
-      Set<Long> groupsInSubjects =
-          subjectRepository.findAll().stream()
-              .flatMap(subject -> subject.getGroups().stream())
-              .map(Group::getId)
-              .collect(Collectors.toSet());
-
-      return groups.stream()
-          .filter(group -> !groupsInSubjects.contains(group.getId()))
-          .filter(group -> group.isActive() || groupActivityService.isGroupInFuture(group))
-          .toList();
-    } else if (subjectId != null) {
-      Optional<Subject> subjectOpt = subjectRepository.findById(subjectId);
-      if (subjectOpt.isPresent()) {
-        Set<Long> groupIds =
-            subjectOpt.get().getGroups().stream().map(Group::getId).collect(Collectors.toSet());
-
-        return groups.stream()
-            .filter(group -> groupIds.contains(group.getId()))
-            .filter(group -> group.isActive() || groupActivityService.isGroupInFuture(group))
-            .toList();
-      } else {
-        log.warn("Subject with ID {} not found", subjectId);
-        return new ArrayList<>();
-      }
+  private Predicate activeOrFuture(Root<Group> root, CriteriaBuilder criteriaBuilder) {
+    return criteriaBuilder.or(
+        criteriaBuilder.isTrue(root.get("active")),
+        groupActivityService.isGroupInFuturePredicate(root, criteriaBuilder));
+  }
+
+  /**
+   * Correlated subquery selecting the subject owning the group, optionally restricted to a single
+   * subject. Subject owns the relation, so the group side has no attribute to join on.
+   */
+  private Subquery<Long> subjectOf(
+      Root<Group> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder, Long subjectId) {
+    Subquery<Long> subquery = query.subquery(Long.class);
+    Root<Subject> subject = subquery.from(Subject.class);
+    Join<Subject, Group> subjectGroup = subject.join("groups");
+
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(criteriaBuilder.equal(subjectGroup, root));
+    if (subjectId != null) {
+      predicates.add(criteriaBuilder.equal(subject.get("id"), subjectId));
     }
 
-    return groups;
+    return subquery.select(subject.get("id")).where(predicates.toArray(new Predicate[0]));
   }
 }
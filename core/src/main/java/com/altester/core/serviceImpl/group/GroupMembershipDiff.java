@@ -0,0 +1,17 @@
+package com.altester.core.serviceImpl.group;
+
+import com.altester.core.model.auth.User;
+import java.util.List;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Outcome of applying a requested student set to a group's membership. */
+@Getter
+@Builder
+public class GroupMembershipDiff {
+  private final List<User> addedStudents;
+  private final List<User> removedStudents;
+  private final Set<Long> unchangedStudentIds;
+  private final Set<Long> ignoredIds;
+}
@@ -0,0 +1,80 @@
+package com.altester.core.serviceImpl.group;
+
+import com.altester.core.model.auth.User;
+import com.altester.core.model.subject.Group;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Announces changes of group membership, group activity and user roles on a Redis channel so that
+ * other services caching teacher-student relations (chat-service) can evict affected users. The
+ * payload is a comma separated list of usernames; an empty payload means "evict everything".
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupMembershipEventPublisher {
+
+  public static final String CHANNEL = "group-membership-changed";
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  /** Publishes a change affecting the teacher and all students of the given group. */
+  public void publishGroupChanged(Group group) {
+    publishUsersChanged(membersOf(group));
+  }
+
+  /** Publishes a change affecting the given users, typically after a membership diff. */
+  public void publishUsersChanged(Collection<User> users) {
+    Set<String> usernames = new LinkedHashSet<>();
+    users.stream().filter(Objects::nonNull).map(User::getUsername).forEach(usernames::add);
+    if (usernames.isEmpty()) {
+      return;
+    }
+    publish(String.join(",", usernames));
+  }
+
+  /** Publishes a change that may affect any relation, e.g. a semester rollover. */
+  public void publishAllChanged() {
+    publish("");
+  }
+
+  private Set<User> membersOf(Group group) {
+    Set<User> users = new LinkedHashSet<>(group.getStudents());
+    if (group.getTeacher() != null) {
+      users.add(group.getTeacher());
+    }
+    return users;
+  }
+
+  private void publish(String payload) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              send(payload);
+            }
+          });
+    } else {
+      send(payload);
+    }
+  }
+
+  private void send(String payload) {
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL, payload);
+      log.debug("Published group membership change for [{}]", payload);
+    } catch (Exception e) {
+      log.error("Failed to publish group membership change: {}", e.getMessage());
+    }
+  }
+}
@@ -2,15 +2,16 @@ package com.altester.core.serviceImpl.group;
 
 import com.altester.core.dtos.core_service.subject.*;
 import com.altester.core.model.subject.Group;
-import com.altester.core.model.subject.Subject;
+import com.altester.core.repository.GroupRepository;
 import com.altester.core.repository.SubjectRepository;
+import com.altester.core.repository.projection.GroupStudentCountView;
+import com.altester.core.repository.projection.GroupSubjectView;
 import com.altester.core.util.CacheablePage;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,29 +19,37 @@ import org.springframework.stereotype.Component;
 public class GroupPaginationUtils {
 
   private final SubjectRepository subjectRepository;
+  private final GroupRepository groupRepository;
   private final GroupDTOMapper groupMapper;
   private final GroupActivityService groupActivityService;
 
-  public CacheablePage<GroupsResponse> paginateAndMapGroups(List<Group> groups, Pageable pageable) {
-    int start = (int) pageable.getOffset();
-    int end = Math.min(start + pageable.getPageSize(), groups.size());
-
-    if (start >= groups.size()) {
-      return new CacheablePage<>(new PageImpl<>(Collections.emptyList(), pageable, groups.size()));
-    }
-
-    List<Group> pagedGroups = groups.subList(start, end);
-    List<GroupsResponse> responses =
-        pagedGroups.stream()
-            .map(
-                group -> {
-                  Optional<Subject> subject = subjectRepository.findByGroupsId(group.getId());
-                  String subjectName = subject.map(Subject::getShortName).orElse("No subject");
-                  boolean isInFuture = groupActivityService.isGroupInFuture(group);
-                  return groupMapper.toGroupsResponse(group, subjectName, isInFuture);
-                })
-            .toList();
-
-    return new CacheablePage<>(new PageImpl<>(responses, pageable, groups.size()));
+  public CacheablePage<GroupsResponse> mapGroupsPage(Page<Group> groupsPage) {
+    List<Long> groupIds = groupsPage.getContent().stream().map(Group::getId).toList();
+
+    Map<Long, String> subjectNames =
+        groupIds.isEmpty()
+            ? Map.of()
+            : subjectRepository.findSubjectShortNamesByGroupIds(groupIds).stream()
+                .collect(
+                    Collectors.toMap(GroupSubjectView::getGroupId, GroupSubjectView::getShortName));
+
+    Map<Long, Long> studentCounts =
+        groupIds.isEmpty()
+            ? Map.of()
+            : groupRepository.countStudentsByGroupIds(groupIds).stream()
+                .collect(
+                    Collectors.toMap(
+                        GroupStudentCountView::getGroupId, GroupStudentCountView::getStudentCount));
+
+    Page<GroupsResponse> responses =
+        groupsPage.map(
+            group -> {
+              String subjectName = subjectNames.getOrDefault(group.getId(), "No subject");
+              int studentCount = studentCounts.getOrDefault(group.getId(), 0L).intValue();
+              boolean isInFuture = groupActivityService.isGroupInFuture(group);
+              return groupMapper.toGroupsResponse(group, subjectName, studentCount, isInFuture);
+            });
+
+    return new CacheablePage<>(responses);
   }
 }
@@ -16,7 +16,6 @@ import com.altester.core.serviceImpl.CacheService;
 import com.altester.core.util.CacheablePage;
 import jakarta.transaction.Transactional;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -24,6 +23,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -43,6 +45,8 @@ public class GroupServiceImpl implements GroupService {
   private final GroupStudentService studentService;
   private final GroupPaginationUtils paginationUtils;
   private final CacheService cacheService;
+  private final GroupMembershipEventPublisher membershipEventPublisher;
+  private final GroupEnrollmentService enrollmentService;
 
   private Group getGroupById(long id) {
     return groupRepository
@@ -75,6 +79,7 @@ public class GroupServiceImpl implements GroupService {
     }
 
     try {
+      membershipEventPublisher.publishGroupChanged(group);
       groupRepository.deleteById(id);
 
       cacheService.clearAllCaches();
@@ -119,14 +124,13 @@ public class GroupServiceImpl implements GroupService {
       Boolean available,
       Long subjectId) {
 
-    Pageable pageable = PageRequest.of(page, size);
-    List<Group> groups = groupRepository.findAll();
+    Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
 
-    groups = groupsFilter.applySearchFilter(groups, searchQuery);
-    groups = groupsFilter.applyActivityFilter(groups, activityFilter);
-    groups = groupsFilter.applyAvailabilityAndSubjectFilter(groups, available, subjectId);
+    Specification<Group> spec =
+        groupsFilter.createGroupSpecification(searchQuery, activityFilter, available, subjectId);
+    Page<Group> groupsPage = groupRepository.findAll(spec, pageable);
 
-    return paginationUtils.paginateAndMapGroups(groups, pageable);
+    return paginationUtils.mapGroupsPage(groupsPage);
   }
 
   @Override
@@ -134,7 +138,7 @@ public class GroupServiceImpl implements GroupService {
   public void updateGroup(Long id, UpdateGroupDTO updateGroupDTO) {
     Group group = getGroupById(id);
 
-    Set<User> originalStudents = new HashSet<>(group.getStudents());
+    User originalTeacher = group.getTeacher();
 
     if (!groupActivityService.canModifyGroup(group)) {
       log.error("Cannot update inactive group {} from past semester", group.getName());
@@ -161,21 +165,13 @@ public class GroupServiceImpl implements GroupService {
     }
     group.setTeacher(teacher);
 
-    Set<User> students =
-        updateGroupDTO.getStudentsIds().stream()
-            .map(userRepository::findById)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .filter(user -> user.getRole().equals(RolesEnum.STUDENT))
-            .collect(Collectors.toSet());
+    GroupMembershipDiff diff = enrollmentService.diff(group, updateGroupDTO.getStudentsIds(), true);
 
-    if (students.isEmpty()) {
+    if (diff.getAddedStudents().isEmpty() && diff.getUnchangedStudentIds().isEmpty()) {
       log.error("Group update failed: No valid students found");
       throw ValidationException.groupValidation("Group update failed: No valid students found");
     }
 
-    Subject subject = subjectRepository.findByGroupsContaining(group).orElse(null);
-
     if (updateGroupDTO.getSemester() == null) {
       updateGroupDTO.setSemester(semesterConfig.getCurrentSemester());
     }
@@ -188,18 +184,12 @@ public class GroupServiceImpl implements GroupService {
         !group.getSemester().equals(updateGroupDTO.getSemester())
             || !group.getAcademicYear().equals(updateGroupDTO.getAcademicYear());
 
-    studentService.validateStudents(students, subject, group.getId());
-
-    if (isSemesterOrYearChanging && subject != null) {
-      studentService.validateStudentsForSemesterAndYear(
-          students,
-          subject,
-          group.getId(),
-          updateGroupDTO.getSemester(),
-          updateGroupDTO.getAcademicYear());
-    }
-
-    group.setStudents(students);
+    enrollmentService.apply(
+        group,
+        diff,
+        updateGroupDTO.getSemester(),
+        updateGroupDTO.getAcademicYear(),
+        isSemesterOrYearChanging);
 
     boolean isActive =
         semesterConfig.isSemesterActive(
@@ -210,20 +200,83 @@ public class GroupServiceImpl implements GroupService {
 
     groupRepository.save(group);
 
+    boolean isTeacherChanging =
+        originalTeacher == null || !originalTeacher.getId().equals(teacher.getId());
+    Set<User> affectedUsers = new HashSet<>();
+    affectedUsers.add(originalTeacher);
+    affectedUsers.add(teacher);
+    if (isTeacherChanging || isSemesterOrYearChanging) {
+      userRepository.findAllById(diff.getUnchangedStudentIds()).forEach(affectedUsers::add);
+    }
+
+    onMembershipChanged(group, diff, affectedUsers);
+
+    log.info(
+        "Group '{}' updated successfully with {} students",
+        group.getName(),
+        diff.getAddedStudents().size() + diff.getUnchangedStudentIds().size());
+  }
+
+  @Override
+  @Transactional
+  public BulkEnrollmentResultDTO enrollStudents(Long id, BulkEnrollmentDTO bulkEnrollmentDTO) {
+    Group group = getGroupById(id);
+
+    if (!groupActivityService.canModifyGroup(group)) {
+      log.error(
+          "Cannot enroll students into inactive group {} from past semester", group.getName());
+      throw StateConflictException.inactiveGroup(group.getName());
+    }
+
+    GroupMembershipDiff diff =
+        enrollmentService.diff(
+            group, bulkEnrollmentDTO.getStudentIds(), bulkEnrollmentDTO.isReplaceExisting());
+
+    if (diff.getAddedStudents().isEmpty() && diff.getUnchangedStudentIds().isEmpty()) {
+      log.error("Bulk enrollment failed: Group {} would have no students", group.getName());
+      throw ValidationException.groupValidation("Group must have at least one student");
+    }
+
+    if (!diff.getAddedStudents().isEmpty() || !diff.getRemovedStudents().isEmpty()) {
+      enrollmentService.apply(group, diff, group.getSemester(), group.getAcademicYear(), false);
+      onMembershipChanged(group, diff, Collections.singleton(group.getTeacher()));
+    }
+
+    log.info(
+        "Bulk enrollment into group '{}': {} added, {} removed, {} ignored",
+        group.getName(),
+        diff.getAddedStudents().size(),
+        diff.getRemovedStudents().size(),
+        diff.getIgnoredIds().size());
+
+    return BulkEnrollmentResultDTO.builder()
+        .groupId(group.getId())
+        .added(diff.getAddedStudents().size())
+        .removed(diff.getRemovedStudents().size())
+        .unchanged(diff.getUnchangedStudentIds().size())
+        .ignoredIds(diff.getIgnoredIds())
+        .build();
+  }
+
+  private void onMembershipChanged(
+      Group group, GroupMembershipDiff diff, Collection<User> otherAffectedUsers) {
     cacheService.clearGroupRelatedCaches();
     cacheService.clearStudentRelatedCaches();
     cacheService.clearTeacherRelatedCaches();
 
-    log.info("Group '{}' updated successfully with {} students", group.getName(), students.size());
+    Set<User> affectedUsers = new HashSet<>(otherAffectedUsers);
+    affectedUsers.addAll(diff.getAddedStudents());
+    affectedUsers.addAll(diff.getRemovedStudents());
+    affectedUsers.remove(null);
 
-    Set<User> newStudents =
-        students.stream()
-            .filter(student -> !originalStudents.contains(student))
-            .collect(Collectors.toSet());
+    cacheService.evictTeacherPages(
+        affectedUsers.stream()
+            .filter(user -> user.getRole() == RolesEnum.TEACHER)
+            .map(User::getUsername)
+            .toList());
+    membershipEventPublisher.publishUsersChanged(affectedUsers);
 
-    if (!newStudents.isEmpty()) {
-      newStudents.forEach(student -> notificationService.notifyNewStudentJoined(student, group));
-    }
+    notificationService.notifyNewStudentsJoined(diff.getAddedStudents(), group);
   }
 
   @Override
@@ -311,6 +364,12 @@ public class GroupServiceImpl implements GroupService {
     return studentService.getAllStudentsNotInGroup(page, size, groupId, searchQuery);
   }
 
+  @Override
+  public Slice<CreateGroupUserListDTO> searchStudents(
+      String searchQuery, Long excludedGroupId, Long afterId, int limit) {
+    return studentService.searchStudents(searchQuery, excludedGroupId, afterId, limit);
+  }
+
   @Override
   @Cacheable(
       value = "groupTeachers",
@@ -11,7 +11,9 @@ import com.altester.core.model.subject.enums.Semester;
 import com.altester.core.repository.GroupRepository;
 import com.altester.core.repository.SubjectRepository;
 import com.altester.core.repository.UserRepository;
+import com.altester.core.repository.projection.EnrollmentConflictView;
 import com.altester.core.util.CacheablePage;
+import com.altester.core.util.StudentSearchUtils;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -35,6 +39,7 @@ public class GroupStudentService {
   private final GroupDTOMapper groupMapper;
   private final GroupActivityService groupActivityService;
 
+  private static final int MAX_SEARCH_LIMIT = 100;
   private static final String STUDENT_PREFIX = "Student ";
   private static final String AND_YEAR = " and year ";
   private static final String MULTIPLE_GROUPS_ERROR =
@@ -89,34 +94,31 @@ public class GroupStudentService {
       return userRepository.findByRole(RolesEnum.STUDENT, pageable);
     }
 
-    String searchLower = searchQuery.toLowerCase();
-    List<User> allStudents = userRepository.findAllByRole(RolesEnum.STUDENT);
-
-    List<User> filtered =
-        allStudents.stream().filter(student -> matchesSearch(student, searchLower)).toList();
-
-    int start = (int) pageable.getOffset();
-    int end = Math.min(start + pageable.getPageSize(), filtered.size());
-
-    if (start >= filtered.size()) {
-      return new PageImpl<>(Collections.emptyList(), pageable, filtered.size());
-    }
-
-    List<User> paged = filtered.subList(start, end);
-    return new PageImpl<>(paged, pageable, filtered.size());
+    return userRepository.searchStudents(
+        StudentSearchUtils.toContainsPattern(searchQuery), pageable);
   }
 
   /**
-   * Checks if a student matches the search criteria.
+   * Retrieves the next slice of students for typeahead search, ordered by surname, name and ID.
    *
-   * @param student The student to check
-   * @param searchLower The lowercase search query
-   * @return true if the student matches the search, false otherwise
+   * @param searchQuery Optional text to filter students by name or username
+   * @param excludedGroupId Optional ID of a group whose members are skipped
+   * @param afterId ID of the last student of the previous slice, null for the first slice
+   * @param limit Maximum number of students to return, capped at 100
+   * @return A slice of student DTOs with a flag telling whether more students follow
    */
-  private boolean matchesSearch(User student, String searchLower) {
-    String fullName = (student.getName() + " " + student.getSurname()).toLowerCase();
-    String username = student.getUsername() != null ? student.getUsername().toLowerCase() : "";
-    return fullName.contains(searchLower) || username.contains(searchLower);
+  public Slice<CreateGroupUserListDTO> searchStudents(
+      String searchQuery, Long excludedGroupId, Long afterId, int limit) {
+    limit = Math.clamp(limit, 1, MAX_SEARCH_LIMIT);
+    List<User> students =
+        userRepository.searchStudentsAfter(
+            StudentSearchUtils.toContainsPattern(searchQuery), excludedGroupId, afterId, limit + 1);
+
+    boolean hasNext = students.size() > limit;
+    List<CreateGroupUserListDTO> content =
+        students.stream().limit(limit).map(this::mapStudentToDTO).toList();
+
+    return new SliceImpl<>(content, PageRequest.of(0, limit), hasNext);
   }
 
   /**
@@ -189,37 +191,31 @@ public class GroupStudentService {
     Pageable pageable = PageRequest.of(page, size);
 
     Group group = getGroupById(groupId);
-    Set<Long> studentsInGroupIds =
-        group.getStudents().stream().map(User::getId).collect(Collectors.toSet());
-
     Subject subject = subjectRepository.findByGroupsContaining(group).orElse(null);
-
     boolean isGroupInFuture = groupActivityService.isGroupInFuture(group);
 
-    Set<Long> relevantStudentIds = getRelevantStudentIds(subject, group, isGroupInFuture);
-
-    List<User> allStudents = userRepository.findAllByRole(RolesEnum.STUDENT);
-
-    List<User> filteredStudents =
-        filterStudents(allStudents, studentsInGroupIds, relevantStudentIds, searchQuery);
+    Set<Long> excludedGroupIds = getRelevantGroupIds(subject, group, isGroupInFuture);
+    excludedGroupIds.add(group.getId());
 
-    List<User> pagedStudents = paginateStudents(filteredStudents, pageable);
-    List<CreateGroupUserListDTO> dtoList = convertToDto(pagedStudents, relevantStudentIds, subject);
+    Page<User> studentsPage =
+        userRepository.searchStudentsNotInGroups(
+            StudentSearchUtils.toContainsPattern(searchQuery), excludedGroupIds, pageable);
 
-    return new CacheablePage<>(new PageImpl<>(dtoList, pageable, filteredStudents.size()));
+    return new CacheablePage<>(studentsPage.map(this::mapStudentToDTO));
   }
 
   /**
-   * Determines relevant student IDs based on subject, current group, and group activity status.
+   * Determines the groups whose students cannot join the current group, based on subject, current
+   * group, and group activity status.
    *
    * @param subject The subject associated with the group
    * @param currentGroup The current group being processed
    * @param isCurrentGroupInFuture Flag indicating if the current group is a future group
-   * @return A set of student IDs relevant to the specified conditions
+   * @return A mutable set of group IDs relevant to the specified conditions
    */
-  public Set<Long> getRelevantStudentIds(
+  public Set<Long> getRelevantGroupIds(
       Subject subject, Group currentGroup, boolean isCurrentGroupInFuture) {
-    if (subject == null) return Collections.emptySet();
+    if (subject == null) return new HashSet<>();
 
     Semester currentSemester = currentGroup.getSemester();
     int currentAcademicYear = currentGroup.getAcademicYear();
@@ -228,9 +224,8 @@ public class GroupStudentService {
       return subject.getGroups().stream()
           .filter(g -> g.getId() != currentGroup.getId())
           .filter(Group::isActive)
-          .flatMap(g -> g.getStudents().stream())
-          .map(User::getId)
-          .collect(Collectors.toSet());
+          .map(Group::getId)
+          .collect(Collectors.toCollection(HashSet::new));
     } else {
       return subject.getGroups().stream()
           .filter(g -> g.getId() != currentGroup.getId())
@@ -239,332 +234,77 @@ public class GroupStudentService {
               g ->
                   g.getSemester() == currentSemester
                       && g.getAcademicYear().equals(currentAcademicYear))
-          .flatMap(g -> g.getStudents().stream())
-          .map(User::getId)
-          .collect(Collectors.toSet());
+          .map(Group::getId)
+          .collect(Collectors.toCollection(HashSet::new));
     }
   }
 
   /**
-   * Filters students based on group membership, subject constraints, and optional search query.
-   *
-   * @param allStudents The complete list of students to filter
-   * @param studentsInGroupIds Set of student IDs already in the group
-   * @param studentsInSameSubjectIds Set of student IDs in related subject groups
-   * @param searchQuery Optional text to filter students
-   * @return A filtered list of students
-   */
-  public List<User> filterStudents(
-      List<User> allStudents,
-      Set<Long> studentsInGroupIds,
-      Set<Long> studentsInSameSubjectIds,
-      String searchQuery) {
-    return allStudents.stream()
-        .filter(student -> !studentsInGroupIds.contains(student.getId()))
-        .filter(student -> !studentsInSameSubjectIds.contains(student.getId()))
-        .filter(
-            student -> {
-              if (!StringUtils.hasText(searchQuery)) return true;
-
-              String fullName = (student.getName() + " " + student.getSurname()).toLowerCase();
-              String username = Optional.ofNullable(student.getUsername()).orElse("").toLowerCase();
-              return fullName.contains(searchQuery.toLowerCase())
-                  || username.contains(searchQuery.toLowerCase());
-            })
-        .toList();
-  }
-
-  /**
-   * Paginates a list of students based on the provided pagination information.
-   *
-   * @param students The complete list of students
-   * @param pageable Pagination information
-   * @return A sublist of students for the specified page
-   */
-  public List<User> paginateStudents(List<User> students, Pageable pageable) {
-    int start = (int) pageable.getOffset();
-    int end = Math.min(start + pageable.getPageSize(), students.size());
-
-    if (start >= students.size()) return Collections.emptyList();
-    return students.subList(start, end);
-  }
-
-  /**
-   * Converts a list of students to DTOs with optional subject-related enrichment.
-   *
-   * @param students The list of students to convert
-   * @param studentsInSubjectIds Set of student IDs in the subject
-   * @param subject The subject associated with the group (can be null)
-   * @return A list of student DTOs with additional information
-   */
-  public List<CreateGroupUserListDTO> convertToDto(
-      List<User> students, Set<Long> studentsInSubjectIds, Subject subject) {
-    return students.stream()
-        .map(
-            student -> {
-              CreateGroupUserListDTO dto = groupMapper.toCreateGroupUserListDTO(student);
-
-              if (subject != null && studentsInSubjectIds.contains(student.getId())) {
-                groupMapper.enrichWithSubjectInfo(
-                    dto, true, subject.getName(), subject.getShortName());
-              }
-
-              return dto;
-            })
-        .toList();
-  }
-
-  /**
-   * Retrieves student IDs for other groups in the same subject.
-   *
-   * @param subject The subject to search within
-   * @param currentGroup The current group to exclude
-   * @return A set of student IDs in other active groups of the same subject
-   */
-  public Set<Long> getOtherGroupsStudentIds(Subject subject, Group currentGroup) {
-    if (subject == null) return Collections.emptySet();
-
-    return subject.getGroups().stream()
-        .filter(g -> g.getId() != currentGroup.getId())
-        .filter(Group::isActive)
-        .flatMap(g -> g.getStudents().stream())
-        .map(User::getId)
-        .collect(Collectors.toSet());
-  }
-
-  /**
-   * Retrieves the list of subjects a student is enrolled in.
-   *
-   * @param student The student to retrieve subjects for
-   * @return A list of subject short names
-   */
-  public List<String> getStudentSubjects(User student) {
-    List<Group> studentActiveGroups =
-        groupRepository.findByStudentsContainingAndActiveTrue(student);
-
-    return studentActiveGroups.stream()
-        .map(
-            group ->
-                subjectRepository
-                    .findByGroupsContaining(group)
-                    .map(Subject::getShortName)
-                    .orElse("Group has no subject"))
-        .distinct()
-        .toList();
-  }
-
-  /**
-   * Validates that students are not already in other active groups of the same subject, or in
-   * future groups of the same semester and year if the current group is a future group
+   * Validates that none of the students is already in another group of the same subject for the
+   * given semester and academic year. Active groups share the current semester and future groups
+   * their own one, so this single check covers both the "one active group per subject" and the "one
+   * future group per subject and semester" rules.
    *
-   * @param students Students to validate
-   * @param subject Subject which holds this group
-   * @param currentGroupId Current group ID (can be null for new groups)
-   * @throws ValidationException if validation fails
+   * @param group Group the students are enrolled into
+   * @param studentIds IDs of the students to validate
+   * @param semester Semester the group belongs to after the change
+   * @param academicYear Academic year the group belongs to after the change
+   * @throws ValidationException if a student is already in another group of the subject
    */
-  public void validateStudents(Set<User> students, Subject subject, Long currentGroupId) {
-    if (subject == null) {
+  public void validateNoEnrollmentConflicts(
+      Group group, Collection<Long> studentIds, Semester semester, Integer academicYear) {
+    if (studentIds.isEmpty()) {
       return;
     }
 
-    Group currentGroup =
-        currentGroupId != null ? groupRepository.findById(currentGroupId).orElse(null) : null;
+    List<EnrollmentConflictView> conflicts =
+        groupRepository.findEnrollmentConflicts(
+            group.getId(), semester.name(), academicYear, studentIds);
 
-    if (currentGroup == null) {
-      validateAgainstActiveGroups(students, subject, currentGroupId);
+    if (conflicts.isEmpty()) {
       return;
     }
 
-    boolean isCurrentGroupInFuture = groupActivityService.isGroupInFuture(currentGroup);
-
-    if (isCurrentGroupInFuture) {
-      validateAgainstFutureGroups(students, subject, currentGroup);
+    EnrollmentConflictView first = conflicts.getFirst();
+    long conflictingStudents =
+        conflicts.stream().map(EnrollmentConflictView::getStudentId).distinct().count();
+
+    String errorMessage;
+    if (conflictingStudents == 1) {
+      errorMessage =
+          STUDENT_PREFIX
+              + first.getName()
+              + " "
+              + first.getSurname()
+              + " is already in another group '"
+              + first.getGroupName()
+              + "' of the same subject for semester "
+              + semester
+              + AND_YEAR
+              + academicYear
+              + MULTIPLE_GROUPS_ERROR;
     } else {
-      validateAgainstActiveGroups(students, subject, currentGroupId);
+      errorMessage =
+          STUDENT_PREFIX
+              + first.getName()
+              + " "
+              + first.getSurname()
+              + " and "
+              + (conflictingStudents - 1)
+              + " more students are already in other groups "
+              + "of the same subject for semester "
+              + semester
+              + AND_YEAR
+              + academicYear
+              + MULTIPLE_GROUPS_ERROR;
     }
-  }
 
-  /**
-   * Validates students against active groups to prevent multiple enrollments in the same subject.
-   *
-   * @param students The set of students to validate
-   * @param subject The subject to check against
-   * @param currentGroupId The ID of the current group
-   * @throws ValidationException if a student is already in an active group of the same subject
-   */
-  private void validateAgainstActiveGroups(
-      Set<User> students, Subject subject, Long currentGroupId) {
-    Set<Group> otherActiveGroups =
-        subject.getGroups().stream()
-            .filter(Group::isActive)
-            .filter(g -> currentGroupId == null || g.getId() != currentGroupId)
-            .collect(Collectors.toSet());
-
-    if (otherActiveGroups.isEmpty()) {
-      return;
-    }
+    log.error(
+        "Found {} students already in other groups of the subject for semester {} and year {}",
+        conflictingStudents,
+        semester,
+        academicYear);
 
-    for (User student : students) {
-      for (Group group : otherActiveGroups) {
-        if (group.getStudents().contains(student)) {
-          log.error(
-              "Student {} is already in another active group {} of the same subject",
-              student.getUsername(),
-              group.getName());
-          throw ValidationException.groupValidation(
-              STUDENT_PREFIX
-                  + student.getName()
-                  + " "
-                  + student.getSurname()
-                  + " is already in active group '"
-                  + group.getName()
-                  + "' of the same subject. Students cannot be in multiple active groups of the same subject.");
-        }
-      }
-    }
-  }
-
-  /**
-   * Validates students against future groups to prevent multiple enrollments in the same subject
-   * and semester.
-   *
-   * @param students The set of students to validate
-   * @param subject The subject to check against
-   * @param currentGroup The current group being processed
-   * @throws ValidationException if a student is already in a future group of the same subject and
-   *     semester
-   */
-  private void validateAgainstFutureGroups(
-      Set<User> students, Subject subject, Group currentGroup) {
-    Semester currentSemester = currentGroup.getSemester();
-    int currentAcademicYear = currentGroup.getAcademicYear();
-
-    Set<Group> otherFutureGroups =
-        subject.getGroups().stream()
-            .filter(g -> g.getId() != currentGroup.getId())
-            .filter(groupActivityService::isGroupInFuture)
-            .filter(
-                g ->
-                    g.getSemester() == currentSemester
-                        && g.getAcademicYear() == currentAcademicYear)
-            .collect(Collectors.toSet());
-
-    if (otherFutureGroups.isEmpty()) {
-      return;
-    }
-
-    for (User student : students) {
-      for (Group group : otherFutureGroups) {
-        if (group.getStudents().contains(student)) {
-          log.error(
-              "Student {} is already in another future group {} of the same subject for semester {} and year {}",
-              student.getUsername(),
-              group.getName(),
-              currentSemester,
-              currentAcademicYear);
-          throw ValidationException.groupValidation(
-              STUDENT_PREFIX
-                  + student.getName()
-                  + " "
-                  + student.getSurname()
-                  + " is already in future group '"
-                  + group.getName()
-                  + "' of the same subject for semester "
-                  + currentSemester
-                  + AND_YEAR
-                  + currentAcademicYear
-                  + MULTIPLE_GROUPS_ERROR);
-        }
-      }
-    }
-  }
-
-  /**
-   * Validates students for a specific semester and academic year to prevent multiple enrollments.
-   *
-   * @param students The set of students to validate
-   * @param subject The subject to check against
-   * @param currentGroupId The ID of the current group
-   * @param semester The semester to validate
-   * @param academicYear The academic year to validate
-   * @throws ValidationException if a student is already in a group of the same subject for the
-   *     specified semester and year
-   */
-  public void validateStudentsForSemesterAndYear(
-      Set<User> students,
-      Subject subject,
-      Long currentGroupId,
-      Semester semester,
-      Integer academicYear) {
-
-    if (subject == null) {
-      return;
-    }
-
-    Set<Group> groupsInSemesterAndYear =
-        subject.getGroups().stream()
-            .filter(g -> currentGroupId == null || g.getId() != currentGroupId)
-            .filter(g -> g.getSemester() == semester && g.getAcademicYear().equals(academicYear))
-            .collect(Collectors.toSet());
-
-    if (groupsInSemesterAndYear.isEmpty()) {
-      return;
-    }
-
-    List<User> studentsWithIssues = new ArrayList<>();
-    Map<User, Group> studentGroupMap = new HashMap<>();
-
-    for (User student : students) {
-      for (Group group : groupsInSemesterAndYear) {
-        if (group.getStudents().contains(student)) {
-          studentsWithIssues.add(student);
-          studentGroupMap.put(student, group);
-          break;
-        }
-      }
-    }
-
-    if (!studentsWithIssues.isEmpty()) {
-      User firstStudent = studentsWithIssues.getFirst();
-      Group firstStudentGroup = studentGroupMap.get(firstStudent);
-
-      String errorMessage;
-      if (studentsWithIssues.size() == 1) {
-        errorMessage =
-            STUDENT_PREFIX
-                + firstStudent.getName()
-                + " "
-                + firstStudent.getSurname()
-                + " is already in another group '"
-                + firstStudentGroup.getName()
-                + "' of the same subject for semester "
-                + semester
-                + AND_YEAR
-                + academicYear
-                + MULTIPLE_GROUPS_ERROR;
-      } else {
-        errorMessage =
-            STUDENT_PREFIX
-                + firstStudent.getName()
-                + " "
-                + firstStudent.getSurname()
-                + " and "
-                + (studentsWithIssues.size() - 1)
-                + " more students are already in other groups "
-                + "of the same subject for semester "
-                + semester
-                + AND_YEAR
-                + academicYear
-                + MULTIPLE_GROUPS_ERROR;
-      }
-
-      log.error(
-          "Found {} students already in other groups of the subject for semester {} and year {}",
-          studentsWithIssues.size(),
-          semester,
-          academicYear);
-
-      throw ValidationException.groupValidation(errorMessage);
-    }
+    throw ValidationException.groupValidation(errorMessage);
   }
 }
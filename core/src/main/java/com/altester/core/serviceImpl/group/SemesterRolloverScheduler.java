@@ -0,0 +1,124 @@
+package com.altester.core.serviceImpl.group;
+
+import com.altester.core.config.SemesterConfig;
+import com.altester.core.repository.GroupRepository;
+import com.altester.core.repository.projection.GroupRolloverView;
+import com.altester.core.serviceImpl.CacheService;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the stored active flag of groups in line with the current semester. Instead of loading and
+ * saving every group nightly, the flags are corrected by one set-based UPDATE that only touches
+ * groups whose flag is stale. The update runs once on startup to catch up and is then scheduled at
+ * the next semester boundary from {@link SemesterConfig}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SemesterRolloverScheduler {
+
+  private final GroupRepository groupRepository;
+  private final SemesterConfig semesterConfig;
+  private final CacheService cacheService;
+  private final GroupMembershipEventPublisher membershipEventPublisher;
+  private final TaskScheduler taskScheduler;
+
+  private ScheduledFuture<?> nextRollover;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    applyRollover();
+    scheduleNextRollover();
+  }
+
+  /**
+   * Flips the active flag of all groups whose flag no longer matches the current semester and
+   * evicts cached data of the affected groups, their teachers and students.
+   *
+   * @return Number of updated groups
+   */
+  public int applyRollover() {
+    String semester = semesterConfig.getCurrentSemester().name();
+    int academicYear = semesterConfig.getCurrentAcademicYear();
+
+    List<GroupRolloverView> staleGroups =
+        groupRepository.findGroupsWithStaleActiveFlag(semester, academicYear);
+    if (staleGroups.isEmpty()) {
+      log.debug("Group active flags already match semester {} {}", semester, academicYear);
+      return 0;
+    }
+
+    List<Long> groupIds = staleGroups.stream().map(GroupRolloverView::getGroupId).toList();
+    int updated = groupRepository.flipStaleActiveFlags(groupIds, semester, academicYear);
+
+    List<String> teacherUsernames =
+        staleGroups.stream()
+            .map(GroupRolloverView::getTeacherUsername)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+    cacheService.evictKeys("group", groupIds.stream().map(id -> "id:" + id).toList());
+    cacheService.evictTeacherPages(teacherUsernames);
+    cacheService.clearCaches("groups");
+    // Teacher student lists and group lists both depend on which groups are active
+    cacheService.clearTeacherRelatedCaches();
+    cacheService.clearStudentRelatedCaches();
+    membershipEventPublisher.publishAllChanged();
+
+    log.info(
+        "Semester rollover to {} {} updated the active flag of {} groups",
+        semester,
+        academicYear,
+        updated);
+    return updated;
+  }
+
+  private void scheduleNextRollover() {
+    LocalDate today = LocalDate.now();
+    LocalDate nextBoundary =
+        semesterConfig.getSemesterBoundaries().stream()
+            .filter(date -> date.isAfter(today))
+            .findFirst()
+            .orElse(null);
+
+    if (nextBoundary == null) {
+      log.warn("No upcoming semester boundary configured, group rollover is not scheduled");
+      return;
+    }
+
+    nextRollover =
+        taskScheduler.schedule(
+            this::runScheduledRollover,
+            nextBoundary.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    log.info("Next semester rollover scheduled for {}", nextBoundary);
+  }
+
+  private void runScheduledRollover() {
+    try {
+      applyRollover();
+    } catch (Exception e) {
+      log.error("Semester rollover failed: {}", e.getMessage(), e);
+    } finally {
+      scheduleNextRollover();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (nextRollover != null) {
+      nextRollover.cancel(false);
+    }
+  }
+}
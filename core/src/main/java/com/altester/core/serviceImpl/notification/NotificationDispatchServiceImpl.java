@@ -11,6 +11,7 @@ import com.altester.core.model.subject.Test;
 import com.altester.core.model.subject.enums.NotificationType;
 import com.altester.core.repository.UserRepository;
 import com.altester.core.service.NotificationDispatchService;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -155,6 +156,31 @@ public class NotificationDispatchServiceImpl implements NotificationDispatchServ
     sendNotification(request);
   }
 
+  @Override
+  public void notifyNewStudentsJoined(Collection<User> students, Group group) {
+    if (students.isEmpty() || group.getTeacher() == null) {
+      return;
+    }
+
+    if (students.size() == 1) {
+      notifyNewStudentJoined(students.iterator().next(), group);
+      return;
+    }
+
+    NotificationRequest request =
+        NotificationRequest.builder()
+            .usernames(Collections.singletonList(group.getTeacher().getUsername()))
+            .title("New Students in Group")
+            .message(
+                students.size() + " new students have joined your group '" + group.getName() + "'")
+            .type(NotificationType.NEW_STUDENT_JOINED.toString())
+            .actionUrl("/teacher/groups/" + group.getId() + "/students")
+            .referenceId(group.getId())
+            .build();
+
+    sendNotification(request);
+  }
+
   @Override
   public void notifyTestWithoutQuestions(Test test, List<User> admins) {
     if (admins.isEmpty()) {
@@ -0,0 +1,19 @@
+package com.altester.core.serviceImpl.question;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/** Response metadata of a stored image file, computed once per file. */
+@Getter
+@Builder
+public class ImageFileMetadata {
+  private final String fileName;
+  private final long contentLength;
+  private final long lastModified;
+  private final String mediaType;
+
+  /** Stored files are never overwritten, so the file name is a strong validator. */
+  public String getEtag() {
+    return "\"" + fileName + "\"";
+  }
+}
@@ -1,67 +1,203 @@
 package com.altester.core.serviceImpl.question;
 
 import com.altester.core.exception.FileOperationException;
+import com.altester.core.repository.QuestionRepository;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class ImageService {
 
-  @Value("${app.upload.question-images}")
-  private String uploadDir;
+  private static final Pattern SAFE_EXTENSION = Pattern.compile("^\\.[a-z0-9]{1,5}$");
+  private static final int LOCK_STRIPES = 64;
+
+  private final QuestionImageStore imageStore;
+  private final ImageVariantGenerator variantGenerator;
+  private final QuestionRepository questionRepository;
+
+  /**
+   * Uploads per image whose transaction has not finished yet. Their questions are not visible to
+   * the reference check, so pinned images are never deleted.
+   */
+  private final Map<String, Integer> pendingUploads = new ConcurrentHashMap<>();
 
   /**
-   * Saves an uploaded image file to the file system.
+   * Serializes storing and deleting the same image. The locks are striped by file name, so the
+   * reference check and file IO of a delete never run inside a map operation, and unrelated images
+   * rarely wait for each other.
+   */
+  private final Lock[] imageLocks = createLocks();
+
+  @Value("${app.images.backfill-variants:false}")
+  private boolean backfillVariants;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void createMissingVariants() {
+    if (backfillVariants) {
+      variantGenerator.generateMissingVariants(imageStore.findImagesWithoutVariants());
+    }
+  }
+
+  /**
+   * Saves an uploaded image file to the file system under the SHA-256 hash of its content, so the
+   * same image uploaded twice is stored once. Resized variants are created in the background. The
+   * image is pinned until the surrounding transaction completes, so a concurrent delete of the same
+   * image cannot remove the file before the new question referring to it is committed.
    *
    * @param image The image file to save
    * @return The filename of the saved image
    * @throws FileOperationException If there's an error saving the image
    */
   public String saveImage(MultipartFile image) {
+    Path uploadPath = imageStore.getQuestionImagesDirectory();
+    Path temp = null;
     try {
-      Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-
-      if (!Files.exists(uploadPath)) {
-        Files.createDirectories(uploadPath);
+      temp = Files.createTempFile(uploadPath, "upload-", ".tmp");
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      try (InputStream input = new DigestInputStream(image.getInputStream(), digest)) {
+        Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
       }
 
-      String originalFilename = image.getOriginalFilename();
-      String fileExtension =
-          originalFilename != null && originalFilename.contains(".")
-              ? originalFilename.substring(originalFilename.lastIndexOf("."))
-              : "";
-
-      String filename = UUID.randomUUID() + fileExtension;
+      String filename =
+          HexFormat.of().formatHex(digest.digest()) + fileExtension(image.getOriginalFilename());
       Path filePath = uploadPath.resolve(filename);
 
-      Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+      Lock lock = lockFor(filename);
+      lock.lock();
+      try {
+        pendingUploads.merge(filename, 1, Integer::sum);
+        unpinAfterCompletion(filename);
+        if (Files.exists(filePath)) {
+          log.debug("Image already stored, reusing: {}", filename);
+          return filename;
+        }
+
+        makeReadable(temp);
+        try {
+          Files.move(temp, filePath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+          log.debug("Image stored concurrently, reusing: {}", filename);
+          return filename;
+        }
+      } finally {
+        lock.unlock();
+      }
       log.debug("Image saved successfully: {}", filename);
 
+      variantGenerator.generateVariants(filename);
       return filename;
-    } catch (IOException e) {
+    } catch (IOException | NoSuchAlgorithmException e) {
       log.error("Failed to save image", e);
       throw FileOperationException.imageSave("Failed to save image: " + e.getMessage());
+    } finally {
+      deleteQuietly(temp);
     }
   }
 
   /**
-   * Deletes an image from the file system.
+   * Deletes an image and its variants from the file system once no question refers to it anymore.
+   * Inside a transaction the check runs after commit, so an image that is released and saved again
+   * in the same transaction is kept.
    *
    * @param imagePath The path of the image to delete
    */
   public void deleteImage(String imagePath) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              deleteIfUnreferenced(imagePath);
+            }
+          });
+    } else {
+      deleteIfUnreferenced(imagePath);
+    }
+  }
+
+  private void unpinAfterCompletion(String filename) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              unpin(filename);
+            }
+          });
+    } else {
+      unpin(filename);
+    }
+  }
+
+  private void unpin(String filename) {
+    pendingUploads.computeIfPresent(filename, (name, count) -> count > 1 ? count - 1 : null);
+  }
+
+  /**
+   * Runs under the lock of the image, so an upload of the same content waits until the file is gone
+   * and then stores it again.
+   */
+  private void deleteIfUnreferenced(String imagePath) {
+    Lock lock = lockFor(imagePath);
+    lock.lock();
     try {
-      Path path = Paths.get(uploadDir, imagePath);
-      boolean deleted = Files.deleteIfExists(path);
+      if (pendingUploads.containsKey(imagePath)) {
+        log.debug("Image is being uploaded again, keeping: {}", imagePath);
+        return;
+      }
+      deleteUnreferenced(imagePath);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Lock lockFor(String filename) {
+    return imageLocks[Math.floorMod(filename.hashCode(), imageLocks.length)];
+  }
+
+  private static Lock[] createLocks() {
+    Lock[] locks = new Lock[LOCK_STRIPES];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    return locks;
+  }
+
+  private void deleteUnreferenced(String imagePath) {
+    if (questionRepository.existsByImagePath(imagePath)) {
+      log.debug("Image still in use, keeping: {}", imagePath);
+      return;
+    }
+    try {
+      for (String variant : imageStore.removeImage(imagePath)) {
+        Files.deleteIfExists(imageStore.path(variant));
+      }
+      boolean deleted = Files.deleteIfExists(imageStore.path(imagePath));
       if (deleted) {
         log.debug("Image deleted successfully: {}", imagePath);
       } else {
@@ -71,4 +207,30 @@ public class ImageService {
       log.error("Failed to delete image: {}", e.getMessage());
     }
   }
+
+  private String fileExtension(String originalFilename) {
+    String extension =
+        originalFilename != null ? QuestionImageStore.extension(originalFilename) : "";
+    return SAFE_EXTENSION.matcher(extension).matches() ? extension : "";
+  }
+
+  /** Temp files are created owner-only; stored images keep the usual rw-r--r-- permissions. */
+  static void makeReadable(Path path) {
+    try {
+      Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-r--r--"));
+    } catch (IOException | UnsupportedOperationException e) {
+      log.debug("Could not set permissions of {}: {}", path, e.getMessage());
+    }
+  }
+
+  private void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Could not delete temporary file {}: {}", path, e.getMessage());
+    }
+  }
 }
@@ -0,0 +1,192 @@
+package com.altester.core.serviceImpl.question;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the resized variants of an uploaded question image. Each configured width gets a
+ * re-encoded copy (JPEG, or PNG for images with transparency) that is never wider than the
+ * original. When the re-encoded full-size copy would not be smaller than the upload, the upload
+ * itself is linked in its place. Animated GIFs and formats ImageIO cannot decode are served as
+ * uploaded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+  private static final long MAX_PIXELS = 50_000_000L;
+
+  private final QuestionImageStore imageStore;
+
+  @Value("${app.images.jpeg-quality:0.82}")
+  private float jpegQuality;
+
+  @Async("imageExecutor")
+  public void generateVariants(String fileName) {
+    createVariants(fileName);
+  }
+
+  /** Creates variants for images stored before variants existed, one image after the other. */
+  @Async("imageExecutor")
+  public void generateMissingVariants(Collection<String> fileNames) {
+    log.info("Creating variants of {} question images", fileNames.size());
+    fileNames.forEach(this::createVariants);
+  }
+
+  private void createVariants(String fileName) {
+    Path original = imageStore.path(fileName);
+    try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+      Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+      if (readers == null || !readers.hasNext()) {
+        log.debug("No variants for {}: format not supported", fileName);
+        return;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        if ("gif".equalsIgnoreCase(reader.getFormatName())) {
+          return;
+        }
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > MAX_PIXELS) {
+          log.warn("No variants for {}: {}x{} pixels is too large", fileName, width, height);
+          return;
+        }
+        writeVariants(fileName, original, reader.read(0));
+      } finally {
+        reader.dispose();
+      }
+    } catch (IOException | RuntimeException e) {
+      log.error("Failed to create variants of image {}: {}", fileName, e.getMessage());
+    }
+  }
+
+  private void writeVariants(String fileName, Path original, BufferedImage image)
+      throws IOException {
+    boolean alpha = image.getColorModel().hasAlpha();
+    String extension = alpha ? ".png" : ".jpg";
+    long originalSize = Files.size(original);
+    Map<Integer, String> variants = new LinkedHashMap<>();
+
+    for (int width : imageStore.getVariantWidths()) {
+      boolean fullSize = width >= image.getWidth();
+      byte[] encoded = encode(resize(image, Math.min(width, image.getWidth()), alpha), alpha);
+
+      String variantName;
+      if (fullSize && encoded.length >= originalSize) {
+        variantName =
+            imageStore.variantName(fileName, width, QuestionImageStore.extension(fileName));
+        linkOrCopy(original, imageStore.path(variantName));
+      } else {
+        variantName = imageStore.variantName(fileName, width, extension);
+        write(encoded, imageStore.path(variantName));
+      }
+      variants.put(width, variantName);
+
+      if (fullSize) {
+        break;
+      }
+    }
+
+    imageStore.registerVariants(fileName, variants);
+    log.debug("Created {} variants of image {}", variants.size(), fileName);
+  }
+
+  /** Scales down in halving steps, which keeps bilinear filtering sharp for large reductions. */
+  private BufferedImage resize(BufferedImage source, int targetWidth, boolean alpha) {
+    int targetHeight =
+        Math.max(1, Math.round(source.getHeight() * (float) targetWidth / source.getWidth()));
+    BufferedImage current = source;
+    int width = source.getWidth();
+    int height = source.getHeight();
+    do {
+      width = Math.max(targetWidth, width / 2);
+      height = Math.max(targetHeight, height / 2);
+      BufferedImage next =
+          new BufferedImage(
+              width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+      Graphics2D graphics = next.createGraphics();
+      try {
+        graphics.setRenderingHint(
+            RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(
+            RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        if (!alpha) {
+          graphics.setColor(Color.WHITE);
+          graphics.fillRect(0, 0, width, height);
+        }
+        graphics.drawImage(current, 0, 0, width, height, null);
+      } finally {
+        graphics.dispose();
+      }
+      current = next;
+    } while (width != targetWidth || height != targetHeight);
+    return current;
+  }
+
+  private byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    if (alpha) {
+      ImageIO.write(image, "png", output);
+      return output.toByteArray();
+    }
+
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(jpegQuality);
+      param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+      writer.setOutput(imageOutput);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return output.toByteArray();
+  }
+
+  private void write(byte[] content, Path target) throws IOException {
+    Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+    try {
+      Files.write(temp, content);
+      ImageService.makeReadable(temp);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private void linkOrCopy(Path original, Path target) throws IOException {
+    Files.deleteIfExists(target);
+    try {
+      Files.createLink(target, original);
+    } catch (IOException | UnsupportedOperationException e) {
+      Files.copy(original, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.altester.core.serviceImpl.question;
+
+import com.altester.core.exception.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Writes question images to the response. Conditional requests are answered from the cached file
+ * metadata without touching the disk. A single byte range is honoured, multiple ranges are answered
+ * with the whole file.
+ *
+ * <p>The body is only zero-copy when Tomcat's connector offers sendfile: the file is then handed to
+ * the connector and the kernel copies it to the socket. TLS connectors and connectors with sendfile
+ * disabled do not offer it. For those the file is read into user space and written through the
+ * servlet output stream, which is an ordinary buffered copy.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionImageSender {
+
+  private static final Pattern FILE_NAME = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9._-]*$");
+  private static final String CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable().getHeaderValue();
+
+  // Request attributes understood by Tomcat's NIO connector
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private final QuestionImageStore imageStore;
+
+  private final AtomicBoolean copyFallbackLogged = new AtomicBoolean();
+
+  /**
+   * Sends the variant of the image that best matches the requested width.
+   *
+   * @throws ResourceNotFoundException if the image does not exist
+   */
+  public void send(
+      String fileName, Integer width, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    if (!FILE_NAME.matcher(fileName).matches()) {
+      throw ResourceNotFoundException.image(fileName);
+    }
+    String resolved = imageStore.resolve(fileName, width);
+    ImageFileMetadata metadata =
+        imageStore.metadata(resolved).orElseThrow(() -> ResourceNotFoundException.image(fileName));
+
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (new ServletWebRequest(request, response)
+        .checkNotModified(metadata.getEtag(), metadata.getLastModified())) {
+      return;
+    }
+    response.setContentType(metadata.getMediaType());
+
+    long length = metadata.getContentLength();
+    long start = 0;
+    long end = length - 1;
+    HttpRange range;
+    try {
+      range = requestedRange(request, metadata);
+    } catch (IllegalArgumentException e) {
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+      response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      return;
+    }
+    if (range != null) {
+      start = range.getRangeStart(length);
+      end = range.getRangeEnd(length);
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+    }
+    response.setContentLengthLong(end - start + 1);
+
+    if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+      return;
+    }
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, imageStore.path(resolved).toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, end + 1);
+      return;
+    }
+    if (copyFallbackLogged.compareAndSet(false, true)) {
+      log.info(
+          "Connector does not offer sendfile, question images are copied through the response"
+              + " stream");
+    }
+    copy(resolved, start, end - start + 1, response);
+  }
+
+  /** Returns the single requested range, or null to send the whole file. */
+  private HttpRange requestedRange(HttpServletRequest request, ImageFileMetadata metadata) {
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    if (rangeHeader == null) {
+      return null;
+    }
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ifRange.equals(metadata.getEtag())) {
+      return null;
+    }
+    List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+    if (ranges.size() != 1) {
+      return null;
+    }
+    HttpRange range = ranges.get(0);
+    if (range.getRangeStart(metadata.getContentLength()) >= metadata.getContentLength()) {
+      throw new IllegalArgumentException("Range starts beyond the end of the file");
+    }
+    return range;
+  }
+
+  /**
+   * Copies the byte range through the servlet output stream. The target is not a socket channel, so
+   * {@link FileChannel#transferTo} reads the file into a buffer and writes it out.
+   */
+  private void copy(String fileName, long start, long count, HttpServletResponse response)
+      throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(imageStore.path(fileName), StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      long remaining = count;
+      while (remaining > 0) {
+        long transferred = channel.transferTo(position, remaining, target);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+        remaining -= transferred;
+      }
+    }
+  }
+}
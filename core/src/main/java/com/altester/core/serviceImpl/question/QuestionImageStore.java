@@ -0,0 +1,169 @@
+package com.altester.core.serviceImpl.question;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Layout of the question image directory. An uploaded image is stored once under its content hash
+ * ({@code <hash>.<ext>}) and its resized variants next to it as {@code <hash>-w<width>.<ext>}, one
+ * per configured width. Which variants exist is kept in memory; the index is built at startup from
+ * a single directory listing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionImageStore {
+
+  private static final Pattern VARIANT_NAME = Pattern.compile("^(.+)-w(\\d+)\\.[a-z0-9]+$");
+
+  @Getter private final Path questionImagesDirectory;
+
+  @Value("#{'${app.images.variant-widths:480,960,1600}'.split(',')}")
+  private List<Integer> configuredWidths;
+
+  /** Variant widths in ascending order. */
+  @Getter private TreeSet<Integer> variantWidths;
+
+  private final Map<String, NavigableMap<Integer, String>> variantsByImage =
+      new ConcurrentHashMap<>();
+
+  private final Map<String, ImageFileMetadata> metadataByFile = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  void loadIndex() {
+    variantWidths = new TreeSet<>(configuredWidths);
+    try (Stream<Path> files = Files.list(questionImagesDirectory)) {
+      files.forEach(file -> indexVariant(file.getFileName().toString()));
+    } catch (IOException e) {
+      log.warn("Could not index question image variants: {}", e.getMessage());
+    }
+    log.info("Indexed image variants of {} question images", variantsByImage.size());
+  }
+
+  private void indexVariant(String fileName) {
+    Matcher matcher = VARIANT_NAME.matcher(fileName);
+    if (matcher.matches()) {
+      variantsByImage
+          .computeIfAbsent(matcher.group(1), image -> new ConcurrentSkipListMap<>())
+          .put(Integer.parseInt(matcher.group(2)), fileName);
+    }
+  }
+
+  /** Lists stored images that have no variants yet. This reads the whole directory. */
+  public List<String> findImagesWithoutVariants() {
+    try (Stream<Path> files = Files.list(questionImagesDirectory)) {
+      return files
+          .map(file -> file.getFileName().toString())
+          .filter(name -> !name.endsWith(".tmp") && !VARIANT_NAME.matcher(name).matches())
+          .filter(name -> !variantsByImage.containsKey(baseName(name)))
+          .toList();
+    } catch (IOException e) {
+      log.warn("Could not list question images: {}", e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * Picks the file to serve for an image: the smallest variant at least as wide as requested, the
+   * widest variant if none is, or the original while no variants exist. Without a requested width
+   * the widest variant is served.
+   */
+  public String resolve(String fileName, Integer requestedWidth) {
+    NavigableMap<Integer, String> variants = variantsByImage.get(baseName(fileName));
+    if (variants == null || variants.isEmpty()) {
+      return fileName;
+    }
+    int width =
+        requestedWidth != null && requestedWidth > 0 ? requestedWidth : variantWidths.last();
+    Map.Entry<Integer, String> variant = variants.ceilingEntry(width);
+    return variant != null ? variant.getValue() : variants.lastEntry().getValue();
+  }
+
+  /** Publishes the complete variant set of an image at once. */
+  public void registerVariants(String fileName, Map<Integer, String> variants) {
+    variantsByImage.put(baseName(fileName), new ConcurrentSkipListMap<>(variants));
+  }
+
+  /** Forgets an image and its variants and returns the file names of the variants. */
+  public Collection<String> removeImage(String fileName) {
+    metadataByFile.remove(fileName);
+    NavigableMap<Integer, String> variants = variantsByImage.remove(baseName(fileName));
+    if (variants == null) {
+      return List.of();
+    }
+    variants.values().forEach(metadataByFile::remove);
+    return variants.values();
+  }
+
+  /** Returns the response metadata of a stored file, or empty if there is no such file. */
+  public Optional<ImageFileMetadata> metadata(String fileName) {
+    ImageFileMetadata cached = metadataByFile.get(fileName);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    try {
+      BasicFileAttributes attributes =
+          Files.readAttributes(path(fileName), BasicFileAttributes.class);
+      if (!attributes.isRegularFile()) {
+        return Optional.empty();
+      }
+      ImageFileMetadata metadata =
+          ImageFileMetadata.builder()
+              .fileName(fileName)
+              .contentLength(attributes.size())
+              .lastModified(attributes.lastModifiedTime().toMillis())
+              .mediaType(
+                  MediaTypeFactory.getMediaType(fileName)
+                      .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                      .toString())
+              .build();
+      metadataByFile.put(fileName, metadata);
+      return Optional.of(metadata);
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      log.warn("Could not read attributes of image {}: {}", fileName, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  public Path path(String fileName) {
+    return questionImagesDirectory.resolve(fileName);
+  }
+
+  public String variantName(String fileName, int width, String extension) {
+    return baseName(fileName) + "-w" + width + extension;
+  }
+
+  public static String baseName(String fileName) {
+    int dot = fileName.lastIndexOf('.');
+    return dot > 0 ? fileName.substring(0, dot) : fileName;
+  }
+
+  public static String extension(String fileName) {
+    int dot = fileName.lastIndexOf('.');
+    return dot > 0 ? fileName.substring(dot).toLowerCase() : "";
+  }
+}
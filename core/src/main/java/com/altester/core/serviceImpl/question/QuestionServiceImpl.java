@@ -284,12 +284,12 @@ public class QuestionServiceImpl implements QuestionService {
 
     verifyTestModificationPermission(currentUser, test);
 
+    questionRepository.delete(question);
+
     if (question.getImagePath() != null) {
       imageService.deleteImage(question.getImagePath());
     }
 
-    questionRepository.delete(question);
-
     cacheService.clearQuestionRelatedCaches();
     cacheService.clearTestRelatedCaches();
 
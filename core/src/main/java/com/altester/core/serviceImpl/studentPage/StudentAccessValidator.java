@@ -4,10 +4,8 @@ import com.altester.core.exception.AccessDeniedException;
 import com.altester.core.model.auth.User;
 import com.altester.core.model.auth.enums.RolesEnum;
 import com.altester.core.model.subject.Attempt;
-import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Test;
 import com.altester.core.repository.GroupRepository;
-import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,11 +32,8 @@ public class StudentAccessValidator {
 
   /** Validates that the student has access to the test */
   public void validateStudentTestAccess(User student, Test test) {
-    List<Group> studentGroups = groupRepository.findAllByStudentId(student.getId());
-
     boolean isTestInStudentGroup =
-        studentGroups.stream()
-            .anyMatch(group -> group.getTests().stream().anyMatch(t -> t.getId() == test.getId()));
+        groupRepository.existsByStudentsContainingAndTestsContaining(student, test);
 
     if (!isTestInStudentGroup) {
       throw AccessDeniedException.testAccess();
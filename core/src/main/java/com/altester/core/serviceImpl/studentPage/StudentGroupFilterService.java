@@ -22,9 +22,8 @@ public class StudentGroupFilterService {
     List<Group> currentGroups = new ArrayList<>();
 
     for (Group group : groups) {
-      groupActivityService.checkAndUpdateGroupActivity(group);
-
-      if (group.isActive() && !groupActivityService.isGroupInFuture(group)) {
+      if (groupActivityService.isGroupActive(group)
+          && !groupActivityService.isGroupInFuture(group)) {
         currentGroups.add(group);
       }
     }
@@ -37,9 +36,8 @@ public class StudentGroupFilterService {
     List<Group> pastGroups = new ArrayList<>();
 
     for (Group group : groups) {
-      groupActivityService.checkAndUpdateGroupActivity(group);
-
-      if (!group.isActive() && !groupActivityService.isGroupInFuture(group)) {
+      if (!groupActivityService.isGroupActive(group)
+          && !groupActivityService.isGroupInFuture(group)) {
         pastGroups.add(group);
       }
     }
@@ -6,7 +6,11 @@ import com.altester.core.model.subject.*;
 import com.altester.core.model.subject.enums.AttemptStatus;
 import com.altester.core.repository.AttemptRepository;
 import com.altester.core.repository.SubjectRepository;
+import com.altester.core.repository.TestRepository;
+import com.altester.core.repository.projection.TestAttemptStatsView;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,43 +20,70 @@ public class StudentMapper {
 
   private final SubjectRepository subjectRepository;
   private final AttemptRepository attemptRepository;
+  private final TestRepository testRepository;
 
+  /**
+   * Maps the student's groups with their open tests. Subjects, questions and attempt statistics are
+   * fetched in one query each for all groups, so the number of queries does not grow with the
+   * number of groups or tests.
+   */
   public List<GroupDTO> mapGroupsToDTO(List<Group> groups, User student, String searchQuery) {
+    if (groups.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<Long> groupIds = groups.stream().map(Group::getId).toList();
+    Map<Long, String> subjectNames = new HashMap<>();
+    subjectRepository
+        .findSubjectShortNamesByGroupIds(groupIds)
+        .forEach(view -> subjectNames.put(view.getGroupId(), view.getShortName()));
+
+    Set<Long> candidateTestIds =
+        groups.stream()
+            .flatMap(group -> group.getTests().stream())
+            .filter(Test::isOpen)
+            .filter(test -> filterTestBySearchQuery(test, searchQuery))
+            .map(Test::getId)
+            .collect(Collectors.toSet());
+
+    Map<Long, Integer> totalScores =
+        candidateTestIds.isEmpty()
+            ? Collections.emptyMap()
+            : testRepository.findWithQuestionsByIdIn(candidateTestIds).stream()
+                .filter(test -> !test.getQuestions().isEmpty())
+                .collect(Collectors.toMap(Test::getId, Test::getTotalScore));
+    Set<Long> testIdsWithQuestions = totalScores.keySet();
+
+    Map<Long, TestAttemptStatsView> attemptStats =
+        testIdsWithQuestions.isEmpty()
+            ? Collections.emptyMap()
+            : attemptRepository
+                .findAttemptStatsByStudentAndTestIds(student.getId(), testIdsWithQuestions)
+                .stream()
+                .collect(Collectors.toMap(TestAttemptStatsView::getTestId, Function.identity()));
+
     return groups.stream()
         .map(
             group -> {
-              List<Test> groupTests = new ArrayList<>(group.getTests());
-
-              Optional<Subject> subject = subjectRepository.findByGroupsId(group.getId());
-
+              String teacherName =
+                  group.getTeacher().getName() + " " + group.getTeacher().getSurname();
+              String subjectName = subjectNames.get(group.getId());
               String groupName =
-                  subject
-                      .map(
-                          value ->
-                              value.getShortName()
-                                  + " | "
-                                  + group.getTeacher().getName()
-                                  + " "
-                                  + group.getTeacher().getSurname()
-                                  + " | "
-                                  + group.getName())
-                      .orElseGet(
-                          () ->
-                              group.getTeacher().getName()
-                                  + " "
-                                  + group.getTeacher().getSurname()
-                                  + " | "
-                                  + group.getName());
-
-              List<Test> openTests =
-                  groupTests.stream()
-                      .filter(Test::isOpen)
-                      .filter(test -> filterTestBySearchQuery(test, searchQuery))
-                      .filter(this::filterTestByQuestions)
-                      .toList();
+                  subjectName != null
+                      ? subjectName + " | " + teacherName + " | " + group.getName()
+                      : teacherName + " | " + group.getName();
 
               List<TestDTO> testDTOs =
-                  openTests.stream().map(test -> mapTestToDTO(test, student)).toList();
+                  group.getTests().stream()
+                      .filter(test -> candidateTestIds.contains(test.getId()))
+                      .filter(test -> testIdsWithQuestions.contains(test.getId()))
+                      .map(
+                          test ->
+                              mapTestToDTO(
+                                  test,
+                                  attemptStats.get(test.getId()),
+                                  totalScores.get(test.getId())))
+                      .toList();
 
               return GroupDTO.builder()
                   .id(group.getId())
@@ -65,78 +96,44 @@ public class StudentMapper {
         .toList();
   }
 
-  public TestDTO mapTestToDTO(Test test, User student) {
-    List<Attempt> attempts = attemptRepository.findByTestAndStudent(test, student);
-
-    int completedAttempts =
-        (int)
-            attempts.stream()
-                .filter(
-                    attempt ->
-                        attempt.getStatus() == AttemptStatus.COMPLETED
-                            || attempt.getStatus() == AttemptStatus.REVIEWED
-                            || attempt.getStatus() == AttemptStatus.AI_REVIEWED)
-                .count();
-
-    boolean hasActiveAttempt =
-        attempts.stream().anyMatch(attempt -> attempt.getStatus() == AttemptStatus.IN_PROGRESS);
+  /**
+   * Maps a test with the student's aggregated attempt statistics.
+   *
+   * @param test The test to map
+   * @param stats Attempt statistics of the student for this test, null when there are no attempts
+   * @param totalScore Maximum score of the test, computed from its questions
+   * @return TestDTO with remaining attempts, best score and current status
+   */
+  public TestDTO mapTestToDTO(Test test, TestAttemptStatsView stats, int totalScore) {
+    int finishedAttempts = stats != null ? stats.getFinishedAttempts().intValue() : 0;
+    boolean hasActiveAttempt = stats != null && stats.getInProgressAttempts() > 0;
 
     int maxAttempts = test.getMaxAttempts() != null ? test.getMaxAttempts() : Integer.MAX_VALUE;
-    int remainingAttempts = maxAttempts - completedAttempts;
+    int remainingAttempts = maxAttempts - finishedAttempts;
 
     if (remainingAttempts <= 0 && hasActiveAttempt) {
       remainingAttempts = 1;
     }
 
-    Integer bestScore =
-        attempts.stream()
-            .filter(attempt -> attempt.getStatus() == AttemptStatus.REVIEWED)
-            .map(Attempt::getScore)
-            .filter(Objects::nonNull)
-            .max(Integer::compareTo)
-            .orElseGet(
-                () ->
-                    attempts.stream()
-                        .filter(attempt -> attempt.getStatus() == AttemptStatus.AI_REVIEWED)
-                        .map(Attempt::getAiScore)
-                        .filter(Objects::nonNull)
-                        .max(Integer::compareTo)
-                        .orElse(null));
-
-    AttemptStatus status =
-        attempts.stream()
-            .map(Attempt::getStatus)
-            .filter(attemptStatus -> attemptStatus == AttemptStatus.IN_PROGRESS)
-            .findFirst()
-            .orElseGet(
-                () ->
-                    attempts.stream()
-                        .filter(attempt -> attempt.getStatus() == AttemptStatus.REVIEWED)
-                        .max(
-                            Comparator.comparingInt(
-                                attempt -> attempt.getScore() != null ? attempt.getScore() : 0))
-                        .map(Attempt::getStatus)
-                        .orElseGet(
-                            () ->
-                                attempts.stream()
-                                    .filter(
-                                        attempt -> attempt.getStatus() == AttemptStatus.AI_REVIEWED)
-                                    .max(
-                                        Comparator.comparingInt(
-                                            attempt ->
-                                                attempt.getAiScore() != null
-                                                    ? attempt.getAiScore()
-                                                    : 0))
-                                    .map(Attempt::getStatus)
-                                    .orElseGet(
-                                        () ->
-                                            attempts.stream()
-                                                .map(Attempt::getStatus)
-                                                .filter(
-                                                    attemptStatus ->
-                                                        attemptStatus == AttemptStatus.COMPLETED)
-                                                .findFirst()
-                                                .orElse(null))));
+    Integer bestScore = null;
+    AttemptStatus status = null;
+
+    if (stats != null) {
+      bestScore =
+          stats.getBestReviewedScore() != null
+              ? stats.getBestReviewedScore()
+              : stats.getBestAiScore();
+
+      if (hasActiveAttempt) {
+        status = AttemptStatus.IN_PROGRESS;
+      } else if (stats.getReviewedAttempts() > 0) {
+        status = AttemptStatus.REVIEWED;
+      } else if (stats.getAiReviewedAttempts() > 0) {
+        status = AttemptStatus.AI_REVIEWED;
+      } else if (stats.getCompletedAttempts() > 0) {
+        status = AttemptStatus.COMPLETED;
+      }
+    }
 
     int easyCount = (test.getEasyQuestionsCount() != null) ? test.getEasyQuestionsCount() : 0;
     int mediumCount = (test.getMediumQuestionsCount() != null) ? test.getMediumQuestionsCount() : 0;
@@ -152,7 +149,7 @@ public class StudentMapper {
         .endTime(test.getEndTime())
         .maxAttempts(test.getMaxAttempts())
         .remainingAttempts(Math.max(remainingAttempts, 0))
-        .totalScore(test.getTotalScore())
+        .totalScore(totalScore)
         .bestScore(bestScore)
         .numberOfQuestions(numberOfQuestions)
         .status(status)
@@ -230,8 +227,4 @@ public class StudentMapper {
     String query = searchQuery.toLowerCase();
     return test.getTitle().toLowerCase().contains(query);
   }
-
-  private boolean filterTestByQuestions(Test test) {
-    return !test.getQuestions().isEmpty();
-  }
 }
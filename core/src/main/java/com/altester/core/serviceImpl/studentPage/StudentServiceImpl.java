@@ -38,6 +38,7 @@ public class StudentServiceImpl implements StudentService {
   @Override
   @Cacheable(
       value = "studentDashboard",
+      sync = true,
       key =
           "#principal.name + ':search:' + (#searchQuery == null ? '' : #searchQuery) + ':groupId:' + (#groupId == null ? '0' : #groupId)")
   public StudentDashboardResponse getStudentDashboard(
@@ -52,13 +53,14 @@ public class StudentServiceImpl implements StudentService {
 
     if (groupId != null) {
       Group selectedGroup =
-          groupRepository
-              .findById(groupId)
-              .orElseThrow(() -> ResourceNotFoundException.group(groupId));
-
-      if (allStudentGroups.stream().noneMatch(g -> g.getId() == selectedGroup.getId())) {
-        throw AccessDeniedException.groupAccess();
-      }
+          allStudentGroups.stream()
+              .filter(g -> g.getId() == groupId)
+              .findFirst()
+              .orElseThrow(
+                  () ->
+                      groupRepository.existsById(groupId)
+                          ? AccessDeniedException.groupAccess()
+                          : ResourceNotFoundException.group(groupId));
 
       allStudentGroups = Collections.singletonList(selectedGroup);
     }
@@ -78,6 +80,7 @@ public class StudentServiceImpl implements StudentService {
   @Override
   @Cacheable(
       value = "academicHistory",
+      sync = true,
       key =
           "#principal.name + ':year:' + (#academicYear == null ? '0' : #academicYear) + "
               + "':semester:' + (#semester == null ? '' : #semester) + ':search:' + (#searchQuery == null ? '' : #searchQuery)")
@@ -112,7 +115,10 @@ public class StudentServiceImpl implements StudentService {
   }
 
   @Override
-  @Cacheable(value = "studentTestAttempts", key = "#principal.name + ':testId:' + #testId")
+  @Cacheable(
+      value = "studentTestAttempts",
+      key = "#principal.name + ':testId:' + #testId",
+      sync = true)
   public StudentAttemptsResponse getStudentTestAttempts(Principal principal, Long testId) {
     log.info("Getting attempts for student for test: {}", testId);
 
@@ -147,7 +153,10 @@ public class StudentServiceImpl implements StudentService {
   }
 
   @Override
-  @Cacheable(value = "attemptReview", key = "#principal.name + ':attemptId:' + #attemptId")
+  @Cacheable(
+      value = "attemptReview",
+      key = "#principal.name + ':attemptId:' + #attemptId",
+      sync = true)
   public AttemptReviewDTO getAttemptReview(Principal principal, Long attemptId) {
     log.info("Getting detailed review for attempt: {}", attemptId);
 
@@ -251,11 +260,8 @@ public class StudentServiceImpl implements StudentService {
     }
 
     Test test = attempt.getTest();
-    List<Group> studentGroups = groupRepository.findAllByStudentId(student.getId());
-
     Group relevantGroup =
-        studentGroups.stream()
-            .filter(group -> group.getTests().contains(test))
+        groupRepository.findAllByStudentsContainingAndTestsContaining(student, test).stream()
             .findFirst()
             .orElseThrow(
                 () ->
@@ -294,7 +300,7 @@ public class StudentServiceImpl implements StudentService {
   }
 
   @Override
-  @Cacheable(value = "availablePeriods", key = "#principal.name")
+  @Cacheable(value = "availablePeriods", key = "#principal.name", sync = true)
   public AvailablePeriodsResponse getAvailablePeriods(Principal principal) {
     log.info("Getting available academic periods for student");
 
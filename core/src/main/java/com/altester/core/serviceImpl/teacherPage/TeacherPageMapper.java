@@ -7,7 +7,11 @@ import com.altester.core.model.auth.User;
 import com.altester.core.model.subject.Group;
 import com.altester.core.model.subject.Subject;
 import com.altester.core.repository.SubjectRepository;
+import com.altester.core.repository.projection.TeacherGroupStatsView;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -17,24 +21,39 @@ public class TeacherPageMapper {
 
   private final SubjectRepository subjectRepository;
 
-  public TeacherSubjectDTO toTeacherSubjectDTO(Subject subject, List<Group> teacherGroups) {
-    List<TeacherGroupDTO> groupDTOs =
-        teacherGroups.stream()
-            .filter(group -> subject.getGroups().contains(group))
-            .map(this::toTeacherGroupDTO)
-            .toList();
+  /**
+   * Groups teacher group statistics by subject, keeping the order of the rows
+   *
+   * @param groupStats Rows ordered by subject
+   * @return One TeacherSubjectDTO per subject with its groups
+   */
+  public List<TeacherSubjectDTO> toTeacherSubjectDTOs(List<TeacherGroupStatsView> groupStats) {
+    Map<Long, TeacherSubjectDTO> subjects = new LinkedHashMap<>();
 
-    return new TeacherSubjectDTO(
-        subject.getName(), subject.getShortName(), subject.getDescription(), groupDTOs);
+    for (TeacherGroupStatsView row : groupStats) {
+      subjects
+          .computeIfAbsent(
+              row.getSubjectId(),
+              id ->
+                  new TeacherSubjectDTO(
+                      row.getSubjectName(),
+                      row.getSubjectShortName(),
+                      row.getSubjectDescription(),
+                      new ArrayList<>()))
+          .getGroups()
+          .add(toTeacherGroupDTO(row));
+    }
+
+    return new ArrayList<>(subjects.values());
   }
 
-  public TeacherGroupDTO toTeacherGroupDTO(Group group) {
+  public TeacherGroupDTO toTeacherGroupDTO(TeacherGroupStatsView row) {
     return new TeacherGroupDTO(
-        group.getId(),
-        group.getName(),
-        group.getStudents().size(),
-        group.getTests().size(),
-        group.isActive());
+        row.getGroupId(),
+        row.getGroupName(),
+        row.getStudentCount().intValue(),
+        row.getTestCount().intValue(),
+        Boolean.TRUE.equals(row.getActive()));
   }
 
   public TeacherStudentsDTO toTeacherStudentsDTO(
@@ -15,13 +15,14 @@ import com.altester.core.service.TeacherPageService;
 import com.altester.core.serviceImpl.CacheService;
 import com.altester.core.serviceImpl.group.GroupActivityService;
 import com.altester.core.serviceImpl.group.GroupDTOMapper;
+import com.altester.core.serviceImpl.group.GroupMembershipEventPublisher;
 import com.altester.core.util.AiAccuracy;
 import com.altester.core.util.CacheablePage;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -46,10 +47,12 @@ public class TeacherPageServiceImpl implements TeacherPageService {
   private final TeacherPageMapper teacherPageMapper;
   private final TeacherGroupService teacherGroupService;
   private final TeacherStudentService teacherStudentService;
+  private final TeacherPageStatsService teacherPageStatsService;
   private final TeacherStudentMoveValidator moveValidator;
   private final GroupDTOMapper groupDTOMapper;
   private final AiAccuracy aiAccuracy;
   private final TestRepository testRepository;
+  private final GroupMembershipEventPublisher membershipEventPublisher;
 
   private User getTeacherFromPrincipal(Principal principal) {
     String username = principal.getName();
@@ -64,65 +67,21 @@ public class TeacherPageServiceImpl implements TeacherPageService {
   }
 
   @Override
-  @Cacheable(value = "teacherPage", key = "#principal.name")
   public TeacherPageDTO getPage(Principal principal) {
     log.info("Fetching teacher page data for {}", principal.getName());
     User teacher = getTeacherFromPrincipal(principal);
 
-    List<Group> teacherGroups = groupRepository.findByTeacher(teacher);
-
-    int amountOfStudents = teacherStudentService.getUniqueStudentsWithGroups(teacherGroups).size();
-    int testCount =
-        groupRepository.findAllByTeacher(teacher).stream()
-            .flatMap(group -> group.getTests().stream())
-            .collect(Collectors.toSet())
-            .size();
-
-    if (teacherGroups.isEmpty()) {
-      log.debug("No groups found for teacher {}, returning empty page", teacher.getUsername());
-      return new TeacherPageDTO(
-          teacher.getUsername(),
-          teacher.getName(),
-          teacher.getSurname(),
-          teacher.getEmail(),
-          teacher.isRegistered(),
-          aiAccuracy.calculateAiAccuracy(),
-          amountOfStudents,
-          testCount,
-          List.of());
-    }
-
-    Set<Subject> subjects =
-        teacherGroups.stream()
-            .map(group -> subjectRepository.findByGroupsContaining(group).orElse(null))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-
-    List<TeacherSubjectDTO> subjectDTOs =
-        subjects.stream()
-            .map(
-                subject -> {
-                  log.trace("Converting subject {} to DTO", subject.getName());
-                  return teacherPageMapper.toTeacherSubjectDTO(subject, teacherGroups);
-                })
-            .toList();
+    TeacherPageDTO page = teacherPageStatsService.buildTeacherPage(teacher);
+    page.setAiAccuracy(aiAccuracy.calculateAiAccuracy());
 
-    log.info("Successfully prepared teacher page data with {} subjects", subjectDTOs.size());
-    return new TeacherPageDTO(
-        teacher.getUsername(),
-        teacher.getName(),
-        teacher.getSurname(),
-        teacher.getEmail(),
-        teacher.isRegistered(),
-        aiAccuracy.calculateAiAccuracy(),
-        amountOfStudents,
-        testCount,
-        subjectDTOs);
+    log.info("Successfully prepared teacher page data with {} subjects", page.getSubjects().size());
+    return page;
   }
 
   @Override
   @Cacheable(
       value = "teacherStudents",
+      sync = true,
       key =
           "#principal.name + ':page:' + #page + ':size:' + #size + ':search:' + "
               + "(#searchQuery == null ? '' : #searchQuery)")
@@ -138,37 +97,8 @@ public class TeacherPageServiceImpl implements TeacherPageService {
     User teacher = getTeacherFromPrincipal(principal);
     Pageable pageable = PageRequest.of(page, size);
 
-    List<Group> activeGroups =
-        groupRepository.findByTeacher(teacher).stream().filter(Group::isActive).toList();
-    log.debug("Found {} active groups", activeGroups.size());
-
-    List<TeacherStudentsDTO> students =
-        teacherStudentService.getUniqueStudentsWithGroups(activeGroups);
-    log.debug("Found {} unique students across all active groups", students.size());
-
-    if (StringUtils.hasText(searchQuery)) {
-      students = teacherStudentService.filterStudentsBySearch(students, searchQuery);
-      log.debug("{} students match the search criteria", students.size());
-    }
-
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), students.size());
-
-    List<TeacherStudentsDTO> pageContent;
-    if (start >= students.size()) {
-      log.debug("Requested page exceeds available data size, returning empty page");
-      pageContent = List.of();
-    } else {
-      pageContent = students.subList(start, end);
-      log.debug(
-          "Created page with {} students (items {}-{} of {})",
-          pageContent.size(),
-          start,
-          end - 1,
-          students.size());
-    }
-
-    Page<TeacherStudentsDTO> result = new PageImpl<>(pageContent, pageable, students.size());
+    Page<TeacherStudentsDTO> result =
+        teacherStudentService.getStudentsPage(teacher, searchQuery, pageable);
     log.info(
         "Returning page {} of {} with {} students",
         result.getNumber() + 1,
@@ -181,6 +111,7 @@ public class TeacherPageServiceImpl implements TeacherPageService {
   @Override
   @Cacheable(
       value = "teacherGroups",
+      sync = true,
       key =
           "#principal.name + ':page:' + #page + ':size:' + #size + ':search:' + "
               + "(#searchQuery == null ? '' : #searchQuery) + ':status:' + "
@@ -293,8 +224,16 @@ public class TeacherPageServiceImpl implements TeacherPageService {
       groupRepository.save(fromGroup);
       groupRepository.save(toGroup);
 
+      membershipEventPublisher.publishUsersChanged(
+          Arrays.asList(student, fromGroup.getTeacher(), toGroup.getTeacher()));
+
       cacheService.clearTeacherRelatedCaches();
       cacheService.clearStudentRelatedCaches();
+      cacheService.evictTeacherPages(
+          Stream.of(fromGroup.getTeacher(), toGroup.getTeacher())
+              .filter(Objects::nonNull)
+              .map(User::getUsername)
+              .toList());
 
       log.info(
           "Successfully moved student {} from group {} to group {}",
@@ -312,7 +251,7 @@ public class TeacherPageServiceImpl implements TeacherPageService {
   }
 
   @Override
-  @Cacheable(value = "teacherGroup", key = "#principal.name + ':' + #groupId")
+  @Cacheable(value = "teacherGroup", key = "#principal.name + ':' + #groupId", sync = true)
   public TeacherGroupDetailDTO getTeacherGroup(Principal principal, Long groupId) {
     log.info("Fetching group details for teacher {} and group ID {}", principal.getName(), groupId);
 
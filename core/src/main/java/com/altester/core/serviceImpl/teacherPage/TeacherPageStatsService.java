@@ -0,0 +1,58 @@
+package com.altester.core.serviceImpl.teacherPage;
+
+import com.altester.core.dtos.core_service.TeacherPage.TeacherPageDTO;
+import com.altester.core.dtos.core_service.TeacherPage.TeacherSubjectDTO;
+import com.altester.core.model.auth.User;
+import com.altester.core.repository.GroupRepository;
+import com.altester.core.repository.projection.TeacherGroupStatsView;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeacherPageStatsService {
+
+  private final GroupRepository groupRepository;
+  private final TeacherPageMapper teacherPageMapper;
+
+  /**
+   * Builds the teacher-specific part of the teacher page from aggregate queries: distinct student
+   * and test counts and the subject to group mapping with per-group counts. The result is cached
+   * per teacher and evicted through CacheService.evictTeacherPages when the teacher's groups
+   * change. The global AI accuracy is not part of the cached value.
+   *
+   * @param teacher The teacher to build the page for
+   * @return TeacherPageDTO without AI accuracy
+   */
+  @Cacheable(value = "teacherPage", key = "#teacher.username", sync = true)
+  public TeacherPageDTO buildTeacherPage(User teacher) {
+    int amountOfStudents = (int) groupRepository.countDistinctStudentsByTeacher(teacher);
+    int testCount = (int) groupRepository.countDistinctTestsByTeacher(teacher);
+
+    List<TeacherGroupStatsView> groupStats =
+        groupRepository.findGroupStatsByTeacherId(teacher.getId());
+    List<TeacherSubjectDTO> subjectDTOs = teacherPageMapper.toTeacherSubjectDTOs(groupStats);
+
+    log.debug(
+        "Built teacher page for {} with {} students, {} tests and {} subjects",
+        teacher.getUsername(),
+        amountOfStudents,
+        testCount,
+        subjectDTOs.size());
+
+    return TeacherPageDTO.builder()
+        .username(teacher.getUsername())
+        .name(teacher.getName())
+        .surname(teacher.getSurname())
+        .email(teacher.getEmail())
+        .isRegistered(teacher.isRegistered())
+        .students(amountOfStudents)
+        .tests(testCount)
+        .subjects(subjectDTOs)
+        .build();
+  }
+}
@@ -45,8 +45,8 @@ public class TeacherStudentMoveValidator {
       throw StateConflictException.differentSemesters(fromGroup.getName(), toGroup.getName());
     }
 
-    boolean isFromGroupActive = groupActivityService.checkAndUpdateGroupActivity(fromGroup);
-    boolean isToGroupActive = groupActivityService.checkAndUpdateGroupActivity(toGroup);
+    boolean isFromGroupActive = groupActivityService.isGroupActive(fromGroup);
+    boolean isToGroupActive = groupActivityService.isGroupActive(toGroup);
 
     if (!isFromGroupActive && !isFromGroupInFuture) {
       log.error(
@@ -3,12 +3,17 @@ package com.altester.core.serviceImpl.teacherPage;
 import com.altester.core.dtos.core_service.TeacherPage.SubjectGroupDTO;
 import com.altester.core.dtos.core_service.TeacherPage.TeacherStudentsDTO;
 import com.altester.core.model.auth.User;
-import com.altester.core.model.subject.Group;
+import com.altester.core.repository.GroupRepository;
+import com.altester.core.repository.UserRepository;
+import com.altester.core.repository.projection.StudentGroupView;
+import com.altester.core.util.StudentSearchUtils;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,56 +22,50 @@ import org.springframework.stereotype.Component;
 public class TeacherStudentService {
 
   private final TeacherPageMapper teacherPageMapper;
+  private final UserRepository userRepository;
+  private final GroupRepository groupRepository;
 
   /**
-   * Extracts unique students with their groups from a list of groups
+   * Retrieves a page of students in the teacher's active groups, filtered and paginated by the
+   * database, together with the groups each student shares with the teacher. The groups of the
+   * whole page are read with one query.
    *
-   * @param activeGroups List of active groups
-   * @return List of unique students with their groups
+   * @param teacher The teacher whose students are listed
+   * @param searchQuery Optional text matched against full name and username
+   * @param pageable Pagination information
+   * @return Page of students with their groups
    */
-  public List<TeacherStudentsDTO> getUniqueStudentsWithGroups(List<Group> activeGroups) {
-    Set<User> uniqueStudents =
-        activeGroups.stream()
-            .flatMap(group -> group.getStudents().stream())
-            .collect(Collectors.toSet());
+  public Page<TeacherStudentsDTO> getStudentsPage(
+      User teacher, String searchQuery, Pageable pageable) {
+    Page<User> studentsPage =
+        userRepository.searchStudentsOfTeacher(
+            teacher.getId(), StudentSearchUtils.toContainsPattern(searchQuery), pageable);
 
     log.debug(
-        "Found {} unique students across {} active groups",
-        uniqueStudents.size(),
-        activeGroups.size());
+        "Found {} students matching search term: '{}'",
+        studentsPage.getTotalElements(),
+        searchQuery);
 
-    return uniqueStudents.stream()
-        .map(
-            student -> {
-              List<SubjectGroupDTO> subjectGroups =
-                  activeGroups.stream()
-                      .filter(group -> group.getStudents().contains(student))
-                      .map(
-                          group ->
-                              new SubjectGroupDTO(group.getId(), group.getName(), group.isActive()))
-                      .toList();
+    if (studentsPage.isEmpty()) {
+      return studentsPage.map(
+          student -> teacherPageMapper.toTeacherStudentsDTO(student, List.of()));
+    }
 
-              log.trace(
-                  "Student {} belongs to {} groups", student.getUsername(), subjectGroups.size());
-              return teacherPageMapper.toTeacherStudentsDTO(student, subjectGroups);
-            })
-        .toList();
-  }
-
-  public List<TeacherStudentsDTO> filterStudentsBySearch(
-      List<TeacherStudentsDTO> students, String searchQuery) {
-    String searchLower = searchQuery.toLowerCase();
-    log.debug("Filtering {} students with search term: '{}'", students.size(), searchQuery);
+    List<Long> studentIds = studentsPage.getContent().stream().map(User::getId).toList();
+    Map<Long, List<SubjectGroupDTO>> groupsByStudent =
+        groupRepository.findActiveTeacherGroupsOfStudents(teacher, studentIds).stream()
+            .collect(
+                Collectors.groupingBy(
+                    StudentGroupView::getStudentId,
+                    Collectors.mapping(
+                        view ->
+                            new SubjectGroupDTO(
+                                view.getGroupId(), view.getGroupName(), view.isActive()),
+                        Collectors.toList())));
 
-    return students.stream()
-        .filter(
-            student ->
-                (student.getFirstName() != null
-                        && student.getFirstName().toLowerCase().contains(searchLower))
-                    || (student.getLastName() != null
-                        && student.getLastName().toLowerCase().contains(searchLower))
-                    || (student.getUsername() != null
-                        && student.getUsername().toLowerCase().contains(searchLower)))
-        .toList();
+    return studentsPage.map(
+        student ->
+            teacherPageMapper.toTeacherStudentsDTO(
+                student, groupsByStudent.getOrDefault(student.getId(), List.of())));
   }
 }
@@ -11,9 +11,16 @@ import com.altester.core.model.subject.Test;
 import com.altester.core.model.subject.enums.QuestionDifficulty;
 import com.altester.core.repository.GroupRepository;
 import com.altester.core.repository.TestGroupAssignmentRepository;
+import com.altester.core.repository.TestRepository;
+import com.altester.core.repository.projection.TestGroupView;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -22,6 +29,7 @@ import org.springframework.stereotype.Component;
 public class TestDTOMapper {
   private final GroupRepository groupRepository;
   private final TestGroupAssignmentRepository assignmentRepository;
+  private final TestRepository testRepository;
 
   /**
    * Converts a Test entity to a simplified TestSummaryDTO containing essential test information
@@ -34,6 +42,39 @@ public class TestDTOMapper {
     boolean hasAiEvaluation =
         test.getTestGroupAssignments().stream().anyMatch(TestGroupAssignment::isAiEvaluation);
 
+    return toTestSummaryDTO(test, test.getTotalScore(), hasAiEvaluation);
+  }
+
+  /**
+   * Converts a page of tests to TestSummaryDTOs. Questions and AI evaluation flags are loaded with
+   * one query each for all tests instead of two lazy loads per test.
+   *
+   * @param tests Tests of the current page
+   * @return TestSummaryDTOs keyed by test ID
+   */
+  public Map<Long, TestSummaryDTO> convertToTestSummaryDTOs(Collection<Test> tests) {
+    if (tests.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    List<Long> testIds = tests.stream().map(Test::getId).toList();
+    Map<Long, Integer> totalScores =
+        testRepository.findWithQuestionsByIdIn(testIds).stream()
+            .collect(Collectors.toMap(Test::getId, Test::getTotalScore));
+    Set<Long> aiEvaluatedTestIds = assignmentRepository.findAiEvaluatedTestIds(testIds);
+
+    return tests.stream()
+        .collect(
+            Collectors.toMap(
+                Test::getId,
+                test ->
+                    toTestSummaryDTO(
+                        test,
+                        totalScores.getOrDefault(test.getId(), 0),
+                        aiEvaluatedTestIds.contains(test.getId()))));
+  }
+
+  private TestSummaryDTO toTestSummaryDTO(Test test, int totalScore, boolean hasAiEvaluation) {
     return TestSummaryDTO.builder()
         .id(test.getId())
         .title(test.getTitle())
@@ -41,7 +82,7 @@ public class TestDTOMapper {
         .isOpen(test.isOpen())
         .startTime(test.getStartTime())
         .endTime(test.getEndTime())
-        .totalScore(test.getTotalScore())
+        .totalScore(totalScore)
         .maxAttempts(test.getMaxAttempts())
         .allowTeacherEdit(test.isAllowTeacherEdit())
         .AiEvaluate(hasAiEvaluation)
@@ -181,7 +222,43 @@ public class TestDTOMapper {
    * @return List of Group entities that have the specified test assigned to them
    */
   public List<Group> findGroupsByTest(Test test) {
-    List<Group> allGroups = groupRepository.findAll();
-    return allGroups.stream().filter(group -> group.getTests().contains(test)).toList();
+    return groupRepository.findAllByTestsContaining(test);
+  }
+
+  /**
+   * Retrieves the groups of a whole page of tests with a single query
+   *
+   * @param tests The tests to find groups for
+   * @return Map of test ID to the group rows assigned to that test, tests without groups are absent
+   */
+  public Map<Long, List<TestGroupView>> findGroupsByTests(Collection<Test> tests) {
+    if (tests.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    List<Long> testIds = tests.stream().map(Test::getId).toList();
+    return groupRepository.findTestGroupsByTestIds(testIds).stream()
+        .collect(Collectors.groupingBy(TestGroupView::getTestId));
+  }
+
+  /**
+   * Converts batched group rows of a test to GroupSummaryDTOs
+   *
+   * @param groups Group rows as returned by {@link #findGroupsByTests(Collection)}, may be null
+   * @param filter Condition a group row must satisfy to be included
+   * @return List of GroupSummaryDTO with group ID and name
+   */
+  public List<GroupSummaryDTO> toGroupSummaries(
+      List<TestGroupView> groups, Predicate<TestGroupView> filter) {
+    if (groups == null) {
+      return Collections.emptyList();
+    }
+
+    return groups.stream()
+        .filter(filter)
+        .map(
+            group ->
+                GroupSummaryDTO.builder().id(group.getGroupId()).name(group.getGroupName()).build())
+        .toList();
   }
 }
@@ -13,9 +13,11 @@ import com.altester.core.model.subject.Subject;
 import com.altester.core.model.subject.Test;
 import com.altester.core.model.subject.enums.QuestionDifficulty;
 import com.altester.core.repository.*;
+import com.altester.core.repository.projection.TestGroupView;
 import com.altester.core.service.NotificationDispatchService;
 import com.altester.core.service.TestService;
 import com.altester.core.serviceImpl.CacheService;
+import com.altester.core.serviceImpl.cacheWarmup.CacheWarmupScheduler;
 import com.altester.core.serviceImpl.group.GroupActivityService;
 import com.altester.core.serviceImpl.question.TestStatusService;
 import com.altester.core.util.CacheablePage;
@@ -52,6 +54,7 @@ public class TestServiceImpl implements TestService {
   private final PromptRepository promptRepository;
   private final TestStatusService testStatusService;
   private final QuestionRepository questionRepository;
+  private final CacheWarmupScheduler cacheWarmupScheduler;
 
   private User getCurrentUser(Principal principal) {
     return userRepository
@@ -190,25 +193,18 @@ public class TestServiceImpl implements TestService {
     }
 
     Page<Test> testsPage = testRepository.findAllWithFilters(searchQuery, isActive, pageable);
+    Map<Long, List<TestGroupView>> groupsByTest =
+        testDTOMapper.findGroupsByTests(testsPage.getContent());
+
+    Map<Long, TestSummaryDTO> summaries =
+        testDTOMapper.convertToTestSummaryDTOs(testsPage.getContent());
 
     Page<TestSummaryDTO> resultPage =
         testsPage.map(
             test -> {
-              TestSummaryDTO dto = testDTOMapper.convertToTestSummaryDTO(test);
-
-              List<Group> testGroups = testDTOMapper.findGroupsByTest(test);
-
-              List<GroupSummaryDTO> groupDTOs =
-                  testGroups.stream()
-                      .map(
-                          group ->
-                              GroupSummaryDTO.builder()
-                                  .id(group.getId())
-                                  .name(group.getName())
-                                  .build())
-                      .toList();
-
-              dto.setAssociatedGroups(groupDTOs);
+              TestSummaryDTO dto = summaries.get(test.getId());
+              dto.setAssociatedGroups(
+                  testDTOMapper.toGroupSummaries(groupsByTest.get(test.getId()), group -> true));
               return dto;
             });
     return new CacheablePage<>(resultPage);
@@ -245,28 +241,20 @@ public class TestServiceImpl implements TestService {
         testRepository.findByTeacherWithFilters(
             currentUser.getId(), searchQuery, isActive, allowTeacherEdit, pageable);
 
+    Map<Long, List<TestGroupView>> groupsByTest =
+        testDTOMapper.findGroupsByTests(testsPage.getContent());
+
+    Map<Long, TestSummaryDTO> summaries =
+        testDTOMapper.convertToTestSummaryDTOs(testsPage.getContent());
+
     Page<TestSummaryDTO> resultPage =
         testsPage.map(
             test -> {
-              TestSummaryDTO dto = testDTOMapper.convertToTestSummaryDTO(test);
-
-              List<Group> teacherGroups = groupRepository.findByTeacher(currentUser);
-              List<Group> testGroups =
-                  testDTOMapper.findGroupsByTest(test).stream()
-                      .filter(teacherGroups::contains)
-                      .toList();
-
-              List<GroupSummaryDTO> groupDTOs =
-                  testGroups.stream()
-                      .map(
-                          group ->
-                              GroupSummaryDTO.builder()
-                                  .id(group.getId())
-                                  .name(group.getName())
-                                  .build())
-                      .toList();
-
-              dto.setAssociatedGroups(groupDTOs);
+              TestSummaryDTO dto = summaries.get(test.getId());
+              dto.setAssociatedGroups(
+                  testDTOMapper.toGroupSummaries(
+                      groupsByTest.get(test.getId()),
+                      group -> currentUser.getId().equals(group.getTeacherId())));
               return dto;
             });
     return new CacheablePage<>(resultPage);
@@ -621,37 +609,26 @@ public class TestServiceImpl implements TestService {
     Page<Test> testsPage =
         testRepository.findBySubjectWithFilters(subjectId, searchQuery, isActive, pageable);
 
-    List<Group> teacherGroups =
-        currentUser.getRole() == RolesEnum.TEACHER
-            ? groupRepository.findByTeacher(currentUser)
-            : Collections.emptyList();
+    Set<Long> subjectGroupIds =
+        subject.getGroups().stream().map(Group::getId).collect(Collectors.toSet());
+    Map<Long, List<TestGroupView>> groupsByTest =
+        testDTOMapper.findGroupsByTests(testsPage.getContent());
+
+    Map<Long, TestSummaryDTO> summaries =
+        testDTOMapper.convertToTestSummaryDTOs(testsPage.getContent());
 
     Page<TestSummaryDTO> resultPage =
         testsPage.map(
             test -> {
-              TestSummaryDTO dto = testDTOMapper.convertToTestSummaryDTO(test);
-
-              List<Group> testGroups =
-                  testDTOMapper.findGroupsByTest(test).stream()
-                      .filter(group -> subject.getGroups().contains(group))
-                      .filter(
-                          group ->
-                              currentUser.getRole() == RolesEnum.ADMIN
+              TestSummaryDTO dto = summaries.get(test.getId());
+              dto.setAssociatedGroups(
+                  testDTOMapper.toGroupSummaries(
+                      groupsByTest.get(test.getId()),
+                      group ->
+                          subjectGroupIds.contains(group.getGroupId())
+                              && (currentUser.getRole() == RolesEnum.ADMIN
                                   || (currentUser.getRole() == RolesEnum.TEACHER
-                                      && teacherGroups.contains(group)))
-                      .toList();
-
-              List<GroupSummaryDTO> groupDTOs =
-                  testGroups.stream()
-                      .map(
-                          group ->
-                              GroupSummaryDTO.builder()
-                                  .id(group.getId())
-                                  .name(group.getName())
-                                  .build())
-                      .toList();
-
-              dto.setAssociatedGroups(groupDTOs);
+                                      && currentUser.getId().equals(group.getTeacherId())))));
               return dto;
             });
 
@@ -686,10 +663,13 @@ public class TestServiceImpl implements TestService {
     Page<Test> testsPage =
         testRepository.findByGroupWithFilters(groupId, searchQuery, isActive, pageable);
 
+    Map<Long, TestSummaryDTO> summaries =
+        testDTOMapper.convertToTestSummaryDTOs(testsPage.getContent());
+
     Page<TestSummaryDTO> resultPage =
         testsPage.map(
             test -> {
-              TestSummaryDTO dto = testDTOMapper.convertToTestSummaryDTO(test);
+              TestSummaryDTO dto = summaries.get(test.getId());
 
               List<GroupSummaryDTO> groupDTOs = new ArrayList<>();
               groupDTOs.add(
@@ -739,6 +719,7 @@ public class TestServiceImpl implements TestService {
       for (Group group : testGroups) {
         notificationService.notifyTestAssigned(test, group);
       }
+      cacheWarmupScheduler.warmAfterCommit(testId);
     }
 
     log.info(
@@ -1,11 +1,17 @@
 package com.altester.core.util;
 
-import com.altester.core.model.subject.Attempt;
+import com.altester.core.model.subject.Test;
 import com.altester.core.repository.AttemptRepository;
+import com.altester.core.repository.TestRepository;
+import com.altester.core.repository.projection.TestScoreDiffView;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,33 +19,44 @@ import org.springframework.stereotype.Component;
 public class AiAccuracy {
 
   private final AttemptRepository attemptRepository;
+  private final TestRepository testRepository;
 
   /**
    * Calculates the AI grading accuracy percentage based on the match between teacher scores and AI
-   * scores for all attempts where both scores exist.
+   * scores for all attempts where both scores exist. Score differences are summed per test in the
+   * database, so only the graded tests are loaded. The result is cached until attempt caches are
+   * cleared.
    *
    * @return The accuracy percentage rounded to 1 decimal place
    */
+  @Cacheable(value = "aiAccuracy", key = "'global'", sync = true)
   public double calculateAiAccuracy() {
-    List<Attempt> attempts = attemptRepository.findAllWithBothScores();
+    List<TestScoreDiffView> diffsByTest = attemptRepository.sumScoreDiffsByTest();
 
-    if (attempts.isEmpty()) {
+    if (diffsByTest.isEmpty()) {
       return 0.0;
     }
 
-    int totalDiff = 0;
-    int totalMaxPossibleDiff = 0;
+    Map<Long, Test> tests =
+        testRepository
+            .findWithQuestionsByIdIn(
+                diffsByTest.stream().map(TestScoreDiffView::getTestId).toList())
+            .stream()
+            .collect(Collectors.toMap(Test::getId, Function.identity()));
 
-    for (Attempt attempt : attempts) {
-      int diff = Math.abs(attempt.getScore() - attempt.getAiScore());
-      int maxPossibleDiff = attempt.getTest().getTotalScore();
+    long totalDiff = 0;
+    long totalMaxPossibleDiff = 0;
+
+    for (TestScoreDiffView diff : diffsByTest) {
+      Test test = tests.get(diff.getTestId());
+      int maxPossibleDiff = test != null ? test.getTotalScore() : 0;
 
       if (maxPossibleDiff <= 0) {
         continue;
       }
 
-      totalDiff += diff;
-      totalMaxPossibleDiff += maxPossibleDiff;
+      totalDiff += diff.getTotalDiff();
+      totalMaxPossibleDiff += (long) maxPossibleDiff * diff.getAttemptCount();
     }
 
     if (totalMaxPossibleDiff == 0) {
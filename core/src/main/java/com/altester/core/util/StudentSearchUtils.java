@@ -0,0 +1,44 @@
+package com.altester.core.util;
+
+import java.util.Locale;
+
+public class StudentSearchUtils {
+
+  /** Full name expression shared by the trigram index and the student search queries. */
+  public static final String FULL_NAME_EXPR = "lower(u.name || ' ' || u.surname)";
+
+  /** Username expression shared by the trigram index and the student search queries. */
+  public static final String USERNAME_EXPR = "lower(u.username)";
+
+  /** Matches a student against a LIKE pattern produced by {@link #toContainsPattern(String)}. */
+  public static final String STUDENT_MATCH =
+      "u.role = 'STUDENT' AND ("
+          + FULL_NAME_EXPR
+          + " LIKE :pattern ESCAPE '\\' OR "
+          + USERNAME_EXPR
+          + " LIKE :pattern ESCAPE '\\')";
+
+  private StudentSearchUtils() {}
+
+  /**
+   * Converts user input into a case-insensitive "contains" LIKE pattern with wildcards escaped, so
+   * that the search matches the same students as a substring check on name and username.
+   *
+   * @param search Raw search input, may be null or blank
+   * @return LIKE pattern, "%" when the input is blank
+   */
+  public static String toContainsPattern(String search) {
+    if (search == null || search.isBlank()) {
+      return "%";
+    }
+
+    String escaped =
+        search
+            .trim()
+            .toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    return "%" + escaped + "%";
+  }
+}
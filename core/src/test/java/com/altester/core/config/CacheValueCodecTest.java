@@ -0,0 +1,57 @@
+package com.altester.core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CacheValueCodecTest {
+
+  @ParameterizedTest
+  @EnumSource(CacheValueCodec.Mode.class)
+  void keepsExplicitNullsThatHaveNonNullDefaults(CacheValueCodec.Mode mode) throws Exception {
+    CacheValueCodec codec = new CacheValueCodec(mode, 2048);
+    CachedValue value = new CachedValue();
+    value.setStatus(null);
+    value.setScore(null);
+
+    CachedValue decoded = codec.decode(codec.encode(value), CachedValue.class);
+
+    assertThat(decoded.getStatus()).isNull();
+    assertThat(decoded.getScore()).isNull();
+    assertThat(decoded.getModified()).isEqualTo(value.getModified());
+  }
+
+  @Test
+  void deflatesCompactValuesAboveTheThresholdAndReadsThemBack() throws Exception {
+    CacheValueCodec codec = new CacheValueCodec(CacheValueCodec.Mode.COMPACT, 64);
+    CachedValue value = new CachedValue();
+    value.setStatus("x".repeat(1000));
+
+    byte[] encoded = codec.encode(value);
+
+    assertThat(encoded[0]).isEqualTo(CacheValueCodec.MAGIC);
+    assertThat(encoded[1]).isEqualTo(CacheValueCodec.FORMAT_DEFLATE_JSON);
+    assertThat(codec.decode(encoded, CachedValue.class)).isEqualTo(value);
+  }
+
+  @Test
+  void readsValuesWrittenInTheOtherMode() throws Exception {
+    CacheValueCodec json = new CacheValueCodec(CacheValueCodec.Mode.JSON, 2048);
+    CacheValueCodec compact = new CacheValueCodec(CacheValueCodec.Mode.COMPACT, 2048);
+    CachedValue value = new CachedValue();
+
+    assertThat(compact.decode(json.encode(value), CachedValue.class)).isEqualTo(value);
+    assertThat(json.decode(compact.encode(value), CachedValue.class)).isEqualTo(value);
+  }
+
+  @Data
+  static class CachedValue {
+    private String status = "ACTIVE";
+    private Integer score = 10;
+    private LocalDateTime modified = LocalDateTime.of(2026, 10, 1, 12, 30);
+  }
+}
@@ -0,0 +1,50 @@
+package com.altester.core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class CoalescingCacheManagerTest {
+
+  private final ConcurrentMapCacheManager delegate =
+      new ConcurrentMapCacheManager("coalesced", "plain");
+
+  private final CoalescingCacheManager cacheManager =
+      new CoalescingCacheManager(
+          delegate,
+          Map.of(
+              "coalesced",
+              RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(120))),
+          CoalescingCacheSettings.builder()
+              .lockTtl(Duration.ofSeconds(10))
+              .pollInterval(Duration.ofMillis(10))
+              .staleWindow(Duration.ofSeconds(60))
+              .earlyRefreshBeta(0)
+              .build(),
+          mock(StringRedisTemplate.class),
+          Runnable::run,
+          mock(TransactionTemplate.class),
+          new SimpleMeterRegistry());
+
+  @Test
+  void wrapsOnlyCachesWithACoalescingConfiguration() {
+    assertThat(cacheManager.getCache("coalesced")).isInstanceOf(CoalescingCache.class);
+    assertThat(cacheManager.getCache("plain")).isSameAs(delegate.getCache("plain"));
+  }
+
+  @Test
+  void returnsTheSameWrapperForRepeatedLookups() {
+    Cache cache = cacheManager.getCache("coalesced");
+
+    assertThat(cacheManager.getCache("coalesced")).isSameAs(cache);
+  }
+}
@@ -0,0 +1,222 @@
+package com.altester.core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class CoalescingCacheTest {
+
+  private final ConcurrentMapCache target = new ConcurrentMapCache("test", false);
+  private final RedisCacheConfiguration cacheConfiguration =
+      RedisCacheConfiguration.defaultCacheConfig();
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  private final ValueOperations<String, String> valueOperations = mock();
+  private final TransactionTemplate readOnlyTransaction = mock(TransactionTemplate.class);
+  private final ExecutorService callers = Executors.newFixedThreadPool(2);
+  private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+
+  @BeforeEach
+  void setUp() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    when(readOnlyTransaction.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+    refreshExecutor.shutdownNow();
+    SecurityContextHolder.clearContext();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void storesLoadedValueBeforeTheSurroundingTransactionCommits() {
+    CoalescingCache cache = cache(null);
+    TransactionSynchronizationManager.initSynchronization();
+
+    String value = cache.get("key", () -> "loaded");
+
+    assertThat(value).isEqualTo("loaded");
+    assertThat(target.get("key", String.class)).isEqualTo("loaded");
+  }
+
+  @Test
+  void loadsConcurrentMissesOnce() throws Exception {
+    CoalescingCache cache = cache(null);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<String> first =
+        callers.submit(
+            () ->
+                cache.get(
+                    "key",
+                    () -> {
+                      loads.incrementAndGet();
+                      loading.countDown();
+                      release.await();
+                      return "loaded";
+                    }));
+    assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+    AtomicReference<Thread> waiter = new AtomicReference<>();
+    Future<String> second =
+        callers.submit(
+            () -> {
+              waiter.set(Thread.currentThread());
+              return cache.get("key", () -> "loaded again" + loads.incrementAndGet());
+            });
+    awaitBlocked(waiter);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void failsWaitingCallersWhenTheLoaderThrowsAnError() throws Exception {
+    CoalescingCache cache = cache(null);
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<String> first =
+        callers.submit(
+            () ->
+                cache.get(
+                    "key",
+                    () -> {
+                      loading.countDown();
+                      release.await();
+                      throw new AssertionError("boom");
+                    }));
+    assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+    AtomicReference<Thread> waiter = new AtomicReference<>();
+    Future<String> second =
+        callers.submit(
+            () -> {
+              waiter.set(Thread.currentThread());
+              return cache.get("key", () -> "unused");
+            });
+    awaitBlocked(waiter);
+    release.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(AssertionError.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+        .hasRootCauseMessage("boom");
+    assertThat(cache.get("key", () -> "recovered")).isEqualTo("recovered");
+  }
+
+  @Test
+  void waitsForTheValueStoredByTheLockHolder() {
+    CoalescingCache cache = cache(null);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenAnswer(
+            invocation -> {
+              target.put("key", "from another node");
+              return false;
+            });
+
+    String value = cache.get("key", () -> "loaded here");
+
+    assertThat(value).isEqualTo("from another node");
+  }
+
+  @Test
+  void servesStaleEntryAndRefreshesItWithTheCallersSecurityContext() throws Exception {
+    CoalescingCache cache = cache(Duration.ofMinutes(5));
+    ByteBuffer stored = cacheConfiguration.getValueSerializationPair().write("stale");
+    byte[] bytes = new byte[stored.remaining()];
+    stored.get(bytes);
+    when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(bytes, 1_000L));
+    SecurityContextHolder.getContext()
+        .setAuthentication(new TestingAuthenticationToken("teacher", null));
+    AtomicReference<Authentication> refreshedAs = new AtomicReference<>();
+    CountDownLatch refreshed = new CountDownLatch(1);
+
+    String value =
+        cache.get(
+            "key",
+            () -> {
+              refreshedAs.set(SecurityContextHolder.getContext().getAuthentication());
+              refreshed.countDown();
+              return "fresh";
+            });
+
+    assertThat(value).isEqualTo("stale");
+    assertThat(refreshed.await(5, TimeUnit.SECONDS)).isTrue();
+    refreshExecutor.shutdown();
+    assertThat(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(refreshedAs.get().getName()).isEqualTo("teacher");
+    assertThat(target.get("key", String.class)).isEqualTo("fresh");
+  }
+
+  private CoalescingCache cache(Duration freshTtl) {
+    CoalescingCacheSettings settings =
+        CoalescingCacheSettings.builder()
+            .lockTtl(Duration.ofSeconds(10))
+            .pollInterval(Duration.ofMillis(10))
+            .staleWindow(Duration.ofSeconds(60))
+            .earlyRefreshBeta(0)
+            .build();
+    return new CoalescingCache(
+        new TransactionAwareCacheDecorator(target),
+        cacheConfiguration,
+        freshTtl,
+        settings,
+        redisTemplate,
+        refreshExecutor,
+        readOnlyTransaction,
+        new SimpleMeterRegistry());
+  }
+
+  /** Waits until the caller is parked on the in-flight load of the first caller. */
+  private static void awaitBlocked(AtomicReference<Thread> caller) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (caller.get() == null || caller.get().getState() != Thread.State.WAITING) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("Caller did not wait for the in-flight load");
+      }
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.altester.core.serviceImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.altester.core.config.SemesterConfig;
+import com.altester.core.model.auth.User;
+import com.altester.core.model.auth.enums.RolesEnum;
+import com.altester.core.model.subject.Group;
+import com.altester.core.model.subject.Question;
+import com.altester.core.model.subject.Subject;
+import com.altester.core.model.subject.Test;
+import com.altester.core.model.subject.enums.QuestionDifficulty;
+import com.altester.core.model.subject.enums.QuestionType;
+import com.altester.core.service.GroupService;
+import com.altester.core.service.StudentService;
+import com.altester.core.service.TeacherPageService;
+import com.altester.core.service.TestService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Guards the main read paths against N+1 queries. Each path is run against a fixture with one
+ * entity and one with several, and the number of prepared statements must not grow with the fixture
+ * size. Like {@link com.altester.core.CoreApplicationTests}, this needs the Postgres and Redis
+ * instances of the application configuration.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReadPathQueryCountTest {
+
+  private static final int SMALL = 1;
+  private static final int LARGE = 5;
+  private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private SemesterConfig semesterConfig;
+  @Autowired private StudentService studentService;
+  @Autowired private TeacherPageService teacherPageService;
+  @Autowired private GroupService groupService;
+  @Autowired private TestService testService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @org.junit.jupiter.api.Test
+  void studentDashboardDoesNotQueryPerGroupOrTest() {
+    User small = studentInGroups(SMALL);
+    User large = studentInGroups(LARGE);
+
+    assertThat(
+            countStatements(() -> studentService.getStudentDashboard(principal(large), null, null)))
+        .isEqualTo(
+            countStatements(
+                () -> studentService.getStudentDashboard(principal(small), null, null)));
+  }
+
+  @org.junit.jupiter.api.Test
+  void teacherPageDoesNotQueryPerGroup() {
+    User small = teacherWithGroups(SMALL);
+    User large = teacherWithGroups(LARGE);
+
+    assertThat(countStatements(() -> teacherPageService.getPage(principal(large))))
+        .isEqualTo(countStatements(() -> teacherPageService.getPage(principal(small))));
+  }
+
+  @org.junit.jupiter.api.Test
+  void adminGroupListDoesNotQueryPerGroup() {
+    String small = teacherWithGroups(SMALL).getUsername();
+    String large = teacherWithGroups(LARGE).getUsername();
+
+    assertThat(countStatements(() -> groupService.getAllGroups(0, 20, large, null, null, null)))
+        .isEqualTo(
+            countStatements(() -> groupService.getAllGroups(0, 20, small, null, null, null)));
+  }
+
+  @org.junit.jupiter.api.Test
+  void adminTestListDoesNotQueryPerTest() {
+    Principal admin = principal(user(RolesEnum.ADMIN));
+    String small = teacherWithGroups(SMALL).getUsername();
+    String large = teacherWithGroups(LARGE).getUsername();
+
+    assertThat(
+            countStatements(
+                () -> testService.getAllTestsForAdmin(PageRequest.of(0, 20), admin, large, null)))
+        .isEqualTo(
+            countStatements(
+                () -> testService.getAllTestsForAdmin(PageRequest.of(0, 20), admin, small, null)));
+  }
+
+  /**
+   * Runs the read with empty caches and a cleared persistence context, so every entity it needs is
+   * loaded from the database.
+   */
+  private long countStatements(Supplier<?> read) {
+    entityManager.flush();
+    entityManager.clear();
+    cacheManager.getCacheNames().stream()
+        .map(cacheManager::getCache)
+        .filter(Objects::nonNull)
+        .forEach(cache -> cache.clear());
+    statistics.clear();
+    read.get();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private User studentInGroups(int count) {
+    User student = user(RolesEnum.STUDENT);
+    User teacher = user(RolesEnum.TEACHER);
+    Subject subject = subject();
+    for (int i = 0; i < count; i++) {
+      Group group = group(teacher, Set.of(student), subject);
+      group.getTests().add(testWithQuestions(teacher.getUsername()));
+    }
+    return student;
+  }
+
+  /**
+   * Creates a teacher whose groups each have their own students and test. Test titles start with
+   * the teacher's username so that list filters can select exactly this fixture.
+   */
+  private User teacherWithGroups(int count) {
+    User teacher = user(RolesEnum.TEACHER);
+    Subject subject = subject();
+    for (int i = 0; i < count; i++) {
+      Set<User> students = Set.of(user(RolesEnum.STUDENT), user(RolesEnum.STUDENT));
+      Group group = group(teacher, students, subject);
+      group.getTests().add(testWithQuestions(teacher.getUsername()));
+    }
+    return teacher;
+  }
+
+  private User user(RolesEnum role) {
+    String username = String.format("q%06d", SEQUENCE.incrementAndGet());
+    User user =
+        User.builder()
+            .name("Query")
+            .surname("Count")
+            .username(username)
+            .email(username + "@query-count.test")
+            .role(role)
+            .enabled(true)
+            .build();
+    entityManager.persist(user);
+    return user;
+  }
+
+  private Subject subject() {
+    String shortName = String.format("Q%05d", SEQUENCE.incrementAndGet());
+    Subject subject =
+        Subject.builder()
+            .name("Subject " + shortName)
+            .shortName(shortName)
+            .groups(new HashSet<>())
+            .build();
+    entityManager.persist(subject);
+    return subject;
+  }
+
+  private Group group(User teacher, Set<User> students, Subject subject) {
+    Group group =
+        Group.builder()
+            .name(teacher.getUsername() + "-" + SEQUENCE.incrementAndGet())
+            .teacher(teacher)
+            .students(new HashSet<>(students))
+            .tests(new HashSet<>())
+            .semester(semesterConfig.getCurrentSemester())
+            .academicYear(semesterConfig.getCurrentAcademicYear())
+            .active(true)
+            .build();
+    entityManager.persist(group);
+    subject.getGroups().add(group);
+    return group;
+  }
+
+  private Test testWithQuestions(String titlePrefix) {
+    Test test =
+        Test.builder()
+            .title(titlePrefix + " test " + SEQUENCE.incrementAndGet())
+            .duration(30)
+            .isOpen(true)
+            .mediumQuestionsCount(2)
+            .questions(new HashSet<>())
+            .build();
+    entityManager.persist(test);
+    for (int i = 0; i < 2; i++) {
+      Question question =
+          Question.builder()
+              .questionText("Question " + i)
+              .score(5)
+              .questionType(QuestionType.TEXT_ONLY)
+              .difficulty(QuestionDifficulty.MEDIUM)
+              .test(test)
+              .build();
+      entityManager.persist(question);
+      test.getQuestions().add(question);
+    }
+    return test;
+  }
+
+  private static Principal principal(User user) {
+    return new UsernamePasswordAuthenticationToken(user.getUsername(), null);
+  }
+}
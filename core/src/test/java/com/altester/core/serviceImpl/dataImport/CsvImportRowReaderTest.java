@@ -0,0 +1,105 @@
+package com.altester.core.serviceImpl.dataImport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.altester.core.exception.FileOperationException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvImportRowReaderTest {
+
+  @Test
+  void readsRowsByNormalizedHeader() {
+    List<ImportRow> rows = readAll("Username,Academic Year\njdoe,2025\nasmith,2026\n");
+
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).get("username")).isEqualTo("jdoe");
+    assertThat(rows.get(0).get("academic_year")).isEqualTo("2025");
+    assertThat(rows.get(1).get("academicYear")).isEqualTo("2026");
+  }
+
+  @Test
+  void unquotesSeparatorsDoubledQuotesAndLineBreaks() {
+    List<ImportRow> rows =
+        readAll("title,description\n\"Exam, part 1\",\"Say \"\"hi\"\"\nthen leave\"\n");
+
+    assertThat(rows).hasSize(1);
+    assertThat(rows.getFirst().get("title")).isEqualTo("Exam, part 1");
+    assertThat(rows.getFirst().get("description")).isEqualTo("Say \"hi\"\nthen leave");
+  }
+
+  @Test
+  void acceptsCrLfAndBareCrLineEndings() {
+    List<ImportRow> rows = readAll("name\r\nfirst\r\nsecond\rthird");
+
+    assertThat(rows).extracting(row -> row.get("name")).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  void skipsEmptyLinesButKeepsPhysicalRowNumbers() {
+    List<ImportRow> rows = readAll("name\n\nfirst\n\n\nsecond\n");
+
+    assertThat(rows).extracting(ImportRow::getRowNumber).containsExactly(2L, 5L);
+    assertThat(rows).extracting(row -> row.get("name")).containsExactly("first", "second");
+  }
+
+  @Test
+  void countsLineBreaksInsideQuotedFields() {
+    List<ImportRow> rows = readAll("name,note\nfirst,\"two\r\nlines\"\r\nsecond,\n");
+
+    assertThat(rows).extracting(ImportRow::getRowNumber).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void resumesAfterBlankLinesAtTheNextUncommittedRow() {
+    String csv = "name\nfirst\n\n\nsecond\n\nthird\n";
+    long committed = readAll(csv).get(1).getRowNumber();
+
+    List<ImportRow> resumed =
+        readAll(csv).stream().filter(row -> row.getRowNumber() > committed).toList();
+
+    assertThat(resumed).extracting(row -> row.get("name")).containsExactly("third");
+  }
+
+  @Test
+  void treatsMissingTrailingFieldsAsBlank() {
+    List<ImportRow> rows = readAll("name,surname,email\njohn,doe\n");
+
+    assertThat(rows.getFirst().get("surname")).isEqualTo("doe");
+    assertThat(rows.getFirst().get("email")).isNull();
+  }
+
+  @Test
+  void rejectsRowsWithMoreFieldsThanTheHeader() {
+    CsvImportRowReader reader = new CsvImportRowReader(new StringReader("name\njohn,doe\n"));
+
+    assertThatThrownBy(reader::next)
+        .isInstanceOf(FileOperationException.class)
+        .hasMessageContaining("Row 1");
+  }
+
+  @Test
+  void rejectsUnterminatedQuotedFields() {
+    assertThatThrownBy(() -> readAll("name\n\"john\n"))
+        .isInstanceOf(FileOperationException.class)
+        .hasMessageContaining("Unterminated");
+  }
+
+  @Test
+  void rejectsEmptyFiles() {
+    assertThatThrownBy(() -> new CsvImportRowReader(new StringReader("")))
+        .isInstanceOf(FileOperationException.class);
+  }
+
+  private List<ImportRow> readAll(String csv) {
+    CsvImportRowReader reader = new CsvImportRowReader(new StringReader(csv));
+    List<ImportRow> rows = new ArrayList<>();
+    while (reader.hasNext()) {
+      rows.add(reader.next());
+    }
+    return rows;
+  }
+}
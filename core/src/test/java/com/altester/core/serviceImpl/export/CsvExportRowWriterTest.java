@@ -0,0 +1,78 @@
+package com.altester.core.serviceImpl.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvExportRowWriterTest {
+
+  @Test
+  void writesHeaderAndRowsWithCrLf() throws IOException {
+    String csv = write(List.of("id", "name"), new Object[] {1L, "Algebra"});
+
+    assertThat(csv).isEqualTo("id,name\r\n1,Algebra\r\n");
+  }
+
+  @Test
+  void writesNullsAsEmptyFields() throws IOException {
+    String csv = write(List.of("a", "b", "c"), new Object[] {null, "x", null});
+
+    assertThat(csv).endsWith("\r\n,x,\r\n");
+  }
+
+  @Test
+  void quotesSeparatorsQuotesAndLineBreaks() throws IOException {
+    String csv =
+        write(
+            List.of("value"),
+            new Object[] {"a,b"},
+            new Object[] {"say \"hi\""},
+            new Object[] {"two\nlines"});
+
+    assertThat(csv).isEqualTo("value\r\n\"a,b\"\r\n\"say \"\"hi\"\"\"\r\n\"two\nlines\"\r\n");
+  }
+
+  @Test
+  void prefixesTextThatStartsLikeAFormula() throws IOException {
+    String csv =
+        write(
+            List.of("value"),
+            new Object[] {"=SUM(A1:A2)"},
+            new Object[] {"+1"},
+            new Object[] {"-1"},
+            new Object[] {"@cmd"},
+            new Object[] {"\tx"},
+            new Object[] {"\rx"});
+
+    assertThat(csv)
+        .isEqualTo("value\r\n'=SUM(A1:A2)\r\n'+1\r\n'-1\r\n'@cmd\r\n'\tx\r\n\"'\rx\"\r\n");
+  }
+
+  @Test
+  void leavesNegativeNumbersUntouched() throws IOException {
+    String csv = write(List.of("score"), new Object[] {-5}, new Object[] {-2.5d});
+
+    assertThat(csv).isEqualTo("score\r\n-5\r\n-2.5\r\n");
+  }
+
+  @Test
+  void leavesFormulaCharactersInsideTextUntouched() throws IOException {
+    String csv = write(List.of("email"), new Object[] {"jdoe@example.com"});
+
+    assertThat(csv).isEqualTo("email\r\njdoe@example.com\r\n");
+  }
+
+  private static String write(List<String> columns, Object[]... rows) throws IOException {
+    StringWriter out = new StringWriter();
+    try (CsvExportRowWriter writer = new CsvExportRowWriter(out)) {
+      writer.writeHeader(columns);
+      for (Object[] row : rows) {
+        writer.writeRow(row);
+      }
+    }
+    return out.toString();
+  }
+}
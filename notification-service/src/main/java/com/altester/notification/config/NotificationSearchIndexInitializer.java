@@ -0,0 +1,34 @@
+package com.altester.notification.config;
+
+import com.altester.notification.util.SearchQueryUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the GIN index backing notification full-text search. Hibernate cannot express expression
+ * indexes, so it is created here once the schema is in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSearchIndexInitializer {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void createSearchIndex() {
+    try {
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_notifications_search ON notifications USING GIN ("
+              + SearchQueryUtils.SEARCH_VECTOR
+              + ")");
+      log.info("Notification search index is in place");
+    } catch (Exception e) {
+      log.error("Failed to create notification search index: {}", e.getMessage(), e);
+    }
+  }
+}
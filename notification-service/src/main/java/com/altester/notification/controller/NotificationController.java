@@ -1,6 +1,7 @@
 package com.altester.notification.controller;
 
 import com.altester.notification.dto.NotificationDTO;
+import com.altester.notification.dto.NotificationSearchResponse;
 import com.altester.notification.service.NotificationService;
 import java.security.Principal;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,22 @@ public class NotificationController {
     return ResponseEntity.ok(notifications);
   }
 
+  @GetMapping("/search")
+  public ResponseEntity<NotificationSearchResponse> searchNotifications(
+      Principal principal,
+      @RequestParam String search,
+      @RequestParam(required = false) Boolean read,
+      @RequestParam(required = false) Float afterRank,
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(defaultValue = "10") int size) {
+
+    NotificationSearchResponse response =
+        notificationService.searchRanked(
+            principal.getName(), search, read, afterRank, afterId, size);
+
+    return ResponseEntity.ok(response);
+  }
+
   @PutMapping("/{notificationId}/read")
   public ResponseEntity<NotificationDTO> markAsRead(@PathVariable Long notificationId) {
     return ResponseEntity.ok(notificationService.markAsRead(notificationId));
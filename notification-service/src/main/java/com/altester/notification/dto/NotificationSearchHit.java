@@ -0,0 +1,26 @@
+package com.altester.notification.dto;
+
+import java.time.LocalDateTime;
+
+/** Projection of a full-text search hit together with its relevance rank. */
+public interface NotificationSearchHit {
+  Long getId();
+
+  String getUsername();
+
+  String getTitle();
+
+  String getMessage();
+
+  Boolean getRead();
+
+  String getType();
+
+  String getActionUrl();
+
+  Long getReferenceId();
+
+  LocalDateTime getCreatedAt();
+
+  Float getRank();
+}
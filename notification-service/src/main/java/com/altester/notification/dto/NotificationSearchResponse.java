@@ -0,0 +1,18 @@
+package com.altester.notification.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSearchResponse {
+  private List<NotificationDTO> notifications;
+  private boolean hasMore;
+  private Float nextRank;
+  private Long nextId;
+}
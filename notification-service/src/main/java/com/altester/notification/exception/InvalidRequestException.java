@@ -0,0 +1,10 @@
+package com.altester.notification.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidRequestException extends BaseException {
+
+  public InvalidRequestException(String message) {
+    super(message, HttpStatus.BAD_REQUEST, "INVALID_REQUEST");
+  }
+}
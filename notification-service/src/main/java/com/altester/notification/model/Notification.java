@@ -5,7 +5,13 @@ import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = {
+      @Index(
+          name = "idx_notifications_username_read_created",
+          columnList = "username, read, created_at")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
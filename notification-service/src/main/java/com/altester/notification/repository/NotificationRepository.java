@@ -1,5 +1,8 @@
 package com.altester.notification.repository;
 
+import static com.altester.notification.util.SearchQueryUtils.SEARCH_VECTOR;
+
+import com.altester.notification.dto.NotificationSearchHit;
 import com.altester.notification.model.Notification;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,12 +13,21 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
   @Modifying
-  int deleteByReadTrueAndCreatedAtBefore(LocalDateTime date);
+  @Transactional
+  @Query(
+      value =
+          "DELETE FROM notifications WHERE id IN "
+              + "(SELECT id FROM notifications WHERE read = true AND created_at < :before "
+              + "LIMIT :batchSize)",
+      nativeQuery = true)
+  int deleteReadBatchCreatedBefore(
+      @Param("before") LocalDateTime before, @Param("batchSize") int batchSize);
 
   @Query(
       "SELECT n FROM Notification n WHERE n.username = :username AND n.read = false ORDER BY n.createdAt DESC")
@@ -37,23 +49,63 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
   Page<Notification> findByUsername(@Param("username") String username, Pageable pageable);
 
   @Query(
-      "SELECT n FROM Notification n WHERE n.username = :username "
-          + "AND (n.read = :read) "
-          + "AND (LOWER(n.title) LIKE LOWER(CONCAT('%', :search, '%')) "
-          + "OR LOWER(n.message) LIKE LOWER(CONCAT('%', :search, '%'))) "
-          + "ORDER BY n.createdAt DESC")
+      value =
+          "SELECT * FROM notifications WHERE username = :username AND read = :read "
+              + "AND "
+              + SEARCH_VECTOR
+              + " @@ to_tsquery('simple', :query) ORDER BY created_at DESC, id DESC",
+      countQuery =
+          "SELECT COUNT(*) FROM notifications WHERE username = :username AND read = :read "
+              + "AND "
+              + SEARCH_VECTOR
+              + " @@ to_tsquery('simple', :query)",
+      nativeQuery = true)
   Page<Notification> findByUsernameAndReadAndSearchTerm(
       @Param("username") String username,
       @Param("read") boolean read,
-      @Param("search") String search,
+      @Param("query") String query,
       Pageable pageable);
 
   @Query(
-      "SELECT n FROM Notification n WHERE n.username = :username "
-          + "AND (LOWER(n.title) "
-          + "LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(n.message) "
-          + "LIKE LOWER(CONCAT('%', :search, '%'))) "
-          + "ORDER BY n.createdAt DESC")
+      value =
+          "SELECT * FROM notifications WHERE username = :username AND "
+              + SEARCH_VECTOR
+              + " @@ to_tsquery('simple', :query) ORDER BY created_at DESC, id DESC",
+      countQuery =
+          "SELECT COUNT(*) FROM notifications WHERE username = :username AND "
+              + SEARCH_VECTOR
+              + " @@ to_tsquery('simple', :query)",
+      nativeQuery = true)
   Page<Notification> findByUsernameAndSearchTerm(
-      @Param("username") String username, @Param("search") String search, Pageable pageable);
+      @Param("username") String username, @Param("query") String query, Pageable pageable);
+
+  /**
+   * Ranked full-text search with keyset pagination on (rank, id). The cursor is the rank and id of
+   * the last hit of the previous page; both are null for the first page.
+   */
+  @Query(
+      value =
+          "SELECT * FROM (SELECT id AS \"id\", username AS \"username\", title AS \"title\", "
+              + "message AS \"message\", read AS \"read\", type AS \"type\", "
+              + "action_url AS \"actionUrl\", reference_id AS \"referenceId\", "
+              + "created_at AS \"createdAt\", ts_rank("
+              + SEARCH_VECTOR
+              + ", to_tsquery('simple', :query)) AS \"rank\" "
+              + "FROM notifications WHERE username = :username "
+              + "AND (CAST(:read AS boolean) IS NULL OR read = CAST(:read AS boolean)) "
+              + "AND "
+              + SEARCH_VECTOR
+              + " @@ to_tsquery('simple', :query)) hits "
+              + "WHERE CAST(:afterRank AS real) IS NULL "
+              + "OR hits.\"rank\" < CAST(:afterRank AS real) "
+              + "OR (hits.\"rank\" = CAST(:afterRank AS real) AND hits.\"id\" < :afterId) "
+              + "ORDER BY hits.\"rank\" DESC, hits.\"id\" DESC LIMIT :limit",
+      nativeQuery = true)
+  List<NotificationSearchHit> searchRanked(
+      @Param("username") String username,
+      @Param("query") String query,
+      @Param("read") Boolean read,
+      @Param("afterRank") Float afterRank,
+      @Param("afterId") Long afterId,
+      @Param("limit") int limit);
 }
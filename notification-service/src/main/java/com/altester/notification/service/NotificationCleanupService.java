@@ -5,9 +5,9 @@ import com.altester.notification.repository.NotificationRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -16,17 +16,50 @@ public class NotificationCleanupService {
 
   private final NotificationRepository notificationRepository;
 
+  @Value("${notification.cleanup.retention-weeks:2}")
+  private int retentionWeeks;
+
+  @Value("${notification.cleanup.batch-size:5000}")
+  private int batchSize;
+
+  @Value("${notification.cleanup.batch-pause-ms:200}")
+  private long batchPauseMillis;
+
+  /**
+   * Removes read notifications older than the retention period in small batches, each in its own
+   * transaction, with a pause in between so the cleanup never holds long locks.
+   */
   @Scheduled(cron = "0 0 3 * * ?")
-  @Transactional
   public void cleanupOldNotifications() {
     try {
-      LocalDateTime twoWeeksAgo = LocalDateTime.now().minusWeeks(2);
-      log.info("Initializing notifications cleanup for notifications older than {}", twoWeeksAgo);
-      int deletedCount = notificationRepository.deleteByReadTrueAndCreatedAtBefore(twoWeeksAgo);
+      LocalDateTime cutoff = LocalDateTime.now().minusWeeks(retentionWeeks);
+      log.info("Initializing notifications cleanup for notifications older than {}", cutoff);
+
+      long deletedCount = deleteInBatches(cutoff);
       log.info("Deleted {} old notifications", deletedCount);
     } catch (Exception e) {
       log.error("Error during notification cleanup: {}", e.getMessage(), e);
       throw new InternalServerException("Failed to cleanup old notifications", e);
     }
   }
+
+  private long deleteInBatches(LocalDateTime cutoff) {
+    long deletedCount = 0;
+    int deleted;
+    do {
+      deleted = notificationRepository.deleteReadBatchCreatedBefore(cutoff, batchSize);
+      deletedCount += deleted;
+
+      if (deleted == batchSize && batchPauseMillis > 0) {
+        try {
+          Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          log.warn("Notification cleanup interrupted after deleting {} rows", deletedCount);
+          break;
+        }
+      }
+    } while (deleted == batchSize);
+    return deletedCount;
+  }
 }
@@ -2,6 +2,7 @@ package com.altester.notification.service;
 
 import com.altester.notification.dto.NotificationDTO;
 import com.altester.notification.dto.NotificationRequest;
+import com.altester.notification.dto.NotificationSearchResponse;
 import com.altester.notification.exception.ResourceNotFoundException;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -53,7 +54,8 @@ public interface NotificationService {
    * Searches for notifications with optional filtering by read status and search term.
    *
    * @param username The username of the user whose notifications are being searched
-   * @param search The optional search term to filter notifications by title or message
+   * @param search The optional search term; every word is prefix-matched against the full-text
+   *     index over title and message, so "rep" finds "report" but "port" does not
    * @param read The optional read status to filter notifications
    * @param page The page number for pagination
    * @param size The page size for pagination
@@ -61,4 +63,21 @@ public interface NotificationService {
    */
   Page<NotificationDTO> searchNotifications(
       String username, String search, Boolean read, int page, int size);
+
+  /**
+   * Performs a relevance-ranked full-text search over a user's notifications using keyset
+   * pagination. Pass the cursor returned with the previous page to fetch the next one. Words match
+   * from their start only: "rep" finds "report", but "port" does not.
+   *
+   * @param username The username of the user whose notifications are being searched
+   * @param search The search term; every word is prefix-matched
+   * @param read The optional read status to filter notifications
+   * @param afterRank Rank of the last hit of the previous page, or null for the first page
+   * @param afterId ID of the last hit of the previous page, or null for the first page
+   * @param size The maximum number of hits to return, at least 1; larger values than 100 are
+   *     lowered to 100
+   * @return The ranked hits together with the cursor for the next page
+   */
+  NotificationSearchResponse searchRanked(
+      String username, String search, Boolean read, Float afterRank, Long afterId, int size);
 }
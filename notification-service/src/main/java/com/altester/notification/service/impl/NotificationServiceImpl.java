@@ -2,11 +2,15 @@ package com.altester.notification.service.impl;
 
 import com.altester.notification.dto.NotificationDTO;
 import com.altester.notification.dto.NotificationRequest;
+import com.altester.notification.dto.NotificationSearchHit;
+import com.altester.notification.dto.NotificationSearchResponse;
+import com.altester.notification.exception.InvalidRequestException;
 import com.altester.notification.exception.ResourceNotFoundException;
 import com.altester.notification.model.Notification;
 import com.altester.notification.repository.NotificationRepository;
 import com.altester.notification.service.NotificationService;
 import com.altester.notification.service.WebSocketService;
+import com.altester.notification.util.SearchQueryUtils;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +28,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class NotificationServiceImpl implements NotificationService {
 
+  private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
   private final NotificationRepository notificationRepository;
   private final WebSocketService webSocketService;
 
@@ -108,20 +114,23 @@ public class NotificationServiceImpl implements NotificationService {
   @Override
   public Page<NotificationDTO> searchNotifications(
       String username, String search, Boolean read, int page, int size) {
-    PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    String query = SearchQueryUtils.toPrefixTsQuery(search);
 
     Page<Notification> notificationsPage;
 
-    if (search != null && !search.isBlank()) {
+    if (query != null) {
+      PageRequest pageRequest = PageRequest.of(page, size);
       if (read != null) {
         notificationsPage =
             notificationRepository.findByUsernameAndReadAndSearchTerm(
-                username, read, search, pageRequest);
+                username, read, query, pageRequest);
       } else {
         notificationsPage =
-            notificationRepository.findByUsernameAndSearchTerm(username, search, pageRequest);
+            notificationRepository.findByUsernameAndSearchTerm(username, query, pageRequest);
       }
     } else {
+      PageRequest pageRequest =
+          PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
       if (read != null) {
         notificationsPage =
             notificationRepository.findByUsernameAndRead(username, read, pageRequest);
@@ -133,6 +142,47 @@ public class NotificationServiceImpl implements NotificationService {
     return notificationsPage.map(this::mapToDTO);
   }
 
+  @Override
+  public NotificationSearchResponse searchRanked(
+      String username, String search, Boolean read, Float afterRank, Long afterId, int size) {
+    if (size < 1) {
+      throw new InvalidRequestException("Page size must be at least 1");
+    }
+    size = Math.min(size, MAX_SEARCH_PAGE_SIZE);
+    String query = SearchQueryUtils.toPrefixTsQuery(search);
+    if (query == null) {
+      return NotificationSearchResponse.builder().notifications(List.of()).hasMore(false).build();
+    }
+
+    List<NotificationSearchHit> hits =
+        notificationRepository.searchRanked(username, query, read, afterRank, afterId, size + 1);
+
+    boolean hasMore = hits.size() > size;
+    List<NotificationSearchHit> pageHits = hasMore ? hits.subList(0, size) : hits;
+    NotificationSearchHit last = pageHits.isEmpty() ? null : pageHits.getLast();
+
+    return NotificationSearchResponse.builder()
+        .notifications(pageHits.stream().map(this::mapToDTO).collect(Collectors.toList()))
+        .hasMore(hasMore)
+        .nextRank(hasMore ? last.getRank() : null)
+        .nextId(hasMore ? last.getId() : null)
+        .build();
+  }
+
+  private NotificationDTO mapToDTO(NotificationSearchHit hit) {
+    return NotificationDTO.builder()
+        .id(hit.getId())
+        .username(hit.getUsername())
+        .title(hit.getTitle())
+        .message(hit.getMessage())
+        .read(Boolean.TRUE.equals(hit.getRead()))
+        .type(hit.getType())
+        .actionUrl(hit.getActionUrl())
+        .referenceId(hit.getReferenceId())
+        .createdAt(hit.getCreatedAt())
+        .build();
+  }
+
   private NotificationDTO mapToDTO(Notification notification) {
     return NotificationDTO.builder()
         .id(notification.getId())
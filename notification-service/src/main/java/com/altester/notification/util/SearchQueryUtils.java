@@ -0,0 +1,36 @@
+package com.altester.notification.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class SearchQueryUtils {
+
+  /** Text search expression shared by the GIN index and the search queries. */
+  public static final String SEARCH_VECTOR =
+      "to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(message, ''))";
+
+  private SearchQueryUtils() {}
+
+  /**
+   * Converts free user input into a prefix-matching tsquery, so that "exam res" matches "Exam
+   * results". Every word becomes a prefix term and all terms must match. Unlike the former LIKE
+   * search, a word is not found in the middle of another one: "port" does not match "report".
+   *
+   * @param search Raw search input
+   * @return tsquery text, or null when the input contains no searchable words
+   */
+  public static String toPrefixTsQuery(String search) {
+    if (search == null || search.isBlank()) {
+      return null;
+    }
+
+    String query =
+        Arrays.stream(search.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .map(word -> word.toLowerCase(Locale.ROOT) + ":*")
+            .collect(Collectors.joining(" & "));
+
+    return query.isEmpty() ? null : query;
+  }
+}
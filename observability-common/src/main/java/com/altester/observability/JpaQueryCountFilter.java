@@ -0,0 +1,44 @@
+package com.altester.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of JPA statements each request executes, tagged like {@code
+ * http.server.requests}. Registered first so the queries of the security filters are included.
+ */
+@RequiredArgsConstructor
+public class JpaQueryCountFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    JpaQueryCounter.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int queries = JpaQueryCounter.stop();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      DistributionSummary.builder("http.server.requests.queries")
+          .description("JPA statements executed per request")
+          .tag("method", request.getMethod())
+          .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+          .register(meterRegistry)
+          .record(queries);
+    }
+  }
+}
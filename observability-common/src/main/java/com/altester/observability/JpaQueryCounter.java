@@ -0,0 +1,32 @@
+package com.altester.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while {@link
+ * JpaQueryCountFilter} measures a request. Registered as the Hibernate statement inspector by
+ * {@link ObservabilityAutoConfiguration}.
+ */
+public class JpaQueryCounter implements StatementInspector {
+
+  private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+  static void start() {
+    COUNT.set(new int[1]);
+  }
+
+  static int stop() {
+    int[] count = COUNT.get();
+    COUNT.remove();
+    return count == null ? 0 : count[0];
+  }
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = COUNT.get();
+    if (count != null) {
+      count[0]++;
+    }
+    return sql;
+  }
+}
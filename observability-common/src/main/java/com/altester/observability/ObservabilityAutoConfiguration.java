@@ -0,0 +1,71 @@
+package com.altester.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Observability setup shared by all services: per-request JPA statement counts and, when the
+ * actuator runs on its own port, open access to that port. The management port is meant to be
+ * reachable only from inside the deployment network; the public port serves no actuator endpoints.
+ */
+@AutoConfiguration
+public class ObservabilityAutoConfiguration {
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(StatementInspector.class)
+  static class JpaQueryCountConfiguration {
+
+    @Bean
+    HibernatePropertiesCustomizer jpaQueryCounterCustomizer() {
+      return properties ->
+          properties.put(AvailableSettings.STATEMENT_INSPECTOR, new JpaQueryCounter());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    FilterRegistrationBean<JpaQueryCountFilter> jpaQueryCountFilter(MeterRegistry meterRegistry) {
+      FilterRegistrationBean<JpaQueryCountFilter> registration =
+          new FilterRegistrationBean<>(new JpaQueryCountFilter(meterRegistry));
+      registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+      return registration;
+    }
+  }
+
+  /**
+   * The security filter chain of the application also guards the management port. This chain takes
+   * precedence there and lets the scraper and container health checks in without a token.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(SecurityFilterChain.class)
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+  static class ManagementPortSecurityConfiguration {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    SecurityFilterChain managementPortSecurityFilterChain(
+        HttpSecurity http, @Value("${management.server.port}") int managementPort)
+        throws Exception {
+      return http.securityMatcher(request -> request.getLocalPort() == managementPort)
+          .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+          .csrf(AbstractHttpConfigurer::disable)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.altester.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the current observation into tasks run on an executor, so spans, trace IDs in the logs
+ * and outgoing trace headers continue the request that submitted the task.
+ */
+@RequiredArgsConstructor
+public class ObservationTaskDecorator implements TaskDecorator {
+
+  private final ObservationRegistry observationRegistry;
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    Observation observation = observationRegistry.getCurrentObservation();
+    if (observation == null) {
+      return runnable;
+    }
+    return () -> {
+      try (Observation.Scope scope = observation.openScope()) {
+        runnable.run();
+      }
+    };
+  }
+}